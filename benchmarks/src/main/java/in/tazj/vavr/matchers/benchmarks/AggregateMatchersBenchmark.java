@@ -0,0 +1,94 @@
+package in.tazj.vavr.matchers.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import in.tazj.vavr.matchers.CollectionMatchers;
+import in.tazj.vavr.matchers.ControlMatchers;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Benchmarks the aggregate matchers in {@link ControlMatchers} against filtering and counting the
+ * collection before matching, on vectors of 5·10⁵ {@link Try}s and {@link Either}s of which one
+ * in a thousand is a failure or a {@link Either.Left}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AggregateMatchersBenchmark {
+  private static final int SIZE = 500_000;
+
+  private Vector<Try<Integer>> tries;
+  private Matcher<Vector<Try<Integer>>> failureRatioAtMost;
+  private Matcher<Vector<Try<Integer>>> failureRatioExceeded;
+  private Matcher<Integer> failuresAtMost;
+  private Matcher<Integer> failuresExceeded;
+
+  private Vector<Either<String, Integer>> eithers;
+  private Matcher<Vector<Either<String, Integer>>> rightsAllMatch;
+  private Matcher<Vector<Integer>> allMatch;
+
+  @Setup
+  public void setup() {
+    final IllegalStateException boom = new IllegalStateException("boom");
+    tries = Vector.range(0, SIZE).map(i -> i % 1000 == 0 ? Try.failure(boom) : Try.success(i));
+    failureRatioAtMost = ControlMatchers.failureRatioAtMost(0.001);
+    failureRatioExceeded = ControlMatchers.failureRatioAtMost(0.0001);
+    failuresAtMost = lessThanOrEqualTo(SIZE / 1000);
+    failuresExceeded = lessThanOrEqualTo(SIZE / 10000);
+
+    eithers = Vector.range(0, SIZE)
+        .map(i -> i % 1000 == 0 ? Either.left("timeout") : Either.right(i));
+    rightsAllMatch = ControlMatchers.rightsAllMatch(lessThan(SIZE));
+    allMatch = CollectionMatchers.allMatch(lessThan(SIZE));
+  }
+
+  @Benchmark
+  public boolean failureRatioAtMostMatch() {
+    return failureRatioAtMost.matches(tries);
+  }
+
+  @Benchmark
+  public boolean filterCountMatch() {
+    return failuresAtMost.matches(tries.count(Try::isFailure));
+  }
+
+  @Benchmark
+  public boolean failureRatioAtMostExceeded() {
+    return failureRatioExceeded.matches(tries);
+  }
+
+  @Benchmark
+  public boolean filterCountExceeded() {
+    return failuresExceeded.matches(tries.count(Try::isFailure));
+  }
+
+  @Benchmark
+  public boolean rightsAllMatchMatch() {
+    return rightsAllMatch.matches(eithers);
+  }
+
+  @Benchmark
+  public boolean filterAllMatchMatch() {
+    return allMatch.matches(eithers.filter(Either::isRight).map(Either::get));
+  }
+}
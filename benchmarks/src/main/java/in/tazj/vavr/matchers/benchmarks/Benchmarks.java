@@ -0,0 +1,30 @@
+package in.tazj.vavr.matchers.benchmarks;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Helpers shared by the benchmark classes.
+ */
+final class Benchmarks {
+  private Benchmarks() {
+  }
+
+  /**
+   * Runs a matcher the way Hamcrest's {@code assertThat} does on failure: the value is matched
+   * first and, if it does not match, the expectation and mismatch are rendered.
+   *
+   * @return The rendered failure message, or the empty string if the value matched.
+   */
+  static <T> String describeFailure(Matcher<? super T> matcher, T actual) {
+    if (matcher.matches(actual)) {
+      return "";
+    }
+
+    final Description description = new StringDescription();
+    description.appendText("Expected: ").appendDescriptionOf(matcher).appendText("\n     but: ");
+    matcher.describeMismatch(actual, description);
+    return description.toString();
+  }
+}
@@ -0,0 +1,76 @@
+package in.tazj.vavr.matchers.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import in.tazj.vavr.matchers.BitSetMatchers;
+import in.tazj.vavr.matchers.CharSeqMatchers;
+import in.tazj.vavr.matchers.CollectionMatchers;
+import io.vavr.collection.BitSet;
+import io.vavr.collection.CharSeq;
+
+/**
+ * Benchmarks the {@link CharSeqMatchers} and {@link BitSetMatchers} against the generic
+ * {@link CollectionMatchers} on a {@link CharSeq} of 10⁶ characters and a {@link BitSet} of 10⁶
+ * bits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharSeqAndBitSetBenchmark {
+  private static final int SIZE = 1_000_000;
+
+  private CharSeq chars;
+  private Matcher<CharSeq> charSeqStartsWith;
+  private Matcher<CharSeq> collectionStartsWith;
+
+  private BitSet<Integer> bits;
+  private Matcher<BitSet<Integer>> rangeIsSet;
+  private Matcher<BitSet<Integer>> containsInAnyOrder;
+
+  @Setup
+  public void setup() {
+    chars = CharSeq.repeat('a', SIZE);
+    final CharSeq prefix = chars.dropRight(1);
+    charSeqStartsWith = CharSeqMatchers.startsWith(prefix);
+    collectionStartsWith = CollectionMatchers.startsWith(prefix);
+
+    bits = BitSet.range(0, SIZE);
+    rangeIsSet = BitSetMatchers.rangeIsSet(0, SIZE);
+    containsInAnyOrder = CollectionMatchers.containsInAnyOrder(BitSet.range(0, SIZE));
+  }
+
+  @Benchmark
+  public boolean charSeqStartsWithMatch() {
+    return charSeqStartsWith.matches(chars);
+  }
+
+  @Benchmark
+  public boolean collectionStartsWithMatch() {
+    return collectionStartsWith.matches(chars);
+  }
+
+  @Benchmark
+  public boolean rangeIsSetMatch() {
+    return rangeIsSet.matches(bits);
+  }
+
+  @Benchmark
+  public boolean containsInAnyOrderMatch() {
+    return containsInAnyOrder.matches(bits);
+  }
+}
@@ -0,0 +1,61 @@
+package in.tazj.vavr.matchers.benchmarks;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Traversable;
+import io.vavr.collection.Vector;
+
+/**
+ * The Vavr collection types the collection benchmarks are parameterised over.
+ */
+public enum CollectionKind {
+  LIST {
+    @Override
+    public Traversable<Integer> of(Iterable<Integer> elements) {
+      return List.ofAll(elements);
+    }
+  },
+  VECTOR {
+    @Override
+    public Traversable<Integer> of(Iterable<Integer> elements) {
+      return Vector.ofAll(elements);
+    }
+  },
+  ARRAY {
+    @Override
+    public Traversable<Integer> of(Iterable<Integer> elements) {
+      return Array.ofAll(elements);
+    }
+  },
+  HASH_SET {
+    @Override
+    public Traversable<Integer> of(Iterable<Integer> elements) {
+      return HashSet.ofAll(elements);
+    }
+  },
+  STREAM {
+    @Override
+    public Traversable<Integer> of(Iterable<Integer> elements) {
+      // Force the stream once so that every benchmark iteration measures the matcher rather
+      // than the evaluation of the (memoized) stream cells.
+      final Stream<Integer> stream = Stream.ofAll(elements);
+      stream.length();
+      return stream;
+    }
+  };
+
+  /**
+   * Creates a collection of this kind containing the given elements.
+   */
+  public abstract Traversable<Integer> of(Iterable<Integer> elements);
+
+  /**
+   * Creates a collection of this kind containing the integers {@code [0, size)}.
+   */
+  public Traversable<Integer> range(int size) {
+    return of(Iterator.range(0, size).toJavaList());
+  }
+}
@@ -0,0 +1,114 @@
+package in.tazj.vavr.matchers.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import io.vavr.collection.Traversable;
+
+import static in.tazj.vavr.matchers.CollectionMatchers.allMatch;
+import static in.tazj.vavr.matchers.CollectionMatchers.allMatchInParallel;
+import static in.tazj.vavr.matchers.CollectionMatchers.containsAny;
+import static in.tazj.vavr.matchers.CollectionMatchers.containsAnyInParallel;
+import static in.tazj.vavr.matchers.CollectionMatchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Benchmarks the linear matchers in {@link in.tazj.vavr.matchers.CollectionMatchers} for both
+ * the matching and the mismatch-description path.
+ *
+ * Every mismatch benchmark first establishes that the matcher does not match (as Hamcrest's
+ * {@code assertThat} does) and then renders the mismatch description.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionMatchersBenchmark {
+  @Param({"0", "1000", "1000000"})
+  public int size;
+
+  @Param({"LIST", "VECTOR", "ARRAY", "HASH_SET", "STREAM"})
+  public CollectionKind kind;
+
+  private Traversable<Integer> collection;
+
+  private Matcher<Traversable<Integer>> containsAnyHit;
+  private Matcher<Traversable<Integer>> containsAnyMiss;
+  private Matcher<Traversable<Integer>> allMatchHit;
+  private Matcher<Traversable<Integer>> allMatchMiss;
+  private Matcher<Traversable<Integer>> containsAnyInParallelHit;
+  private Matcher<Traversable<Integer>> allMatchInParallelHit;
+  private Matcher<Traversable<Integer>> hasSizeHit;
+  private Matcher<Traversable<Integer>> hasSizeMiss;
+
+  @Setup
+  public void setup() {
+    collection = kind.range(size);
+
+    // The "hit" matchers are chosen so that the whole collection has to be visited in the
+    // worst case, the "miss" matchers fail on exactly one element (or none, for containsAny).
+    containsAnyHit = containsAny(is(size - 1));
+    containsAnyMiss = containsAny(is(-1));
+    allMatchHit = allMatch(lessThan(size));
+    allMatchMiss = allMatch(lessThan(size - 1));
+    containsAnyInParallelHit = containsAnyInParallel(is(size - 1));
+    allMatchInParallelHit = allMatchInParallel(lessThan(size));
+    hasSizeHit = hasSize(size);
+    hasSizeMiss = hasSize(size + 1);
+  }
+
+  @Benchmark
+  public boolean containsAnyMatch() {
+    return containsAnyHit.matches(collection);
+  }
+
+  @Benchmark
+  public String containsAnyMismatch() {
+    return Benchmarks.describeFailure(containsAnyMiss, collection);
+  }
+
+  @Benchmark
+  public boolean allMatchMatch() {
+    return allMatchHit.matches(collection);
+  }
+
+  @Benchmark
+  public String allMatchMismatch() {
+    return Benchmarks.describeFailure(allMatchMiss, collection);
+  }
+
+  @Benchmark
+  public boolean containsAnyInParallelMatch() {
+    return containsAnyInParallelHit.matches(collection);
+  }
+
+  @Benchmark
+  public boolean allMatchInParallelMatch() {
+    return allMatchInParallelHit.matches(collection);
+  }
+
+  @Benchmark
+  public boolean hasSizeMatch() {
+    return hasSizeHit.matches(collection);
+  }
+
+  @Benchmark
+  public String hasSizeMismatch() {
+    return Benchmarks.describeFailure(hasSizeMiss, collection);
+  }
+}
@@ -0,0 +1,82 @@
+package in.tazj.vavr.matchers.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import in.tazj.vavr.matchers.MatcherPredicates;
+import io.vavr.collection.List;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import static in.tazj.vavr.matchers.CollectionMatchers.allMatch;
+import static in.tazj.vavr.matchers.ControlMatchers.isDefined;
+import static in.tazj.vavr.matchers.ControlMatchers.isRight;
+import static in.tazj.vavr.matchers.ControlMatchers.isSuccess;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Benchmarks matchers against the predicates compiled from them with
+ * {@link MatcherPredicates#compile(Matcher)}.
+ *
+ * The nested matcher checks an {@code Option<Either<String, List<Integer>>>} holding ten elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompiledPredicateBenchmark {
+  private Option<Either<String, List<Integer>>> nested;
+  private Try<Integer> success;
+
+  private Matcher<Option<Either<String, List<Integer>>>> nestedMatcher;
+  private Predicate<Option<Either<String, List<Integer>>>> nestedPredicate;
+  private Matcher<Try<Integer>> isSuccessMatcher;
+  private Predicate<Try<Integer>> isSuccessPredicate;
+
+  @Setup
+  public void setup() {
+    nested = Option.of(Either.right(List.range(0, 10)));
+    success = Try.success(42);
+
+    nestedMatcher = isDefined(isRight(allMatch(lessThan(10))));
+    nestedPredicate = MatcherPredicates.compile(nestedMatcher);
+    isSuccessMatcher = isSuccess(is(42));
+    isSuccessPredicate = MatcherPredicates.compile(isSuccessMatcher);
+  }
+
+  @Benchmark
+  public boolean nestedMatcher() {
+    return nestedMatcher.matches(nested);
+  }
+
+  @Benchmark
+  public boolean nestedPredicate() {
+    return nestedPredicate.test(nested);
+  }
+
+  @Benchmark
+  public boolean isSuccessMatcher() {
+    return isSuccessMatcher.matches(success);
+  }
+
+  @Benchmark
+  public boolean isSuccessPredicate() {
+    return isSuccessPredicate.test(success);
+  }
+}
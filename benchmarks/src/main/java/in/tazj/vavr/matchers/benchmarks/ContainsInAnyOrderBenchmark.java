@@ -0,0 +1,81 @@
+package in.tazj.vavr.matchers.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Traversable;
+
+import static in.tazj.vavr.matchers.CollectionMatchers.containsExactlyInAnyOrder;
+import static in.tazj.vavr.matchers.CollectionMatchers.containsInAnyOrder;
+
+/**
+ * Benchmarks {@link in.tazj.vavr.matchers.CollectionMatchers#containsInAnyOrder(Traversable)}
+ * and {@link in.tazj.vavr.matchers.CollectionMatchers#containsExactlyInAnyOrder(Traversable)}.
+ *
+ * The expected elements are the actual elements in reverse order, which is the typical shape
+ * of an order-independent assertion on a result set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContainsInAnyOrderBenchmark {
+  @Param({"0", "10000", "1000000"})
+  public int size;
+
+  @Param({"LIST", "VECTOR", "ARRAY", "HASH_SET", "STREAM"})
+  public CollectionKind kind;
+
+  private Traversable<Integer> collection;
+
+  private Matcher<Traversable<Integer>> hit;
+  private Matcher<Traversable<Integer>> miss;
+  private Matcher<Traversable<Integer>> exactHit;
+  private Matcher<Traversable<Integer>> exactMiss;
+
+  @Setup
+  public void setup() {
+    collection = kind.range(size);
+
+    final List<Integer> expected = List.range(0, size).reverse();
+    hit = containsInAnyOrder(expected);
+    miss = containsInAnyOrder(expected.append(-1));
+    exactHit = containsExactlyInAnyOrder(expected);
+    exactMiss = containsExactlyInAnyOrder(expected.append(-1));
+  }
+
+  @Benchmark
+  public boolean containsInAnyOrderMatch() {
+    return hit.matches(collection);
+  }
+
+  @Benchmark
+  public String containsInAnyOrderMismatch() {
+    return Benchmarks.describeFailure(miss, collection);
+  }
+
+  @Benchmark
+  public boolean containsExactlyInAnyOrderMatch() {
+    return exactHit.matches(collection);
+  }
+
+  @Benchmark
+  public String containsExactlyInAnyOrderMismatch() {
+    return Benchmarks.describeFailure(exactMiss, collection);
+  }
+}
@@ -0,0 +1,141 @@
+package in.tazj.vavr.matchers.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import in.tazj.vavr.matchers.ControlMatchers;
+import in.tazj.vavr.matchers.ValueMatchers;
+import io.vavr.collection.List;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Benchmarks the matchers in {@link ControlMatchers} and {@link ValueMatchers}, covering
+ * matcher construction, matching and mismatch descriptions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControlMatchersBenchmark {
+  private final Option<Integer> some = Option.of(42);
+  private final Option<Integer> none = Option.none();
+  private final Try<Integer> success = Try.success(42);
+  private final Try<Integer> failure = Try.failure(new IllegalStateException("boom"));
+  private final Either<String, Integer> right = Either.right(42);
+  private final Either<String, Integer> left = Either.left("error");
+  private final List<Integer> nonEmpty = List.of(42);
+
+  private final Matcher<Integer> fortyTwo = is(42);
+
+  private final Matcher<Option<Integer>> isDefined = ControlMatchers.isDefined(is(42));
+  private final Matcher<Try<Integer>> isSuccess = ControlMatchers.isSuccess(is(42));
+  private final Matcher<? super Try<Integer>> hasFailedWith =
+      ControlMatchers.hasFailedWith(IllegalStateException.class);
+  private final Try<Integer> wrappedFailure = Try.failure(
+      new ExecutionException(new CompletionException(new IllegalStateException("boom"))));
+  private final Matcher<? super Try<Integer>> hasFailedWithInstanceOf =
+      ControlMatchers.hasFailedWithInstanceOf(RuntimeException.class);
+  private final Matcher<? super Try<Integer>> hasFailedWithCause =
+      ControlMatchers.hasFailedWithCause(IllegalStateException.class);
+  private final Matcher<Either<String, Integer>> isRight = ControlMatchers.isRight(is(42));
+  private final Matcher<Either<String, Integer>> isLeft = ControlMatchers.isLeft(is("error"));
+  private final Matcher<List<Integer>> valueIsEmpty = ValueMatchers.isEmpty();
+
+  @Benchmark
+  public Matcher<Option<Integer>> isDefinedConstruction() {
+    return ControlMatchers.isDefined();
+  }
+
+  @Benchmark
+  public Matcher<Try<Integer>> isSuccessConstruction() {
+    return ControlMatchers.isSuccess();
+  }
+
+  @Benchmark
+  public Matcher<Either<String, Integer>> isRightConstruction() {
+    return ControlMatchers.isRight(fortyTwo);
+  }
+
+  @Benchmark
+  public boolean isDefinedMatch() {
+    return isDefined.matches(some);
+  }
+
+  @Benchmark
+  public String isDefinedMismatch() {
+    return Benchmarks.describeFailure(isDefined, none);
+  }
+
+  @Benchmark
+  public boolean isSuccessMatch() {
+    return isSuccess.matches(success);
+  }
+
+  @Benchmark
+  public String isSuccessMismatch() {
+    return Benchmarks.describeFailure(isSuccess, failure);
+  }
+
+  @Benchmark
+  public boolean hasFailedWithMatch() {
+    return hasFailedWith.matches(failure);
+  }
+
+  @Benchmark
+  public String hasFailedWithMismatch() {
+    return Benchmarks.describeFailure(hasFailedWith, success);
+  }
+
+  @Benchmark
+  public boolean hasFailedWithInstanceOfMatch() {
+    return hasFailedWithInstanceOf.matches(failure);
+  }
+
+  @Benchmark
+  public boolean hasFailedWithCauseMatch() {
+    return hasFailedWithCause.matches(wrappedFailure);
+  }
+
+  @Benchmark
+  public boolean isRightMatch() {
+    return isRight.matches(right);
+  }
+
+  @Benchmark
+  public String isRightMismatch() {
+    return Benchmarks.describeFailure(isRight, left);
+  }
+
+  @Benchmark
+  public boolean isLeftMatch() {
+    return isLeft.matches(left);
+  }
+
+  @Benchmark
+  public String isLeftMismatch() {
+    return Benchmarks.describeFailure(isLeft, right);
+  }
+
+  @Benchmark
+  public boolean valueIsEmptyMismatch() {
+    return valueIsEmpty.matches(nonEmpty);
+  }
+}
@@ -0,0 +1,58 @@
+package in.tazj.vavr.matchers.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import io.vavr.collection.Seq;
+
+import static in.tazj.vavr.matchers.CollectionMatchers.hasNoDuplicates;
+import static in.tazj.vavr.matchers.CollectionMatchers.hasSize;
+
+/**
+ * Benchmarks {@link in.tazj.vavr.matchers.CollectionMatchers#hasNoDuplicates()} against the
+ * common idiom {@code hasSize(t.distinct().size())} on a sequence of distinct integers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HasNoDuplicatesBenchmark {
+  @Param({"1000", "1000000"})
+  public int size;
+
+  @Param({"LIST", "VECTOR"})
+  public CollectionKind kind;
+
+  private Seq<Integer> ids;
+  private Matcher<Seq<Integer>> hasNoDuplicates;
+
+  @Setup
+  public void setup() {
+    ids = (Seq<Integer>) kind.range(size);
+    hasNoDuplicates = hasNoDuplicates();
+  }
+
+  @Benchmark
+  public boolean hasNoDuplicatesMatch() {
+    return hasNoDuplicates.matches(ids);
+  }
+
+  @Benchmark
+  public boolean distinctSizeMatch() {
+    return hasSize(ids.distinct().size()).matches(ids);
+  }
+}
@@ -0,0 +1,78 @@
+package in.tazj.vavr.matchers.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+
+import static in.tazj.vavr.matchers.CollectionMatchers.allMatch;
+import static in.tazj.vavr.matchers.CollectionMatchers.allMatchIncremental;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+/**
+ * Benchmarks {@link in.tazj.vavr.matchers.CollectionMatchers#allMatchIncremental(Matcher)}
+ * against {@link in.tazj.vavr.matchers.CollectionMatchers#allMatch(Matcher)} on a collection that
+ * is built one element at a time and checked after every step.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncrementalAllMatchBenchmark {
+  @Param({"1000", "10000"})
+  public int size;
+
+  @Benchmark
+  public boolean allMatchVectorAppend() {
+    return appendAndCheck(allMatch(greaterThanOrEqualTo(0)));
+  }
+
+  @Benchmark
+  public boolean allMatchIncrementalVectorAppend() {
+    return appendAndCheck(allMatchIncremental(greaterThanOrEqualTo(0)));
+  }
+
+  @Benchmark
+  public boolean allMatchListPrepend() {
+    return prependAndCheck(allMatch(greaterThanOrEqualTo(0)));
+  }
+
+  @Benchmark
+  public boolean allMatchIncrementalListPrepend() {
+    return prependAndCheck(allMatchIncremental(greaterThanOrEqualTo(0)));
+  }
+
+  private boolean appendAndCheck(Matcher<Vector<Integer>> matcher) {
+    Vector<Integer> vector = Vector.empty();
+    boolean matches = true;
+    for (int i = 0; i < size; i++) {
+      vector = vector.append(i);
+      matches &= matcher.matches(vector);
+    }
+    return matches;
+  }
+
+  private boolean prependAndCheck(Matcher<List<Integer>> matcher) {
+    List<Integer> list = List.empty();
+    boolean matches = true;
+    for (int i = 0; i < size; i++) {
+      list = list.prepend(i);
+      matches &= matcher.matches(list);
+    }
+    return matches;
+  }
+}
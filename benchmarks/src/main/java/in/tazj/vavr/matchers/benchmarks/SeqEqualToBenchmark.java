@@ -0,0 +1,69 @@
+package in.tazj.vavr.matchers.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+
+import static in.tazj.vavr.matchers.CollectionMatchers.seqEqualTo;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Benchmarks {@link in.tazj.vavr.matchers.CollectionMatchers#seqEqualTo(Seq)} against Hamcrest's
+ * {@code equalTo}.
+ *
+ * The unequal sequence differs from the expected one by a changed element in the middle and an
+ * inserted element near the end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeqEqualToBenchmark {
+  @Param({"1000", "100000"})
+  public int size;
+
+  @Param({"LIST", "VECTOR", "ARRAY", "STREAM"})
+  public CollectionKind kind;
+
+  private Seq<Integer> actual;
+
+  private Matcher<Seq<Integer>> seqEqualToMiss;
+  private Matcher<Seq<Integer>> equalToMiss;
+
+  @Setup
+  public void setup() {
+    actual = (Seq<Integer>) kind.of(List.range(0, size)
+        .update(size / 2, -1)
+        .insert(size - 1, -2));
+
+    final Seq<Integer> expected = (Seq<Integer>) kind.range(size);
+    seqEqualToMiss = seqEqualTo(expected);
+    equalToMiss = equalTo(expected);
+  }
+
+  @Benchmark
+  public String seqEqualToMismatch() {
+    return Benchmarks.describeFailure(seqEqualToMiss, actual);
+  }
+
+  @Benchmark
+  public String equalToMismatch() {
+    return Benchmarks.describeFailure(equalToMiss, actual);
+  }
+}
@@ -0,0 +1,72 @@
+package in.tazj.vavr.matchers.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import in.tazj.vavr.matchers.SnapshotMatchers;
+import io.vavr.collection.Vector;
+
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Compares {@link SnapshotMatchers#matchesSnapshot} on a {@link Vector} of 10⁶ strings with
+ * reading the stored {@code toString()} of the vector and comparing it with that of the actual
+ * value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+  private static final int SIZE = 1_000_000;
+
+  private Vector<String> rows;
+  private Path snapshot;
+  private Path stored;
+  private Matcher<Vector<String>> matchesSnapshot;
+
+  @Setup
+  public void setup() throws IOException {
+    rows = Vector.range(0, SIZE).map(i -> "row " + i + ": " + Integer.toHexString(i * 31));
+    snapshot = Files.createTempFile("rows", ".snapshot");
+    stored = Files.createTempFile("rows", ".txt");
+    SnapshotMatchers.matchesSnapshot(snapshot, true).matches(rows);
+    Files.write(stored, rows.toString().getBytes(StandardCharsets.UTF_8));
+    matchesSnapshot = SnapshotMatchers.matchesSnapshot(snapshot, false);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(snapshot);
+    Files.deleteIfExists(stored);
+  }
+
+  @Benchmark
+  public boolean matchesSnapshotMatch() {
+    return matchesSnapshot.matches(rows);
+  }
+
+  @Benchmark
+  public boolean toStringMatch() throws IOException {
+    final String expected = new String(Files.readAllBytes(stored), StandardCharsets.UTF_8);
+    return equalTo(expected).matches(rows.toString());
+  }
+}
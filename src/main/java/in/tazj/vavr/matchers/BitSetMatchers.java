@@ -0,0 +1,221 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.util.function.IntToLongFunction;
+
+import io.vavr.collection.BitSet;
+
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Provides Hamcrest matchers for Vavr {@link BitSet}.
+ *
+ * The matchers work on bit indices, i.e. the integer representation of the elements. The actual
+ * set is traversed once to build its bit mask, which is then compared 64 bits at a time instead of
+ * looking up the expected elements one by one. Mismatch descriptions list at most the first
+ * {@value #MAX_REPORTED_BITS} offending bits.
+ *
+ * Vavr does not expose the mapping between the elements of a bit set and their bit indices, so
+ * only bit sets created by the factories of {@link BitSet} for {@link Integer}, {@link Long},
+ * {@link Short}, {@link Byte}, {@link Character}, {@link Boolean} and enum elements are
+ * supported, not those created through {@link BitSet#withRelations} with a custom mapping.
+ */
+public class BitSetMatchers {
+  /**
+   * The maximum number of bit indices listed in a mismatch description.
+   */
+  public static final int MAX_REPORTED_BITS = 20;
+
+  /**
+   * Matches a Vavr {@link BitSet} in which all bits of the expected bit set are set.
+   *
+   * @param expected The bit set whose bits must be set.
+   */
+  public static <T extends BitSet<?>> Matcher<T> containsAllBits(BitSet<?> expected) {
+    return new ContainsAllBits<>(expected);
+  }
+
+  private static final class ContainsAllBits<T extends BitSet<?>> extends InstrumentedMatcher<T> {
+    private final BitSet<?> expected;
+    private final long[] expectedWords;
+
+    private ContainsAllBits(BitSet<?> expected) {
+      super(BitSet.class, "BitSetMatchers.containsAllBits");
+      this.expected = expected;
+      this.expectedWords = BitSetWords.of(expected);
+    }
+
+    @Override
+    protected boolean evaluate(T bits) {
+      final long[] words = BitSetWords.of(bits);
+      visited(bits.length());
+      for (int i = 0; i < expectedWords.length; i++) {
+        if ((expectedWords[i] & ~BitSetWords.word(words, i)) != 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("BitSet should contain all bits of ");
+      BoundedValueList.appendCollection(description, expected);
+    }
+
+    @Override
+    public void explainMismatch(T bits, Description mismatch) {
+      final long[] words = BitSetWords.of(bits);
+      mismatch.appendText("BitSet is missing ");
+      appendBits(mismatch, expectedWords.length,
+          i -> expectedWords[i] & ~BitSetWords.word(words, i), "expected bit", "expected bits");
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link BitSet} with the given number of set bits.
+   *
+   * @param cardinality The expected number of set bits.
+   */
+  public static <T extends BitSet<?>> Matcher<T> hasCardinality(int cardinality) {
+    return hasCardinality(is(cardinality));
+  }
+
+  /**
+   * Matches a Vavr {@link BitSet} whose number of set bits matches the supplied matcher.
+   *
+   * The number of set bits is read from the bit set, which counts them when it is created.
+   *
+   * @param matcher A Hamcrest matcher for the number of set bits.
+   */
+  public static <T extends BitSet<?>> Matcher<T> hasCardinality(Matcher<Integer> matcher) {
+    return new HasCardinality<>(matcher);
+  }
+
+  private static final class HasCardinality<T extends BitSet<?>> extends InstrumentedMatcher<T> {
+    private final Matcher<Integer> matcher;
+
+    private HasCardinality(Matcher<Integer> matcher) {
+      super(BitSet.class, "BitSetMatchers.hasCardinality");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T bits) {
+      return matcher.matches(bits.length());
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("BitSet cardinality should match: ").appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T bits, Description mismatch) {
+      mismatch.appendText("BitSet cardinality does not match ")
+          .appendDescriptionOf(matcher)
+          .appendText(", cardinality was ")
+          .appendValue(bits.length());
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link BitSet} in which all bits from {@code from} (inclusive) to {@code to}
+   * (exclusive) are set.
+   *
+   * @param from The first bit index of the range.
+   * @param to   The bit index after the end of the range.
+   * @throws IllegalArgumentException If the range is negative or reversed.
+   */
+  public static <T extends BitSet<?>> Matcher<T> rangeIsSet(int from, int to) {
+    if (from < 0 || to < from) {
+      throw new IllegalArgumentException("Invalid bit range [" + from + ", " + to + ")");
+    }
+    return new RangeIsSet<>(from, to);
+  }
+
+  private static final class RangeIsSet<T extends BitSet<?>> extends InstrumentedMatcher<T> {
+    private final int from;
+    private final int to;
+
+    private RangeIsSet(int from, int to) {
+      super(BitSet.class, "BitSetMatchers.rangeIsSet");
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected boolean evaluate(T bits) {
+      final long[] words = BitSetWords.of(bits);
+      final int end = wordCount();
+      visited(bits.length());
+      for (int i = from >>> 6; i < end; i++) {
+        if (unset(words, i) != 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("BitSet should have all bits set in " + range());
+    }
+
+    @Override
+    public void explainMismatch(T bits, Description mismatch) {
+      final long[] words = BitSetWords.of(bits);
+      mismatch.appendText("BitSet has ");
+      appendBits(mismatch, wordCount(), i -> unset(words, i), "unset bit", "unset bits");
+      mismatch.appendText(" in " + range());
+    }
+
+    /**
+     * Returns the bits of the range that are not set in the given word.
+     */
+    private long unset(long[] words, int index) {
+      long mask = -1L;
+      if (index == from >>> 6) {
+        mask &= -1L << from;
+      }
+      if (index == (to - 1) >>> 6) {
+        mask &= -1L >>> -to;
+      }
+      return ~BitSetWords.word(words, index) & mask;
+    }
+
+    private int wordCount() {
+      return from == to ? 0 : ((to - 1) >>> 6) + 1;
+    }
+
+    private String range() {
+      return "[" + from + ", " + to + ")";
+    }
+  }
+
+  /**
+   * Describes the bits selected by a function of the word index, e.g. {@code 3 unset bits: [<1>,
+   * <5>, <9>]}.
+   */
+  private static void appendBits(Description description, int words, IntToLongFunction word,
+                                 String singular, String plural) {
+    final BoundedValueList<Integer> reported = BoundedValueList.values();
+    long count = 0;
+    for (int i = 0; i < words; i++) {
+      long bits = word.applyAsLong(i);
+      count += Long.bitCount(bits);
+      while (bits != 0 && count - Long.bitCount(bits) < MAX_REPORTED_BITS) {
+        reported.add(i * 64 + Long.numberOfTrailingZeros(bits));
+        bits &= bits - 1;
+      }
+    }
+
+    description.appendText(count + " " + (count == 1 ? singular : plural));
+    if (count > MAX_REPORTED_BITS) {
+      description.appendText(", the first " + MAX_REPORTED_BITS + " of which are");
+    }
+    reported.appendTo(description, ": [", ", ", "]");
+  }
+}
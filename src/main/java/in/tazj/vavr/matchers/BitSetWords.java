@@ -0,0 +1,64 @@
+package in.tazj.vavr.matchers;
+
+import java.util.Arrays;
+
+import io.vavr.collection.BitSet;
+
+/**
+ * Builds the bit mask of a Vavr {@link BitSet} as an array of 64-bit words, in the layout of
+ * {@link java.util.BitSet#toLongArray()}.
+ *
+ * Vavr exposes neither the words of a bit set nor its mapping from elements to bit indices, so the
+ * words are rebuilt in a single traversal of the elements through the public API, deriving each
+ * bit index from the element value. This is the mapping of the bit sets created by the factories of
+ * {@link BitSet} for {@link Integer}, {@link Long}, {@link Short}, {@link Byte},
+ * {@link Character}, {@link Boolean} and enum elements. Bit sets created through
+ * {@link BitSet#withRelations} with any other mapping are not supported.
+ */
+final class BitSetWords {
+  private BitSetWords() {
+  }
+
+  /**
+   * Returns the words of a bit set. The array may have trailing zero words.
+   *
+   * @throws IllegalArgumentException If the bit index of an element cannot be derived from its
+   *                                  value.
+   */
+  static long[] of(BitSet<?> bits) {
+    long[] words = new long[1];
+    for (Object element : bits) {
+      final int bit = bitIndex(element);
+      if (bit >> 6 >= words.length) {
+        words = Arrays.copyOf(words, Math.max(words.length * 2, (bit >> 6) + 1));
+      }
+      words[bit >> 6] |= 1L << bit;
+    }
+    return words;
+  }
+
+  /**
+   * Returns the word at the given index, or zero beyond the end of the array.
+   */
+  static long word(long[] words, int index) {
+    return index < words.length ? words[index] : 0;
+  }
+
+  /**
+   * Returns the bit index of an element of one of the bit sets created by {@link BitSet}'s
+   * factories.
+   */
+  private static int bitIndex(Object element) {
+    if (element instanceof Number) {
+      return ((Number) element).intValue();
+    } else if (element instanceof Character) {
+      return (Character) element;
+    } else if (element instanceof Boolean) {
+      return (Boolean) element ? 1 : 0;
+    } else if (element instanceof Enum) {
+      return ((Enum<?>) element).ordinal();
+    }
+    throw new IllegalArgumentException("Cannot determine the bit index of " + element
+        + ", only bit sets created by the factories of BitSet are supported");
+  }
+}
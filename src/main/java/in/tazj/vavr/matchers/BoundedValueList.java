@@ -0,0 +1,218 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import io.vavr.collection.Traversable;
+
+/**
+ * Renders a list of values into a {@link Description} within a budget of elements and
+ * characters.
+ *
+ * Values are added one at a time. The first values are rendered immediately until either budget
+ * is spent, the last values are kept in a fixed-size ring buffer and everything in between is
+ * only counted and elided, e.g. {@code [<0>,<1>, ... 999,980 more ..., <999999>]}. Rendering a
+ * list therefore costs memory in proportion to the rendered report, not to the number of values.
+ */
+final class BoundedValueList<E> {
+  /**
+   * The default maximum number of rendered elements.
+   */
+  static final int DEFAULT_MAX_ELEMENTS = 20;
+
+  /**
+   * The default maximum number of characters used for rendered elements.
+   */
+  static final int DEFAULT_MAX_CHARACTERS = 2000;
+
+  private static final String ELLIPSIS = "...";
+
+  private final Function<Object, String> format;
+  private final int maxCharacters;
+  private final int maxHead;
+  private final List<String> head;
+  private final Object[] tail;
+
+  private int characters = 0;
+  private long tailCount = 0;
+  private long count = 0;
+  private boolean exhausted = true;
+
+  private BoundedValueList(Function<Object, String> format, int maxElements, int maxCharacters) {
+    this.format = format;
+    this.maxCharacters = maxCharacters;
+
+    // Three quarters of the elements are spent on the head, the rest on the tail.
+    final int maxTail = maxElements / 4;
+    this.maxHead = maxElements - maxTail;
+    this.head = new ArrayList<>(Math.min(maxHead, 16));
+    this.tail = new Object[maxTail];
+  }
+
+  /**
+   * Creates a list that renders values like {@link Description#appendValue(Object)}.
+   */
+  static <E> BoundedValueList<E> values() {
+    return new BoundedValueList<>(BoundedValueList::describeValue,
+        DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_CHARACTERS);
+  }
+
+  /**
+   * Creates a list that renders values using their {@code toString()} representation, like the
+   * {@code toString()} of Vavr collections.
+   */
+  static <E> BoundedValueList<E> strings() {
+    return new BoundedValueList<>(String::valueOf, DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_CHARACTERS);
+  }
+
+  /**
+   * Creates a list that renders values like {@link Description#appendValue(Object)} within the
+   * given budget.
+   */
+  static <E> BoundedValueList<E> values(int maxElements, int maxCharacters) {
+    return new BoundedValueList<>(BoundedValueList::describeValue, maxElements, maxCharacters);
+  }
+
+  /**
+   * Appends a list of values to a description, like
+   * {@link Description#appendValueList(String, String, String, Iterable)} but within the default
+   * budget.
+   */
+  static <E> Description appendValueList(Description description, String start,
+                                         String separator, String end, Iterable<E> values) {
+    final BoundedValueList<E> list = values();
+    list.addAll(values);
+    return list.appendTo(description, start, separator, end);
+  }
+
+  /**
+   * Appends a Vavr collection to a description in the format of its {@code toString()}, e.g.
+   * {@code <List(1, 2, 3)>}, but within the default budget.
+   */
+  static Description appendCollection(Description description, Traversable<?> t) {
+    final BoundedValueList<Object> list = strings();
+    list.addAll(t);
+    return list.appendTo(description, "<" + t.stringPrefix() + "(", ", ", ")>");
+  }
+
+  /**
+   * Renders a single value like {@link Description#appendValue(Object)}, truncated to the default
+   * character budget.
+   */
+  static String describeValue(Object value) {
+    return truncate(new StringDescription().appendValue(value).toString(), DEFAULT_MAX_CHARACTERS);
+  }
+
+  /**
+   * Adds a value to the list.
+   */
+  void add(E value) {
+    count++;
+
+    if (!isHeadFull()) {
+      final String rendered = truncate(format.apply(value), maxCharacters - characters);
+      characters += rendered.length();
+      head.add(rendered);
+      return;
+    }
+
+    if (tail.length > 0) {
+      tail[(int) (tailCount % tail.length)] = value;
+    }
+    tailCount++;
+  }
+
+  /**
+   * Adds all values of an iterable to the list. Traversables without a definite size, such as an
+   * infinite {@link io.vavr.collection.Stream}, are only evaluated up to the first element that
+   * would not be rendered.
+   */
+  void addAll(Iterable<? extends E> values) {
+    final boolean bounded =
+        (values instanceof Traversable) && !((Traversable<?>) values).hasDefiniteSize();
+    final Iterator<? extends E> iterator = values.iterator();
+
+    while (iterator.hasNext()) {
+      if (bounded && isHeadFull()) {
+        exhausted = false;
+        return;
+      }
+      add(iterator.next());
+    }
+  }
+
+  private boolean isHeadFull() {
+    return tailCount > 0 || head.size() >= maxHead || characters >= maxCharacters;
+  }
+
+  boolean isEmpty() {
+    return count == 0;
+  }
+
+  /**
+   * Appends the rendered list to a description.
+   */
+  Description appendTo(Description description, String start, String separator, String end) {
+    description.appendText(start);
+    for (int i = 0; i < head.size(); i++) {
+      if (i > 0) {
+        description.appendText(separator);
+      }
+      description.appendText(head.get(i));
+    }
+
+    if (!exhausted) {
+      description.appendText(head.isEmpty() ? ELLIPSIS : separator + ELLIPSIS);
+      return description.appendText(end);
+    }
+
+    final List<String> renderedTail = renderTail();
+    final long elided = count - head.size() - renderedTail.size();
+    if (elided > 0) {
+      description
+          .appendText(head.isEmpty() ? "" : separator)
+          .appendText(String.format(Locale.ROOT, "... %,d more ...", elided));
+    }
+
+    for (int i = 0; i < renderedTail.size(); i++) {
+      if (i > 0 || !head.isEmpty() || elided > 0) {
+        description.appendText(separator);
+      }
+      description.appendText(renderedTail.get(i));
+    }
+
+    return description.appendText(end);
+  }
+
+  /**
+   * Renders the buffered tail values, starting from the last value, for as long as the character
+   * budget allows.
+   */
+  private List<String> renderTail() {
+    final int buffered = (int) Math.min(tailCount, tail.length);
+    final List<String> rendered = new ArrayList<>(buffered);
+    int remaining = maxCharacters - characters;
+
+    for (int i = 0; i < buffered && remaining > 0; i++) {
+      final Object value = tail[(int) ((tailCount - 1 - i) % tail.length)];
+      final String string = truncate(format.apply(value), remaining);
+      remaining -= string.length();
+      rendered.add(0, string);
+    }
+
+    return rendered;
+  }
+
+  private static String truncate(String string, int maxCharacters) {
+    if (string.length() <= maxCharacters) {
+      return string;
+    }
+    return string.substring(0, Math.max(0, maxCharacters)) + ELLIPSIS;
+  }
+}
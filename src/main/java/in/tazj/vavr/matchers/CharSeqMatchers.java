@@ -0,0 +1,173 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import io.vavr.collection.CharSeq;
+
+/**
+ * Provides Hamcrest matchers for Vavr {@link CharSeq}.
+ *
+ * The matchers work on the characters as a {@link CharSequence} instead of traversing a
+ * {@link CharSeq} as a collection of boxed {@link Character}s, and mismatch descriptions only
+ * render an excerpt of at most {@value #EXCERPT_LENGTH} characters, so they are suitable for
+ * multi-megabyte payloads.
+ */
+public class CharSeqMatchers {
+  /**
+   * The maximum number of characters of the actual {@link CharSeq} rendered in a mismatch.
+   */
+  public static final int EXCERPT_LENGTH = 64;
+
+  /**
+   * Matches a Vavr {@link CharSeq} that matches the given regular expression as a whole.
+   *
+   * @param regex The regular expression.
+   */
+  public static Matcher<CharSeq> matchesRegex(String regex) {
+    return matchesRegex(Pattern.compile(regex));
+  }
+
+  /**
+   * Matches a Vavr {@link CharSeq} that matches the given pattern as a whole.
+   *
+   * @param pattern The compiled pattern.
+   */
+  public static Matcher<CharSeq> matchesRegex(Pattern pattern) {
+    return new MatchesRegex(pattern);
+  }
+
+  private static final class MatchesRegex extends InstrumentedMatcher<CharSeq> {
+    private final Pattern pattern;
+
+    private MatchesRegex(Pattern pattern) {
+      super(CharSeq.class, "CharSeqMatchers.matchesRegex");
+      this.pattern = Objects.requireNonNull(pattern, "pattern");
+    }
+
+    @Override
+    protected boolean evaluate(CharSeq chars) {
+      return pattern.matcher(chars(chars)).matches();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("CharSeq should match regex ").appendValue(pattern.pattern());
+    }
+
+    @Override
+    public void explainMismatch(CharSeq chars, Description mismatch) {
+      mismatch.appendText("CharSeq does not match regex ").appendValue(pattern.pattern())
+          .appendText(", was ");
+      appendExcerpt(mismatch, chars(chars), 0);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link CharSeq} that contains the given characters.
+   *
+   * @param substring The expected characters.
+   */
+  public static Matcher<CharSeq> containsSubstring(CharSequence substring) {
+    return new ContainsSubstring(substring.toString());
+  }
+
+  private static final class ContainsSubstring extends InstrumentedMatcher<CharSeq> {
+    private final String substring;
+
+    private ContainsSubstring(String substring) {
+      super(CharSeq.class, "CharSeqMatchers.containsSubstring");
+      this.substring = substring;
+    }
+
+    @Override
+    protected boolean evaluate(CharSeq chars) {
+      return chars(chars).contains(substring);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("CharSeq should contain ").appendValue(substring);
+    }
+
+    @Override
+    public void explainMismatch(CharSeq chars, Description mismatch) {
+      mismatch.appendText("CharSeq does not contain ").appendValue(substring)
+          .appendText(", was ");
+      appendExcerpt(mismatch, chars(chars), 0);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link CharSeq} that starts with the given characters.
+   *
+   * @param prefix The expected prefix.
+   */
+  public static Matcher<CharSeq> startsWith(CharSequence prefix) {
+    return new StartsWith(prefix.toString());
+  }
+
+  private static final class StartsWith extends InstrumentedMatcher<CharSeq> {
+    private final String prefix;
+
+    private StartsWith(String prefix) {
+      super(CharSeq.class, "CharSeqMatchers.startsWith");
+      this.prefix = prefix;
+    }
+
+    @Override
+    protected boolean evaluate(CharSeq chars) {
+      return chars(chars).startsWith(prefix);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("CharSeq should start with ").appendValue(prefix);
+    }
+
+    @Override
+    public void explainMismatch(CharSeq chars, Description mismatch) {
+      final String actual = chars(chars);
+      final int length = Math.min(actual.length(), prefix.length());
+      int index = 0;
+      while (index < length && actual.charAt(index) == prefix.charAt(index)) {
+        index++;
+      }
+
+      mismatch.appendText("CharSeq differs from prefix ").appendValue(prefix)
+          .appendText(" at index ").appendValue(index)
+          .appendText(", was ");
+      appendExcerpt(mismatch, actual, index);
+    }
+  }
+
+  /**
+   * Returns the characters of a {@link CharSeq}. A {@link CharSeq} is backed by a {@link String},
+   * which its {@code toString()} returns without copying.
+   */
+  private static String chars(CharSeq chars) {
+    return chars.toString();
+  }
+
+  /**
+   * Appends at most {@value #EXCERPT_LENGTH} characters of the actual value around the given
+   * index, along with its length if it was truncated.
+   */
+  private static void appendExcerpt(Description description, String actual, int index) {
+    if (actual.length() <= EXCERPT_LENGTH) {
+      description.appendValue(actual);
+      return;
+    }
+
+    final int from = Math.max(0, Math.min(index - EXCERPT_LENGTH / 4,
+        actual.length() - EXCERPT_LENGTH));
+    final int to = from + EXCERPT_LENGTH;
+    description
+        .appendValue((from > 0 ? "..." : "") + actual.substring(from, to)
+            + (to < actual.length() ? "..." : ""))
+        .appendText(" (" + actual.length() + " characters)");
+  }
+}
@@ -2,9 +2,22 @@ package in.tazj.vavr.matchers;
 
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
-import org.hamcrest.TypeSafeMatcher;
 
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
 import io.vavr.collection.Traversable;
+import io.vavr.control.Option;
 
 import static org.hamcrest.Matchers.is;
 
@@ -12,57 +25,102 @@ import static org.hamcrest.Matchers.is;
  * Provides Hamcrest matchers for Vavr collection types.
  */
 public class CollectionMatchers {
+  /**
+   * The number of non-matching elements reported by {@link #allMatch(Matcher)}.
+   */
+  public static final int DEFAULT_REPORTED_FAILURES = 10;
+
+  /**
+   * The maximum number of edits described by {@link #seqEqualTo(Seq)}.
+   */
+  public static final int DEFAULT_MAX_EDITS = 100;
+
+  /**
+   * The number of verified collections remembered by {@link #allMatchIncremental(Matcher)}.
+   */
+  public static final int DEFAULT_VERIFIED_VERSIONS = 8;
+
+  private static final Matcher<Traversable> IS_EMPTY = new IsEmpty();
+  private static final Matcher<Traversable<Object>> HAS_NO_DUPLICATES = new HasNoDuplicates<>();
+
   /**
    * Matches empty Vavr {@link Traversable}.
    */
+  @SuppressWarnings("unchecked")
   public static <T extends Traversable> Matcher<T> isEmpty() {
-    return new TypeSafeMatcher<T>() {
-      @Override
-      protected boolean matchesSafely(T t) {
-        return t.isEmpty();
-      }
+    return (Matcher) IS_EMPTY;
+  }
 
-      @Override
-      public void describeTo(Description description) {
-        description.appendText("Collection should be empty");
-      }
+  private static final class IsEmpty extends InstrumentedMatcher<Traversable> {
+    private IsEmpty() {
+      super(Traversable.class, "CollectionMatchers.isEmpty");
+    }
+
+    @Override
+    protected boolean evaluate(Traversable t) {
+      return t.isEmpty();
+    }
 
-      @Override
-      public void describeMismatchSafely(T t, Description mismatch) {
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Collection should be empty");
+    }
+
+    @Override
+    public void explainMismatch(Traversable t, Description mismatch) {
+      if (t.hasDefiniteSize()) {
         mismatch.appendText("Collection was expected to be empty but has size ")
             .appendValue(t.size());
+      } else {
+        mismatch.appendText("Collection was expected to be empty but has at least one element");
       }
-    };
+    }
   }
 
   /**
    * Matches Vavr {@link Traversable} with a given size.
    *
+   * Traversables without a definite size, such as a {@link io.vavr.collection.Stream}, are
+   * evaluated up to at most {@code size + 1} elements.
+   *
    * @param size The expected size of the traversable.
    */
   public static <T extends Traversable> Matcher<T> hasSize(int size) {
-    return new TypeSafeMatcher<T>() {
-      @Override
-      protected boolean matchesSafely(T t) {
-        if (t.hasDefiniteSize()) {
-          return (t.size() == size);
-        }
-        return false;
-      }
+    return new HasSize<>(size);
+  }
 
-      @Override
-      public void describeTo(Description description) {
-        description.appendText("Collection should have size ").appendValue(size);
-      }
+  private static final class HasSize<T extends Traversable> extends InstrumentedMatcher<T> {
+    private final int size;
+
+    private HasSize(int size) {
+      super(Traversable.class, "CollectionMatchers.hasSize");
+      this.size = size;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return boundedSize(t, oneMore(size)) == size;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Collection should have size ").appendValue(size);
+    }
 
-      @Override
-      public void describeMismatchSafely(T t, Description mismatch) {
-        mismatch.appendText("Collection should have size ")
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final int actual = boundedSize(t, oneMore(size));
+      mismatch.appendText("Collection should have size ")
+          .appendValue(size);
+
+      if (actual > size && !t.hasDefiniteSize()) {
+        mismatch.appendText(" but actually has more than ")
             .appendValue(size)
-            .appendText(" but actually has size ")
-            .appendValue(t.size());
+            .appendText(" elements");
+      } else {
+        mismatch.appendText(" but actually has size ").appendValue(actual);
       }
-    };
+    }
   }
 
   /**
@@ -71,31 +129,44 @@ public class CollectionMatchers {
    * @param matcher A Hamcrest matcher to match the expected size.
    */
   public static <T extends Traversable> Matcher<T> hasSize(Matcher<Integer> matcher) {
-    return new TypeSafeMatcher<T>() {
-      @Override
-      protected boolean matchesSafely(T t) {
-        if (t.hasDefiniteSize()) {
-          return matcher.matches(t.size());
-        }
-        return false;
-      }
+    return new HasSizeMatching<>(matcher);
+  }
+
+  private static final class HasSizeMatching<T extends Traversable> extends InstrumentedMatcher<T> {
+    private final Matcher<Integer> matcher;
 
-      @Override
-      public void describeTo(Description description) {
-        description
-            .appendText("Collection size should match: ")
-            .appendDescriptionOf(matcher);
+    private HasSizeMatching(Matcher<Integer> matcher) {
+      super(Traversable.class, "CollectionMatchers.hasSize");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      if (t.hasDefiniteSize()) {
+        return matcher.matches(t.size());
       }
+      return false;
+    }
 
-      @Override
-      public void describeMismatchSafely(T t, Description mismatch) {
-        mismatch
-            .appendText("Collection size does not match ")
-            .appendDescriptionOf(matcher)
-            .appendText(", size was ")
-            .appendValue(t.size());
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("Collection size should match: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      mismatch
+          .appendText("Collection size does not match ")
+          .appendDescriptionOf(matcher);
+
+      if (t.hasDefiniteSize()) {
+        mismatch.appendText(", size was ").appendValue(t.size());
+      } else {
+        mismatch.appendText(", collection does not have a definite size");
       }
-    };
+    }
   }
 
   /**
@@ -117,87 +188,1339 @@ public class CollectionMatchers {
    * @param matcher The element matcher.
    */
   public static <E, T extends Traversable<E>> Matcher<T> containsAny(Matcher<E> matcher) {
-    return new TypeSafeMatcher<T>() {
-      @Override
-      protected boolean matchesSafely(T t) {
-        return t.find(matcher::matches).isDefined();
-      }
+    return new ContainsAny<>(matcher);
+  }
 
-      @Override
-      public void describeTo(Description description) {
-        description
-            .appendText("At least one element should match: ")
-            .appendDescriptionOf(matcher);
-      }
+  private static final class ContainsAny<E, T extends Traversable<E>>
+      extends InstrumentedMatcher<T> {
+    private final Matcher<E> matcher;
 
-      @Override
-      public void describeMismatchSafely(T t, Description mismatch) {
-        mismatch
-            .appendText("Collection expected to contain a value matching '")
-            .appendDescriptionOf(matcher)
-            .appendText("' but found ")
-            .appendValue(t);
-      }
-    };
+    private ContainsAny(Matcher<E> matcher) {
+      super(Traversable.class, "CollectionMatchers.containsAny");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return indexWhere(t, Integer.MAX_VALUE, matcher::matches) >= 0;
+    }
+
+    @Override
+    Predicate<T> compile() {
+      final Predicate<E> predicate = MatcherPredicates.compile(matcher);
+      return guard(t -> indexWhere(t, Integer.MAX_VALUE, predicate) >= 0);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("At least one element should match: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      mismatch
+          .appendText("Collection expected to contain a value matching '")
+          .appendDescriptionOf(matcher)
+          .appendText("' but found ");
+      BoundedValueList.appendCollection(mismatch, t);
+    }
   }
 
   /**
    * Matches a Vavr {@link Traversable} that contains expected elements in any order.
    *
+   * Each expected element must occur in the collection at least as often as it occurs in the
+   * expected elements, i.e. {@code [a]} does not contain {@code [a, a]}. The collection may
+   * contain additional elements.
+   *
    * @param items The expected elements.
    */
   public static <E, T extends Traversable<E>> Matcher<T> containsInAnyOrder(Traversable<E> items) {
-    return new TypeSafeMatcher<T>() {
-      @Override
-      protected boolean matchesSafely(T es) {
-        return es.containsAll(items);
+    return containsInAnyOrder(items, false);
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} that contains exactly the expected elements in any order.
+   *
+   * Each expected element must occur in the collection exactly as often as it occurs in the
+   * expected elements and the collection may not contain any other elements.
+   *
+   * @param items The expected elements.
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> containsExactlyInAnyOrder(
+      Traversable<E> items) {
+    return containsInAnyOrder(items, true);
+  }
+
+  private static <E, T extends Traversable<E>> Matcher<T> containsInAnyOrder(Traversable<E> items,
+                                                                              boolean exact) {
+    return new ContainsInAnyOrder<>(items, exact);
+  }
+
+  private static final class ContainsInAnyOrder<E, T extends Traversable<E>>
+      extends InstrumentedMatcher<T> {
+    private final Traversable<E> items;
+    private final boolean exact;
+
+    private ContainsInAnyOrder(Traversable<E> items, boolean exact) {
+      super(Traversable.class, exact
+          ? "CollectionMatchers.containsExactlyInAnyOrder"
+          : "CollectionMatchers.containsInAnyOrder");
+      this.items = items;
+      this.exact = exact;
+    }
+
+    @Override
+    protected boolean evaluate(T es) {
+      final ElementCounts<E> counts = ElementCounts.of(es);
+      visited(counts.size());
+      for (E item : items) {
+        if (!counts.remove(item)) {
+          return false;
+        }
+      }
+      return !exact || counts.isEmpty();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("Collection should contain")
+          .appendText(exact ? " exactly: " : ": ");
+      BoundedValueList.appendValueList(description, "[", ",", "]", items);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final ElementCounts<E> counts = ElementCounts.of(t);
+      final BoundedValueList<E> missing = BoundedValueList.values();
+      final BoundedValueList<E> unexpected = BoundedValueList.values();
+
+      counts.removeAll(items, missing::add);
+      if (exact) {
+        counts.forEachRemaining(unexpected::add);
       }
 
-      @Override
-      public void describeTo(Description description) {
-        description
-            .appendText("Collection should contain: ")
-            .appendValueList("[", ",", "]", items);
+      if (!missing.isEmpty()) {
+        mismatch.appendText("Collection is missing elements: ");
+        missing.appendTo(mismatch, "[", ",", "]");
       }
 
-      @Override
-      public void describeMismatchSafely(T t, Description mismatch) {
-        final Iterable<E> missing = items.partition(t::contains)._2();
+      if (!unexpected.isEmpty()) {
         mismatch
-            .appendText("Collection is missing elements: ")
-            .appendValueList("[", ",", "]", missing);
+            .appendText(missing.isEmpty() ? "Collection" : " and")
+            .appendText(" contains unexpected elements: ");
+        unexpected.appendTo(mismatch, "[", ",", "]");
       }
-    };
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Seq} that contains the same elements in the same order as the expected
+   * sequence, regardless of the type of either sequence.
+   *
+   * The mismatch description is a minimal edit script from the expected to the actual sequence,
+   * unless they differ by more than {@value #DEFAULT_MAX_EDITS} insertions and deletions.
+   *
+   * @param expected The expected sequence.
+   */
+  public static <E, T extends Seq<E>> Matcher<T> seqEqualTo(Seq<E> expected) {
+    return seqEqualTo(expected, DEFAULT_MAX_EDITS);
+  }
+
+  /**
+   * Matches a Vavr {@link Seq} that contains the same elements in the same order as the expected
+   * sequence, regardless of the type of either sequence.
+   *
+   * The mismatch description is a minimal edit script from the expected to the actual sequence,
+   * unless they differ by more than {@code maxEdits} insertions and deletions. The cost of
+   * computing the script grows with the number of edits.
+   *
+   * @param expected The expected sequence.
+   * @param maxEdits The maximum number of insertions and deletions to describe.
+   */
+  public static <E, T extends Seq<E>> Matcher<T> seqEqualTo(Seq<E> expected, int maxEdits) {
+    return new SeqEqualTo<>(expected, maxEdits);
+  }
+
+  private static final class SeqEqualTo<E, T extends Seq<E>> extends InstrumentedMatcher<T> {
+    private final Seq<E> expected;
+    private final int maxEdits;
+
+    private SeqEqualTo(Seq<E> expected, int maxEdits) {
+      super(Seq.class, "CollectionMatchers.seqEqualTo");
+      this.expected = expected;
+      this.maxEdits = maxEdits;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return SeqDiff.equal(expected, t);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Sequence should be equal to ");
+      BoundedValueList.appendCollection(description, expected);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final SeqDiff diff = SeqDiff.of(expected, t, maxEdits);
+      if (diff.isExceeded()) {
+        mismatch
+            .appendText("Sequence differs by more than ")
+            .appendValue(maxEdits)
+            .appendText(" edits, starting at index ")
+            .appendValue(diff.firstDifference());
+      } else {
+        mismatch
+            .appendText("Sequence differs by ")
+            .appendValue(diff.edits())
+            .appendText(" edits: ");
+        diff.appendTo(mismatch);
+      }
+    }
   }
 
   /**
    * Matches a Vavr {@link Traversable} whose elements all match the supplied element matcher.
    *
+   * The mismatch description reports the total number of non-matching elements and the first
+   * {@value #DEFAULT_REPORTED_FAILURES} of them.
+   *
    * @param matcher The element matcher.
    */
   public static <E, T extends Traversable<E>> Matcher<T> allMatch(Matcher<E> matcher) {
-    return new TypeSafeMatcher<T>() {
-      @Override
-      protected boolean matchesSafely(T t) {
-        return t.forAll(matcher::matches);
+    return allMatch(matcher, DEFAULT_REPORTED_FAILURES);
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} whose elements all match the supplied element matcher.
+   *
+   * The element matcher is evaluated once per element: the evaluation that determines the match
+   * also records the number of non-matching elements and the first {@code maxReported} of them
+   * with their indices, and the mismatch description reuses that record. Traversables without a
+   * definite size are only evaluated until {@code maxReported} non-matching elements were found.
+   *
+   * @param matcher     The element matcher.
+   * @param maxReported The maximum number of non-matching elements to report, or
+   *                    {@link Integer#MAX_VALUE} to report all of them.
+   * @throws IllegalArgumentException If {@code maxReported} is negative.
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> allMatch(Matcher<E> matcher,
+                                                                  int maxReported) {
+    if (maxReported < 0) {
+      throw new IllegalArgumentException(
+          "maxReported must not be negative, but was " + maxReported);
+    }
+    return new AllMatch<>(matcher, maxReported);
+  }
+
+  private static final class AllMatch<E, T extends Traversable<E>> extends InstrumentedMatcher<T> {
+    private final Matcher<E> matcher;
+    private final int maxReported;
+    private volatile FailureRecord<E> last;
+
+    private AllMatch(Matcher<E> matcher, int maxReported) {
+      super(Traversable.class, "CollectionMatchers.allMatch");
+      this.matcher = matcher;
+      this.maxReported = maxReported;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return findFailures(t).isEmpty();
+    }
+
+    @Override
+    Predicate<T> compile() {
+      final Predicate<E> predicate = MatcherPredicates.compile(matcher);
+      // The same traversal as evaluate(), stopping at the first non-matching element.
+      return guard(t -> indexWhere(t, Integer.MAX_VALUE, predicate.negate()) < 0);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("All elements should match: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final FailureRecord<E> failures = (last != null && last.isFor(t)) ? last : findFailures(t);
+
+      mismatch
+          .appendText("All elements should match '")
+          .appendDescriptionOf(matcher)
+          .appendText("' but ");
+      failures.describeTo(mismatch);
+    }
+
+    private FailureRecord<E> findFailures(T t) {
+      final FailureRecord<E> failures = new FailureRecord<>(t, maxReported);
+      final boolean bounded = !t.hasDefiniteSize();
+      int index = 0;
+
+      for (E element : t) {
+        if (!matcher.matches(element)) {
+          failures.add(index, element);
+
+          // Counting all failures of a potentially infinite traversable would never terminate.
+          if (bounded && failures.isFull()) {
+            failures.stop();
+            index++;
+            break;
+          }
+        }
+        index++;
+      }
+
+      visited(index);
+      last = failures;
+      return failures;
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} whose elements all match the supplied element matcher,
+   * remembering the last {@value #DEFAULT_VERIFIED_VERSIONS} verified collections.
+   *
+   * @param matcher The element matcher.
+   * @see #allMatchIncremental(Matcher, int)
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> allMatchIncremental(Matcher<E> matcher) {
+    return allMatchIncremental(matcher, DEFAULT_VERIFIED_VERSIONS);
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} whose elements all match the supplied element matcher,
+   * only checking the elements that were added since a previously verified version of the
+   * collection.
+   *
+   * The matcher remembers the last {@code verifiedVersions} collections that matched. A
+   * {@link List} whose tail is one of them, e.g. after {@link List#prepend(Object)}, only has its
+   * new head elements checked. Any other {@link Seq} that starts with the elements of one of them,
+   * e.g. a {@link io.vavr.collection.Vector} after {@link Seq#append(Object)}, only has the element
+   * matcher applied to its new elements. The shared prefix is still iterated and compared by
+   * reference, or by value for boxed primitives, so each check of such a sequence takes O(n) time,
+   * only saving the cost of the element matcher on the prefix. Other collections are checked
+   * completely. Create the matcher once and reuse it for every version of the collection.
+   *
+   * The element matcher must be deterministic and the elements immutable, as elements of a
+   * verified version are not checked again. The verified versions are only weakly referenced.
+   *
+   * @param matcher          The element matcher.
+   * @param verifiedVersions The maximum number of verified versions to remember.
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> allMatchIncremental(Matcher<E> matcher,
+                                                                             int verifiedVersions) {
+    return new AllMatchIncremental<>(matcher, verifiedVersions);
+  }
+
+  private static final class AllMatchIncremental<E, T extends Traversable<E>>
+      extends InstrumentedMatcher<T> {
+    private final Matcher<E> matcher;
+    private final VerifiedVersions<Traversable<E>> verified;
+    private final AllMatch<E, T> full;
+
+    private AllMatchIncremental(Matcher<E> matcher, int verifiedVersions) {
+      super(Traversable.class, "CollectionMatchers.allMatchIncremental");
+      this.matcher = matcher;
+      this.verified = new VerifiedVersions<>(verifiedVersions);
+      this.full = new AllMatch<>(matcher, DEFAULT_REPORTED_FAILURES);
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      final boolean matches;
+      if (t instanceof List) {
+        matches = verifyNewHead((List<E>) t, verified.snapshot());
+      } else if (t instanceof Seq && t.hasDefiniteSize()) {
+        matches = verifyNewTail((Seq<E>) t, verified.snapshot());
+      } else {
+        // Without a definite size, the collection cannot be remembered as completely verified.
+        return full.evaluate(t);
+      }
+
+      if (matches) {
+        verified.add(t);
+      }
+      return matches;
+    }
+
+    private boolean verifyNewHead(List<E> list, Object[] known) {
+      int index = 0;
+      try {
+        for (List<E> node = list; !node.isEmpty(); node = node.tail()) {
+          if (VerifiedVersions.contains(known, node)) {
+            return true;
+          }
+          index++;
+          if (!matcher.matches(node.head())) {
+            return false;
+          }
+        }
+        return true;
+      } finally {
+        visited(index);
+      }
+    }
+
+    private boolean verifyNewTail(Seq<E> seq, Object[] known) {
+      Iterator<E> elements = seq.iterator();
+      int compared = 0;
+      final Seq<E> base = longestPrefixCandidate(seq, known);
+      if (base == seq) {
+        return true;
+      }
+      if (base != null) {
+        final Iterator<E> prefix = base.iterator();
+        while (prefix.hasNext() && isSameElement(prefix.next(), elements.next())) {
+          compared++;
+        }
+        if (compared < base.length()) {
+          elements = seq.iterator();
+          compared = 0;
+        }
+      }
+
+      int index = 0;
+      try {
+        while (elements.hasNext()) {
+          index++;
+          if (!matcher.matches(elements.next())) {
+            return false;
+          }
+        }
+        return true;
+      } finally {
+        visited(index);
+      }
+    }
+
+    /**
+     * Checks whether two elements are the same object. Boxed primitives are compared by value, as
+     * vectors of primitives box their elements on every access.
+     */
+    private static boolean isSameElement(Object verified, Object element) {
+      return verified == element || isBoxedPrimitive(verified) && verified.equals(element);
+    }
+
+    private static boolean isBoxedPrimitive(Object value) {
+      if (value instanceof Number) {
+        final Class<?> type = value.getClass();
+        return type == Integer.class || type == Long.class || type == Double.class
+            || type == Float.class || type == Short.class || type == Byte.class;
       }
+      return value instanceof Character || value instanceof Boolean;
+    }
 
-      @Override
-      public void describeTo(Description description) {
-        description
-            .appendText("All elements should match: ")
-            .appendDescriptionOf(matcher);
+    /**
+     * Finds the longest remembered sequence that is not longer than the given sequence.
+     */
+    @SuppressWarnings("unchecked")
+    private Seq<E> longestPrefixCandidate(Seq<E> seq, Object[] known) {
+      final int length = seq.length();
+      Seq<E> candidate = null;
+      for (Object version : known) {
+        if (version instanceof Seq && !(version instanceof List)) {
+          final Seq<E> other = (Seq<E>) version;
+          if (other == seq) {
+            return seq;
+          }
+          final int otherLength = other.length();
+          if (otherLength <= length && (candidate == null || otherLength > candidate.length())) {
+            candidate = other;
+          }
+        }
       }
+      return candidate;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      full.describeTo(description);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      full.explainMismatch(t, mismatch);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} that contains at least one element matching the
+   * supplied matcher, searching the elements in parallel on the common {@link ForkJoinPool}.
+   *
+   * The search is cancelled as soon as a matching element is found. This is useful for large
+   * collections with expensive element matchers, which must be thread-safe. Traversables that are
+   * neither indexed nor of definite size, such as lazy streams, are searched sequentially.
+   *
+   * @param matcher The element matcher.
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> containsAnyInParallel(
+      Matcher<E> matcher) {
+    return containsAnyInParallel(matcher, ForkJoinPool.commonPool());
+  }
 
-      @Override
-      public void describeMismatchSafely(T t, Description mismatch) {
+  /**
+   * Matches a Vavr {@link Traversable} that contains at least one element matching the
+   * supplied matcher, searching the elements in parallel on the given {@link ForkJoinPool}.
+   *
+   * @param matcher The element matcher.
+   * @param pool    The pool to search the elements on.
+   * @see #containsAnyInParallel(Matcher)
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> containsAnyInParallel(
+      Matcher<E> matcher, ForkJoinPool pool) {
+    return new ContainsAnyInParallel<>(matcher, pool);
+  }
+
+  private static final class ContainsAnyInParallel<E, T extends Traversable<E>>
+      extends InstrumentedMatcher<T> {
+    private final Matcher<E> matcher;
+    private final ForkJoinPool pool;
+
+    private ContainsAnyInParallel(Matcher<E> matcher, ForkJoinPool pool) {
+      super(Traversable.class, "CollectionMatchers.containsAnyInParallel");
+      this.matcher = matcher;
+      this.pool = pool;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return ParallelSearch.findAny(t, matcher::matches, pool).isDefined();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("At least one element should match: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      mismatch
+          .appendText("Collection expected to contain a value matching '")
+          .appendDescriptionOf(matcher)
+          .appendText("' but found ");
+      BoundedValueList.appendCollection(mismatch, t);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} whose elements all match the supplied element matcher,
+   * checking the elements in parallel on the common {@link ForkJoinPool}.
+   *
+   * Ranges of elements after an already found counterexample are not checked any further. The
+   * reported counterexample is always the first non-matching element in iteration order. This is
+   * useful for large collections with expensive element matchers, which must be thread-safe.
+   * Traversables that are neither indexed nor of definite size, such as lazy streams, are checked
+   * sequentially.
+   *
+   * @param matcher The element matcher.
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> allMatchInParallel(Matcher<E> matcher) {
+    return allMatchInParallel(matcher, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} whose elements all match the supplied element matcher,
+   * checking the elements in parallel on the given {@link ForkJoinPool}.
+   *
+   * @param matcher The element matcher.
+   * @param pool    The pool to check the elements on.
+   * @see #allMatchInParallel(Matcher)
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> allMatchInParallel(Matcher<E> matcher,
+                                                                            ForkJoinPool pool) {
+    return new AllMatchInParallel<>(matcher, pool);
+  }
+
+  private static final class AllMatchInParallel<E, T extends Traversable<E>>
+      extends InstrumentedMatcher<T> {
+    private final Matcher<E> matcher;
+    private final ForkJoinPool pool;
+    private volatile FailureRecord<E> last;
+
+    private AllMatchInParallel(Matcher<E> matcher, ForkJoinPool pool) {
+      super(Traversable.class, "CollectionMatchers.allMatchInParallel");
+      this.matcher = matcher;
+      this.pool = pool;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return findFailure(t).isEmpty();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("All elements should match: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final FailureRecord<E> failure = (last != null && last.isFor(t)) ? last : findFailure(t);
+
+      mismatch
+          .appendText("All elements should match '")
+          .appendDescriptionOf(matcher)
+          .appendText("' but ");
+      failure.describeTo(mismatch);
+    }
+
+    /**
+     * Records the first non-matching element, after which the search stops.
+     */
+    private FailureRecord<E> findFailure(T t) {
+      final FailureRecord<E> failure = new FailureRecord<>(t, 1);
+      ParallelSearch.findFirst(t, e -> !matcher.matches(e), pool).forEach(element -> {
+        failure.add(element._2, element._1);
+        failure.stop();
+      });
+      last = failure;
+      return failure;
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} whose elements all match the supplied element matcher,
+   * checking only a random sample of the elements with a random seed.
+   *
+   * The seed is chosen when the matcher is created and stated in its description, so a failure
+   * can be replayed with {@link #allMatchSampled(Matcher, double, double, long)}.
+   *
+   * @param matcher        The element matcher.
+   * @param confidence     The probability of detecting non-matching elements, in (0, 1).
+   * @param maxFailureRate The fraction of non-matching elements that is detected with the given
+   *                       confidence, in (0, 1).
+   * @see #allMatchSampled(Matcher, double, double, long)
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> allMatchSampled(Matcher<E> matcher,
+                                                                         double confidence,
+                                                                         double maxFailureRate) {
+    return allMatchSampled(matcher, confidence, maxFailureRate, randomSeed());
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} whose elements all match the supplied element matcher,
+   * checking only a random sample of the elements.
+   *
+   * The sample is just large enough that, if at least {@code maxFailureRate} of the elements do
+   * not match, the sample contains one of them with the given {@code confidence}, e.g. 459
+   * elements for a confidence of 0.99 and a rate of 0.01, regardless of the size of the
+   * collection. Smaller collections are checked completely. Indexed sequences such as
+   * {@link io.vavr.collection.Vector} only access the sampled elements, all other traversables are
+   * traversed once and must be finite. The same seed always checks the same elements.
+   *
+   * @param matcher        The element matcher.
+   * @param confidence     The probability of detecting non-matching elements, in (0, 1).
+   * @param maxFailureRate The fraction of non-matching elements that is detected with the given
+   *                       confidence, in (0, 1).
+   * @param seed           The seed of the random sample.
+   * @throws IllegalArgumentException If the confidence or the rate is not in (0, 1).
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> allMatchSampled(Matcher<E> matcher,
+                                                                         double confidence,
+                                                                         double maxFailureRate,
+                                                                         long seed) {
+    return new AllMatchSampled<>(matcher, confidence, maxFailureRate, seed);
+  }
+
+  private static final class AllMatchSampled<E, T extends Traversable<E>>
+      extends InstrumentedMatcher<T> {
+    private final Matcher<E> matcher;
+    private final double confidence;
+    private final double rate;
+    private final int sampleSize;
+    private final long seed;
+    private volatile Tuple2<FailureRecord<E>, Integer> last;
+
+    private AllMatchSampled(Matcher<E> matcher, double confidence, double rate, long seed) {
+      super(Traversable.class, "CollectionMatchers.allMatchSampled");
+      this.matcher = matcher;
+      this.confidence = confidence;
+      this.rate = rate;
+      this.sampleSize = RandomSample.sizeFor(confidence, rate);
+      this.seed = seed;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return findFailures(t)._1.isEmpty();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("All elements should match: ")
+          .appendDescriptionOf(matcher);
+      describeSample(description, sampleSize, seed,
+          "at least " + percent(rate) + " non-matching elements", confidence);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final Tuple2<FailureRecord<E>, Integer> result = last;
+      final Tuple2<FailureRecord<E>, Integer> failures =
+          (result != null && result._1.isFor(t)) ? result : findFailures(t);
+
+      mismatch
+          .appendText("All elements should match '")
+          .appendDescriptionOf(matcher)
+          .appendText("' but ");
+      failures._1.describeTo(mismatch);
+      mismatch.appendText(" among " + failures._2 + " sampled elements (seed " + seed + ")");
+    }
+
+    private Tuple2<FailureRecord<E>, Integer> findFailures(T t) {
+      final FailureRecord<E> failures = new FailureRecord<>(t, DEFAULT_REPORTED_FAILURES);
+      int checked = 0;
+      for (Tuple2<E, Integer> element : RandomSample.of(t, sampleSize, seed)) {
+        if (!matcher.matches(element._1)) {
+          failures.add(element._2, element._1);
+        }
+        checked++;
+      }
+
+      final Tuple2<FailureRecord<E>, Integer> result = Tuple.of(failures, checked);
+      last = result;
+      return result;
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} that contains at least one element matching the
+   * supplied matcher, searching only a random sample of the elements with a random seed.
+   *
+   * The seed is chosen when the matcher is created and stated in its description, so a failure
+   * can be replayed with {@link #containsAnySampled(Matcher, double, double, long)}.
+   *
+   * @param matcher      The element matcher.
+   * @param confidence   The probability of finding a matching element, in (0, 1).
+   * @param minMatchRate The fraction of matching elements that is found with the given
+   *                     confidence, in (0, 1).
+   * @see #containsAnySampled(Matcher, double, double, long)
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> containsAnySampled(Matcher<E> matcher,
+                                                                            double confidence,
+                                                                            double minMatchRate) {
+    return containsAnySampled(matcher, confidence, minMatchRate, randomSeed());
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} that contains at least one element matching the
+   * supplied matcher, searching only a random sample of the elements.
+   *
+   * The sample is just large enough that, if at least {@code minMatchRate} of the elements match,
+   * the sample contains one of them with the given {@code confidence}. A collection in which
+   * fewer elements match may therefore be reported as a mismatch. Sampling works as described
+   * for {@link #allMatchSampled(Matcher, double, double, long)}.
+   *
+   * @param matcher      The element matcher.
+   * @param confidence   The probability of finding a matching element, in (0, 1).
+   * @param minMatchRate The fraction of matching elements that is found with the given
+   *                     confidence, in (0, 1).
+   * @param seed         The seed of the random sample.
+   * @throws IllegalArgumentException If the confidence or the rate is not in (0, 1).
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> containsAnySampled(Matcher<E> matcher,
+                                                                            double confidence,
+                                                                            double minMatchRate,
+                                                                            long seed) {
+    return new ContainsAnySampled<>(matcher, confidence, minMatchRate, seed);
+  }
+
+  private static final class ContainsAnySampled<E, T extends Traversable<E>>
+      extends InstrumentedMatcher<T> {
+    private final Matcher<E> matcher;
+    private final double confidence;
+    private final double rate;
+    private final int sampleSize;
+    private final long seed;
+
+    private ContainsAnySampled(Matcher<E> matcher, double confidence, double rate, long seed) {
+      super(Traversable.class, "CollectionMatchers.containsAnySampled");
+      this.matcher = matcher;
+      this.confidence = confidence;
+      this.rate = rate;
+      this.sampleSize = RandomSample.sizeFor(confidence, rate);
+      this.seed = seed;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      for (Tuple2<E, Integer> element : RandomSample.of(t, sampleSize, seed)) {
+        if (matcher.matches(element._1)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("At least one element should match: ")
+          .appendDescriptionOf(matcher);
+      describeSample(description, sampleSize, seed,
+          "at least " + percent(rate) + " matching elements", confidence);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      // A traversable with at most sampleSize elements is sampled completely.
+      final int sampled = Math.min(sampleSize, t.size());
+      mismatch
+          .appendText("Collection expected to contain a value matching '")
+          .appendDescriptionOf(matcher)
+          .appendText("' but none of " + sampled + " sampled elements (seed " + seed
+              + ") matched");
+    }
+  }
+
+  private static long randomSeed() {
+    return ThreadLocalRandom.current().nextLong();
+  }
+
+  private static void describeSample(Description description, int sampleSize, long seed,
+                                     String detected, double confidence) {
+    description.appendText(" (checked on a random sample of " + sampleSize + " elements with seed "
+        + seed + ", which finds " + detected + " with " + percent(confidence) + " confidence)");
+  }
+
+  private static String percent(double fraction) {
+    return BigDecimal.valueOf(fraction * 100).stripTrailingZeros().toPlainString() + "%";
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} with at least the given number of elements.
+   *
+   * At most {@code size} elements of the traversable are evaluated, which makes this matcher
+   * safe to use on infinite or expensive {@link io.vavr.collection.Stream} instances.
+   *
+   * @param size The minimum number of elements.
+   */
+  public static <T extends Traversable> Matcher<T> hasSizeAtLeast(int size) {
+    return new HasSizeAtLeast<>(size);
+  }
+
+  private static final class HasSizeAtLeast<T extends Traversable> extends InstrumentedMatcher<T> {
+    private final int size;
+
+    private HasSizeAtLeast(int size) {
+      super(Traversable.class, "CollectionMatchers.hasSizeAtLeast");
+      this.size = size;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return boundedSize(t, size) >= size;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Collection should have at least ")
+          .appendValue(size)
+          .appendText(" elements");
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      mismatch.appendText("Collection should have at least ")
+          .appendValue(size)
+          .appendText(" elements but actually has size ")
+          .appendValue(boundedSize(t, size));
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} with at most the given number of elements.
+   *
+   * At most {@code size + 1} elements of the traversable are evaluated, which makes this matcher
+   * safe to use on infinite or expensive {@link io.vavr.collection.Stream} instances.
+   *
+   * @param size The maximum number of elements.
+   */
+  public static <T extends Traversable> Matcher<T> hasSizeAtMost(int size) {
+    return new HasSizeAtMost<>(size);
+  }
+
+  private static final class HasSizeAtMost<T extends Traversable> extends InstrumentedMatcher<T> {
+    private final int size;
+
+    private HasSizeAtMost(int size) {
+      super(Traversable.class, "CollectionMatchers.hasSizeAtMost");
+      this.size = size;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return boundedSize(t, oneMore(size)) <= size;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Collection should have at most ")
+          .appendValue(size)
+          .appendText(" elements");
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      mismatch.appendText("Collection should have at most ")
+          .appendValue(size)
+          .appendText(" elements");
+
+      if (t.hasDefiniteSize()) {
+        mismatch.appendText(" but actually has size ").appendValue(t.size());
+      } else {
+        mismatch.appendText(" but actually has more");
+      }
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} whose first elements are equal to the expected elements.
+   *
+   * At most as many elements of the traversable as there are expected elements are evaluated.
+   *
+   * @param prefix The expected first elements.
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> startsWith(Traversable<E> prefix) {
+    return new StartsWith<>(prefix);
+  }
+
+  private static final class StartsWith<E, T extends Traversable<E>>
+      extends InstrumentedMatcher<T> {
+    private final Traversable<E> prefix;
+
+    private StartsWith(Traversable<E> prefix) {
+      super(Traversable.class, "CollectionMatchers.startsWith");
+      this.prefix = prefix;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return prefixMismatch(t, prefix) < 0;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Collection should start with: ");
+      BoundedValueList.appendValueList(description, "[", ",", "]", prefix);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final int index = prefixMismatch(t, prefix);
+      final Iterator<E> elements = t.iterator().drop(index);
+
+      mismatch.appendText("Collection should start with ");
+      BoundedValueList.appendValueList(mismatch, "[", ",", "]", prefix);
+
+      if (elements.hasNext()) {
+        mismatch.appendText(" but element at index ")
+            .appendValue(index)
+            .appendText(" was ")
+            .appendText(BoundedValueList.describeValue(elements.next()));
+      } else {
+        mismatch.appendText(" but only has ")
+            .appendValue(index)
+            .appendText(" elements");
+      }
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} whose first {@code count} elements all match the supplied
+   * element matcher. Traversables with fewer elements match if all of their elements match.
+   *
+   * At most {@code count} elements of the traversable are evaluated.
+   *
+   * @param count   The number of elements to check.
+   * @param matcher The element matcher.
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> allMatchInFirst(int count,
+                                                                         Matcher<E> matcher) {
+    return new AllMatchInFirst<>(count, matcher);
+  }
+
+  private static final class AllMatchInFirst<E, T extends Traversable<E>>
+      extends InstrumentedMatcher<T> {
+    private final int count;
+    private final Matcher<E> matcher;
+
+    private AllMatchInFirst(int count, Matcher<E> matcher) {
+      super(Traversable.class, "CollectionMatchers.allMatchInFirst");
+      this.count = count;
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return indexWhere(t, count, e -> !matcher.matches(e)) < 0;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("The first ")
+          .appendValue(count)
+          .appendText(" elements should match: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final Option<Tuple2<E, Integer>> element = t.iterator()
+          .take(count)
+          .zipWithIndex()
+          .find(e -> !matcher.matches(e._1));
+      if (element.isEmpty()) {
         mismatch
-            .appendText("All elements should match '")
+            .appendText("The first ")
+            .appendValue(count)
+            .appendText(" elements matched '")
             .appendDescriptionOf(matcher)
-            .appendText("' but found non-matching elements: ");
+            .appendText("'");
+        return;
+      }
+
+      mismatch
+          .appendText("The first ")
+          .appendValue(count)
+          .appendText(" elements should match '")
+          .appendDescriptionOf(matcher)
+          .appendText("' but element at index ")
+          .appendValue(element.get()._2)
+          .appendText(" was ")
+          .appendText(BoundedValueList.describeValue(element.get()._1));
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} that contains an element matching the supplied matcher
+   * within its first {@code count} elements.
+   *
+   * At most {@code count} elements of the traversable are evaluated.
+   *
+   * @param count   The number of elements to search.
+   * @param matcher The element matcher.
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> containsAnyWithin(int count,
+                                                                           Matcher<E> matcher) {
+    return new ContainsAnyWithin<>(count, matcher);
+  }
+
+  private static final class ContainsAnyWithin<E, T extends Traversable<E>>
+      extends InstrumentedMatcher<T> {
+    private final int count;
+    private final Matcher<E> matcher;
+
+    private ContainsAnyWithin(int count, Matcher<E> matcher) {
+      super(Traversable.class, "CollectionMatchers.containsAnyWithin");
+      this.count = count;
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return indexWhere(t, count, matcher::matches) >= 0;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("At least one of the first ")
+          .appendValue(count)
+          .appendText(" elements should match: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      mismatch
+          .appendText("Collection expected to contain a value matching '")
+          .appendDescriptionOf(matcher)
+          .appendText("' within the first ")
+          .appendValue(count)
+          .appendText(" elements but found ");
+      BoundedValueList.appendValueList(mismatch, "[", ",", "]", t.iterator().take(count));
+    }
+  }
 
-        mismatch.appendValueList("[", ",", "]", t.filter(e -> !matcher.matches(e)).toJavaList());
+  /**
+   * Matches a Vavr {@link Traversable} whose elements are all distinct.
+   *
+   * The elements are evaluated in a single pass that stops at the first repeated element.
+   * Elements are compared using {@link Object#equals(Object)}, and {@link Integer} or
+   * {@link Long} elements are indexed without boxing them a second time.
+   */
+  @SuppressWarnings("unchecked")
+  public static <E, T extends Traversable<E>> Matcher<T> hasNoDuplicates() {
+    return (Matcher) HAS_NO_DUPLICATES;
+  }
+
+  private static final class HasNoDuplicates<E, T extends Traversable<E>>
+      extends InstrumentedMatcher<T> {
+    private volatile Duplicate<E> last;
+
+    private HasNoDuplicates() {
+      super(Traversable.class, "CollectionMatchers.hasNoDuplicates");
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return !(last = findDuplicate(t, element -> element, element -> true)).isFound();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Collection should not contain duplicate elements");
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final Duplicate<E> duplicate = (last != null && last.isFor(t))
+          ? last : findDuplicate(t, element -> element, element -> true);
+      mismatch
+          .appendText("found duplicate ")
+          .appendValue(duplicate.element)
+          .appendText(" at indices ")
+          .appendValue(duplicate.first)
+          .appendText(" and ")
+          .appendValue(duplicate.index);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} in which an element matching the supplied matcher occurs
+   * more than once.
+   *
+   * The elements are evaluated in a single pass that stops at the first repeated matching
+   * element.
+   *
+   * @param matcher The element matcher.
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> hasDuplicatesOf(Matcher<E> matcher) {
+    return new HasDuplicatesOf<>(matcher);
+  }
+
+  private static final class HasDuplicatesOf<E, T extends Traversable<E>>
+      extends InstrumentedMatcher<T> {
+    private final Matcher<E> matcher;
+
+    private HasDuplicatesOf(Matcher<E> matcher) {
+      super(Traversable.class, "CollectionMatchers.hasDuplicatesOf");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return findDuplicate(t, element -> element, matcher::matches).isFound();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("An element matching '")
+          .appendDescriptionOf(matcher)
+          .appendText("' should occur more than once");
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      mismatch
+          .appendText("no element matching '")
+          .appendDescriptionOf(matcher)
+          .appendText("' occurs more than once");
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} whose elements all have distinct keys.
+   *
+   * The elements are evaluated in a single pass that stops at the first repeated key. Keys are
+   * compared using {@link Object#equals(Object)}, and {@link Integer} or {@link Long} keys are
+   * indexed without boxing them a second time.
+   *
+   * @param key Extracts the key of an element.
+   */
+  public static <E, K, T extends Traversable<E>> Matcher<T> isDistinctBy(
+      Function<? super E, ? extends K> key) {
+    return new IsDistinctBy<>(key);
+  }
+
+  private static final class IsDistinctBy<E, K, T extends Traversable<E>>
+      extends InstrumentedMatcher<T> {
+    private final Function<? super E, ? extends K> key;
+    private volatile Duplicate<E> last;
+
+    private IsDistinctBy(Function<? super E, ? extends K> key) {
+      super(Traversable.class, "CollectionMatchers.isDistinctBy");
+      this.key = key;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return !(last = findDuplicate(t, key, element -> true)).isFound();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Collection elements should have distinct keys");
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final Duplicate<E> duplicate =
+          (last != null && last.isFor(t)) ? last : findDuplicate(t, key, element -> true);
+      mismatch
+          .appendValue(duplicate.element)
+          .appendText(" at index ")
+          .appendValue(duplicate.index)
+          .appendText(" has the same key ")
+          .appendValue(key.apply(duplicate.element))
+          .appendText(" as the element at index ")
+          .appendValue(duplicate.first);
+    }
+  }
+
+  /**
+   * Counts the elements of a traversable, but evaluates at most {@code limit} elements of
+   * traversables that do not have a definite size.
+   *
+   * @return The size of the traversable or {@code limit} if it has at least {@code limit}
+   * elements and no definite size.
+   */
+  private static int boundedSize(Traversable<?> t, int limit) {
+    if (t.hasDefiniteSize()) {
+      return t.size();
+    }
+
+    final java.util.Iterator<?> elements = t.iterator();
+    int size = 0;
+    while (size < limit && elements.hasNext()) {
+      elements.next();
+      size++;
+    }
+    InstrumentedMatcher.visited(size);
+    return size;
+  }
+
+  /**
+   * Returns the number of elements to evaluate to tell a traversable with {@code size} elements
+   * from a longer one, without overflowing for {@link Integer#MAX_VALUE}.
+   */
+  private static int oneMore(int size) {
+    return size == Integer.MAX_VALUE ? size : size + 1;
+  }
+
+  /**
+   * Compares a traversable with an expected prefix, evaluating at most as many elements as the
+   * prefix has.
+   *
+   * @return The index of the first element that differs, or {@code -1} if the traversable starts
+   * with the prefix.
+   */
+  private static <E> int prefixMismatch(Traversable<E> t, Traversable<E> prefix) {
+    final java.util.Iterator<E> elements = t.iterator();
+    int index = 0;
+    for (E expected : prefix) {
+      if (!elements.hasNext()) {
+        InstrumentedMatcher.visited(index);
+        return index;
+      }
+      if (!Objects.equals(elements.next(), expected)) {
+        InstrumentedMatcher.visited(index + 1);
+        return index;
+      }
+      index++;
+    }
+    InstrumentedMatcher.visited(index);
+    return -1;
+  }
+
+  /**
+   * Finds the first element whose key was already seen at an earlier element, considering only
+   * the elements for which the filter holds.
+   */
+  private static <E> Duplicate<E> findDuplicate(
+      Traversable<E> t, Function<? super E, ?> key, Predicate<? super E> filter) {
+    final SeenKeys seen = new SeenKeys();
+    int index = 0;
+    for (E element : t) {
+      if (filter.test(element)) {
+        final int first = seen.add(key.apply(element), index);
+        if (first >= 0) {
+          InstrumentedMatcher.visited(index + 1);
+          return new Duplicate<>(t, element, first, index);
+        }
+      }
+      index++;
+    }
+    InstrumentedMatcher.visited(index);
+    return new Duplicate<>(t, null, -1, -1);
+  }
+
+  /**
+   * The first repeated element found in a traversable, kept so that the mismatch description
+   * does not search the traversable again.
+   */
+  private static final class Duplicate<E> {
+    private final WeakReference<Object> actual;
+    private final E element;
+    private final int first;
+    private final int index;
+
+    /**
+     * @param actual  The searched traversable. It is only weakly referenced.
+     * @param element The repeated element.
+     * @param first   The index of the earlier element with the same key, or -1 if there is none.
+     * @param index   The index of the repeated element, or -1 if there is none.
+     */
+    private Duplicate(Object actual, E element, int first, int index) {
+      this.actual = new WeakReference<>(actual);
+      this.element = element;
+      this.first = first;
+      this.index = index;
+    }
+
+    private boolean isFor(Object t) {
+      return actual.get() == t;
+    }
+
+    private boolean isFound() {
+      return index >= 0;
+    }
+  }
+
+  /**
+   * Returns the index of the first element for which the predicate holds, evaluating at most
+   * {@code limit} elements.
+   *
+   * @return The index of the element, or {@code -1} if there is no such element.
+   */
+  private static <E> int indexWhere(Traversable<E> t, int limit, Predicate<? super E> predicate) {
+    final java.util.Iterator<E> elements = t.iterator();
+    int index = 0;
+    while (index < limit && elements.hasNext()) {
+      if (predicate.test(elements.next())) {
+        InstrumentedMatcher.visited(index + 1);
+        return index;
       }
-    };
+      index++;
+    }
+    InstrumentedMatcher.visited(index);
+    return -1;
   }
 }
@@ -2,171 +2,447 @@ package in.tazj.vavr.matchers;
 
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
-import org.hamcrest.TypeSafeMatcher;
 import org.hamcrest.core.IsAnything;
 
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Traversable;
 import io.vavr.control.Either;
 import io.vavr.control.Either.Left;
 import io.vavr.control.Either.Right;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
+import io.vavr.control.Validation;
+
+import static org.hamcrest.Matchers.is;
 
 /**
  * Provides Hamcrest matchers for types from Vavr's control package.
  */
 public class ControlMatchers {
+  private static final Matcher<Option<Object>> IS_DEFINED = new IsDefined<>(new IsAnything<>());
+  private static final Matcher<Option> IS_EMPTY = new IsEmpty();
+  private static final Matcher<Try<Object>> IS_SUCCESS = new IsSuccess<>(new IsAnything<>());
+  private static final Matcher<Try> IS_FAILURE = new IsFailure();
+  private static final Matcher<Either<Object, Object>> IS_RIGHT =
+      new IsRight<>(new IsAnything<>());
+  private static final Matcher<Either<Object, Object>> IS_LEFT =
+      new IsLeft<>(new IsAnything<>());
+  private static final Matcher<Validation<Object, Object>> IS_VALID =
+      new IsValid<>(new IsAnything<>());
+  private static final Matcher<Validation<Object, Object>> IS_INVALID =
+      new IsInvalid<>(new IsAnything<>());
+  private static final Matcher<Traversable<? extends Validation<?, ?>>> ALL_VALID =
+      new AllValid();
+
   /**
    * Matches a Vavr {@link Option} that has a matching defined value.
    */
   public static <T> Matcher<Option<T>> isDefined(Matcher<T> matcher) {
-    return new TypeSafeMatcher<Option<T>>() {
-      @Override
-      protected boolean matchesSafely(Option<T> ts) {
-        return ts.map(matcher::matches).getOrElse(false);
-      }
+    return new IsDefined<>(matcher);
+  }
 
-      @Override
-      public void describeTo(Description description) {
-        description
-            .appendValue("Option that contains value matching ")
-            .appendDescriptionOf(matcher);
-      }
+  private static final class IsDefined<T> extends InstrumentedMatcher<Option<T>> {
+    private final Matcher<T> matcher;
 
-      @Override
-      public void describeMismatchSafely(Option<T> option, Description mismatch) {
-        if (option.isEmpty()) {
-          mismatch.appendText("No value was defined");
-        } else {
-          option.forEach(value -> matcher.describeMismatch(value, mismatch));
-        }
+    private IsDefined(Matcher<T> matcher) {
+      super(Option.class, "ControlMatchers.isDefined");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(Option<T> ts) {
+      return ts.map(matcher::matches).getOrElse(false);
+    }
+
+    @Override
+    Predicate<Option<T>> compile() {
+      final Predicate<T> predicate = MatcherPredicates.compile(matcher);
+      return guard(option -> option.isDefined() && predicate.test(option.get()));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendValue("Option that contains value matching ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(Option<T> option, Description mismatch) {
+      if (option.isEmpty()) {
+        mismatch.appendText("No value was defined");
+      } else {
+        option.forEach(value -> matcher.describeMismatch(value, mismatch));
       }
-    };
+    }
   }
 
   /**
    * Matches a Vavr {@link Option} that has any defined value.
    */
+  @SuppressWarnings("unchecked")
   public static <T> Matcher<Option<T>> isDefined() {
-    return isDefined(new IsAnything<T>());
+    return (Matcher) IS_DEFINED;
   }
 
   /**
    * Matches a Vavr {@link Option} that has no defined value.
    */
   public static Matcher<Option> isEmpty() {
-    return new TypeSafeMatcher<Option>() {
-      @Override
-      protected boolean matchesSafely(Option option) {
-        return option.isEmpty();
-      }
+    return IS_EMPTY;
+  }
 
-      @Override
-      public void describeTo(Description description) {
-        description.appendText("Optional value should not be defined");
-      }
+  private static final class IsEmpty extends InstrumentedMatcher<Option> {
+    private IsEmpty() {
+      super(Option.class, "ControlMatchers.isEmpty");
+    }
 
-      @Override
-      public void describeMismatchSafely(Option option, Description mismatch) {
-        mismatch.appendText("Expected empty Option but found ").appendValue(option.get());
-      }
-    };
+    @Override
+    protected boolean evaluate(Option option) {
+      return option.isEmpty();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Optional value should not be defined");
+    }
+
+    @Override
+    public void explainMismatch(Option option, Description mismatch) {
+      mismatch.appendText("Expected empty Option but found ").appendValue(option.get());
+    }
   }
 
   /**
    * Matches the value of a Vavr {@link Try} that succeeded.
    */
   public static <T> Matcher<Try<T>> isSuccess(Matcher<T> matcher) {
-    return new TypeSafeMatcher<Try<T>>() {
-      @Override
-      protected boolean matchesSafely(Try<T> ts) {
-        return ts.map(matcher::matches).getOrElse(false);
-      }
-
-      @Override
-      public void describeTo(Description description) {
-        description
-            .appendText("Successful Try should contain value that matches: ")
-            .appendDescriptionOf(matcher);
-      }
-
-      @Override
-      public void describeMismatchSafely(Try<T> aTry, Description mismatch) {
-        if (aTry.isFailure()) {
-          mismatch.appendText("Expected success but got ").appendValue(aTry.getCause());
-        } else {
-          mismatch
-              .appendText("Expected successful Try value matching '")
-              .appendDescriptionOf(matcher)
-              .appendText("' but ");
-
-          matcher.describeMismatch(aTry.get(), mismatch);
-        }
+    return new IsSuccess<>(matcher);
+  }
+
+  private static final class IsSuccess<T> extends InstrumentedMatcher<Try<T>> {
+    private final Matcher<T> matcher;
+
+    private IsSuccess(Matcher<T> matcher) {
+      super(Try.class, "ControlMatchers.isSuccess");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(Try<T> ts) {
+      return ts.map(matcher::matches).getOrElse(false);
+    }
+
+    @Override
+    Predicate<Try<T>> compile() {
+      final Predicate<T> predicate = MatcherPredicates.compile(matcher);
+      return guard(aTry -> aTry.isSuccess() && predicate.test(aTry.get()));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("Successful Try should contain value that matches: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(Try<T> aTry, Description mismatch) {
+      if (aTry.isFailure()) {
+        mismatch.appendText("Expected success but got ").appendValue(aTry.getCause());
+      } else {
+        mismatch
+            .appendText("Expected successful Try value matching '")
+            .appendDescriptionOf(matcher)
+            .appendText("' but ");
+
+        matcher.describeMismatch(aTry.get(), mismatch);
       }
-    };
+    }
   }
 
   /**
    * Matches a Vavr {@link Try} that succeeded.
    */
+  @SuppressWarnings("unchecked")
   public static <T> Matcher<Try<T>> isSuccess() {
-    return isSuccess(new IsAnything<T>());
+    return (Matcher) IS_SUCCESS;
   }
 
   /**
    * Matches a Vavr {@link Try} that failed.
    */
   public static Matcher<Try> isFailure() {
-    return new TypeSafeMatcher<Try>() {
-      @Override
-      protected boolean matchesSafely(Try aTry) {
-        return aTry.isFailure();
-      }
+    return IS_FAILURE;
+  }
 
-      @Override
-      public void describeTo(Description description) {
-        description.appendText("unsuccessful Try");
+  private static final class IsFailure extends InstrumentedMatcher<Try> {
+    private IsFailure() {
+      super(Try.class, "ControlMatchers.isFailure");
+    }
+
+    @Override
+    protected boolean evaluate(Try aTry) {
+      return aTry.isFailure();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("unsuccessful Try");
+    }
+
+    public void explainMismatch(Try aTry, Description mismatch) {
+      mismatch
+          .appendText("Try should not have succeeded, but was ")
+          .appendValue(aTry);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Try} that failed with an expected exception type.
+   *
+   * @param clazz The expected exception type.
+   */
+  public static <E extends Throwable> Matcher<Try> hasFailedWith(Class<E> clazz) {
+    return new HasFailedWith<>(clazz);
+  }
+
+  private static final class HasFailedWith<E extends Throwable> extends InstrumentedMatcher<Try> {
+    private final Class<E> clazz;
+
+    private HasFailedWith(Class<E> clazz) {
+      super(Try.class, "ControlMatchers.hasFailedWith");
+      this.clazz = clazz;
+    }
+
+    @Override
+    protected boolean evaluate(Try aTry) {
+      if (aTry.isFailure()) {
+        return (aTry.getCause().getClass().equals(clazz));
       }
+      return false;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Try should have failed with ").appendText(clazz.getName());
+    }
+
+    @Override
+    public void explainMismatch(Try aTry, Description mismatch) {
+      aTry.onFailure(cause -> mismatch
+          .appendText("Failure type is ")
+          .appendText(cause.getClass().getSimpleName())
+          .appendText(" but expected ")
+          .appendText(clazz.getSimpleName()));
+      aTry.onSuccess(val -> mismatch
+          .appendText("Expected failure, but found successful Try with value: ")
+          .appendValue(val));
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Try} that failed with an instance of the expected exception type or one
+   * of its subtypes.
+   *
+   * Whether an exception class is a subtype of the expected type is determined once per class and
+   * cached, which makes this matcher cheap to evaluate on many failures.
+   *
+   * @param clazz The expected exception type.
+   */
+  public static <E extends Throwable> Matcher<Try> hasFailedWithInstanceOf(Class<E> clazz) {
+    return new HasFailedWithInstanceOf<>(clazz);
+  }
+
+  private static final class HasFailedWithInstanceOf<E extends Throwable>
+      extends InstrumentedMatcher<Try> {
+    private final Class<E> clazz;
+    private final SubtypeCache subtypes;
+
+    private HasFailedWithInstanceOf(Class<E> clazz) {
+      super(Try.class, "ControlMatchers.hasFailedWithInstanceOf");
+      this.clazz = clazz;
+      this.subtypes = SubtypeCache.of(clazz);
+    }
+
+    @Override
+    protected boolean evaluate(Try aTry) {
+      return aTry.isFailure() && subtypes.isInstance(aTry.getCause());
+    }
 
-      public void describeMismatchSafely(Try aTry, Description mismatch) {
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Try should have failed with an instance of ")
+          .appendText(clazz.getName());
+    }
+
+    @Override
+    public void explainMismatch(Try aTry, Description mismatch) {
+      if (aTry.isFailure()) {
         mismatch
-            .appendText("Try should not have succeeded, but was ")
-            .appendValue(aTry);
+            .appendText("Failure type is ")
+            .appendText(aTry.getCause().getClass().getSimpleName())
+            .appendText(" but expected an instance of ")
+            .appendText(clazz.getSimpleName());
+      } else {
+        describeSuccess(aTry, mismatch);
       }
-    };
+    }
   }
 
   /**
-   * Matches a Vavr {@link Try} that failed with an expected exception type.
+   * Matches a Vavr {@link Try} whose failure, or one of the causes of its failure, is an instance
+   * of the expected exception type, e.g. an exception wrapped in an
+   * {@link java.util.concurrent.ExecutionException}.
    *
    * @param clazz The expected exception type.
+   * @see #hasFailedWithCause(Matcher)
    */
-  public static <E extends Throwable> Matcher<Try> hasFailedWith(Class<E> clazz) {
-    return new TypeSafeMatcher<Try>() {
-      @Override
-      protected boolean matchesSafely(Try aTry) {
-        if (aTry.isFailure()) {
-          return (aTry.getCause().getClass().equals(clazz));
-        }
+  public static <E extends Throwable> Matcher<Try> hasFailedWithCause(Class<E> clazz) {
+    final SubtypeCache subtypes = SubtypeCache.of(clazz);
+    return new HasFailedWithCause(subtypes::isInstance,
+        description -> description.appendText("an instance of ").appendText(clazz.getName()));
+  }
+
+  /**
+   * Matches a Vavr {@link Try} whose failure, or one of the causes of its failure, matches the
+   * supplied matcher.
+   *
+   * The cause chain is followed until the matcher matches or the chain ends. A chain that
+   * contains a cycle is followed until the cycle is detected, without allocating memory.
+   *
+   * @param matcher The matcher for the failure or one of its causes.
+   */
+  public static Matcher<Try> hasFailedWithCause(Matcher<? super Throwable> matcher) {
+    return new HasFailedWithCause(matcher::matches,
+        description -> description.appendDescriptionOf(matcher));
+  }
+
+  private static final class HasFailedWithCause extends InstrumentedMatcher<Try> {
+    private final Predicate<Throwable> predicate;
+    private final Consumer<Description> expectation;
+
+    private HasFailedWithCause(Predicate<Throwable> predicate,
+                               Consumer<Description> expectation) {
+      super(Try.class, "ControlMatchers.hasFailedWithCause");
+      this.predicate = predicate;
+      this.expectation = expectation;
+    }
+
+    @Override
+    protected boolean evaluate(Try aTry) {
+      return aTry.isFailure() && findCause(aTry.getCause(), predicate) != null;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Try should have failed with a cause matching: ");
+      expectation.accept(description);
+    }
+
+    @Override
+    public void explainMismatch(Try aTry, Description mismatch) {
+      if (aTry.isSuccess()) {
+        describeSuccess(aTry, mismatch);
+        return;
+      }
+
+      final BoundedValueList<Throwable> chain = BoundedValueList.strings();
+      findCause(aTry.getCause(), cause -> {
+        chain.add(cause);
         return false;
+      });
+
+      mismatch.appendText("No exception in the cause chain matched '");
+      expectation.accept(mismatch);
+      mismatch.appendText("', the chain was ");
+      chain.appendTo(mismatch, "[", " <- ", "]");
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Try} that failed with an exception whose message matches the supplied
+   * matcher.
+   *
+   * @param matcher The matcher for the message, which may be {@code null}.
+   */
+  public static Matcher<Try> hasFailedWithMessage(Matcher<? super String> matcher) {
+    return new HasFailedWithMessage(matcher);
+  }
+
+  private static final class HasFailedWithMessage extends InstrumentedMatcher<Try> {
+    private final Matcher<? super String> matcher;
+
+    private HasFailedWithMessage(Matcher<? super String> matcher) {
+      super(Try.class, "ControlMatchers.hasFailedWithMessage");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(Try aTry) {
+      return aTry.isFailure() && matcher.matches(aTry.getCause().getMessage());
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("Try should have failed with a message matching: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(Try aTry, Description mismatch) {
+      if (aTry.isSuccess()) {
+        describeSuccess(aTry, mismatch);
+        return;
       }
 
-      @Override
-      public void describeTo(Description description) {
-        description.appendText("Try should have failed with ").appendText(clazz.getName());
+      mismatch
+          .appendText("Failure message should match '")
+          .appendDescriptionOf(matcher)
+          .appendText("' but ");
+      matcher.describeMismatch(aTry.getCause().getMessage(), mismatch);
+    }
+  }
+
+  /**
+   * Follows the cause chain of an exception, starting with the exception itself, and returns the
+   * first exception that satisfies the predicate.
+   *
+   * Cycles are detected with Floyd's algorithm: a second pointer follows the chain at half the
+   * speed, and the chain has a cycle if the first pointer ever catches up with it. Exceptions in
+   * a cycle may be tested more than once before it is detected.
+   *
+   * @return The first matching exception, or {@code null} if there is none.
+   */
+  private static Throwable findCause(Throwable failure, Predicate<Throwable> predicate) {
+    Throwable current = failure;
+    Throwable slow = failure;
+    int steps = 0;
+    while (current != null) {
+      if (predicate.test(current)) {
+        return current;
       }
 
-      @Override
-      public void describeMismatchSafely(Try aTry, Description mismatch) {
-        aTry.onFailure(cause -> mismatch
-            .appendText("Failure type is ")
-            .appendText(cause.getClass().getSimpleName())
-            .appendText(" but expected ")
-            .appendText(clazz.getSimpleName()));
-        aTry.onSuccess(val -> mismatch
-            .appendText("Expected failure, but found successful Try with value: ")
-            .appendValue(val));
+      current = current.getCause();
+      if ((++steps & 1) == 0) {
+        slow = slow.getCause();
+      }
+      if (current == slow) {
+        return null;
       }
-    };
+    }
+    return null;
+  }
+
+  private static void describeSuccess(Try<?> aTry, Description mismatch) {
+    mismatch
+        .appendText("Expected failure, but found successful Try with value: ")
+        .appendValue(aTry.get());
   }
 
   /**
@@ -175,38 +451,54 @@ public class ControlMatchers {
    * @param matcher Matcher for the right value.
    */
   public static <L, R> Matcher<Either<L, R>> isRight(Matcher<R> matcher) {
-    return new TypeSafeMatcher<Either<L, R>>() {
-      @Override
-      protected boolean matchesSafely(Either<L, R> either) {
-        return either.map(matcher::matches).getOrElse(false);
-      }
-
-      @Override
-      public void describeTo(Description description) {
-        description
-            .appendText("»Either« should contain a »Right« value matching: ")
-            .appendDescriptionOf(matcher);
-      }
-
-      @Override
-      public void describeMismatchSafely(Either<L, R> either, Description mismatch) {
-        if (either.isRight()) {
-          mismatch.appendText("Expected matching »Right« value, but got: ");
-          matcher.describeMismatch(either.get(), mismatch);
-        } else {
-          mismatch
-              .appendText("Expected matching »Right« value, but got »Left«: ")
-              .appendValue(either.getLeft());
-        }
+    return new IsRight<>(matcher);
+  }
+
+  private static final class IsRight<L, R> extends InstrumentedMatcher<Either<L, R>> {
+    private final Matcher<R> matcher;
+
+    private IsRight(Matcher<R> matcher) {
+      super(Either.class, "ControlMatchers.isRight");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(Either<L, R> either) {
+      return either.map(matcher::matches).getOrElse(false);
+    }
+
+    @Override
+    Predicate<Either<L, R>> compile() {
+      final Predicate<R> predicate = MatcherPredicates.compile(matcher);
+      return guard(either -> either.isRight() && predicate.test(either.get()));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("»Either« should contain a »Right« value matching: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(Either<L, R> either, Description mismatch) {
+      if (either.isRight()) {
+        mismatch.appendText("Expected matching »Right« value, but got: ");
+        matcher.describeMismatch(either.get(), mismatch);
+      } else {
+        mismatch
+            .appendText("Expected matching »Right« value, but got »Left«: ")
+            .appendValue(either.getLeft());
       }
-    };
+    }
   }
 
   /**
    * Matches a Vavr {@link Either} that contains any {@link Right} value.
    */
+  @SuppressWarnings("unchecked")
   public static <L, R> Matcher<Either<L, R>> isRight() {
-    return isRight(new IsAnything<R>());
+    return (Matcher) IS_RIGHT;
   }
 
   /**
@@ -215,36 +507,714 @@ public class ControlMatchers {
    * @param matcher Matcher for the left value.
    */
   public static <L, R> Matcher<Either<L, R>> isLeft(Matcher<L> matcher) {
-    return new TypeSafeMatcher<Either<L, R>>() {
-      @Override
-      protected boolean matchesSafely(Either<L, R> either) {
-        return (either.isLeft() && either.mapLeft(matcher::matches).getLeft());
-      }
-
-      @Override
-      public void describeTo(Description description) {
-        description.appendText("»Either« should contain a »Left« value matching: ");
-        matcher.describeTo(description);
-      }
-
-      @Override
-      public void describeMismatchSafely(Either<L, R> either, Description mismatch) {
-        if (either.isLeft()) {
-          mismatch.appendText("Expected matching »Left« value, but got: ");
-          matcher.describeMismatch(either.getLeft(), mismatch);
-        } else {
-          mismatch
-              .appendText("Expected matching »Left« value, but got »Right«: ")
-              .appendValue(either.get());
-        }
+    return new IsLeft<>(matcher);
+  }
+
+  private static final class IsLeft<L, R> extends InstrumentedMatcher<Either<L, R>> {
+    private final Matcher<L> matcher;
+
+    private IsLeft(Matcher<L> matcher) {
+      super(Either.class, "ControlMatchers.isLeft");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(Either<L, R> either) {
+      return (either.isLeft() && either.mapLeft(matcher::matches).getLeft());
+    }
+
+    @Override
+    Predicate<Either<L, R>> compile() {
+      final Predicate<L> predicate = MatcherPredicates.compile(matcher);
+      return guard(either -> either.isLeft() && predicate.test(either.getLeft()));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("»Either« should contain a »Left« value matching: ");
+      matcher.describeTo(description);
+    }
+
+    @Override
+    public void explainMismatch(Either<L, R> either, Description mismatch) {
+      if (either.isLeft()) {
+        mismatch.appendText("Expected matching »Left« value, but got: ");
+        matcher.describeMismatch(either.getLeft(), mismatch);
+      } else {
+        mismatch
+            .appendText("Expected matching »Left« value, but got »Right«: ")
+            .appendValue(either.get());
       }
-    };
+    }
   }
 
   /**
    * Matches a Vavr {@link Either} that contains any {@link Left} value.
    */
+  @SuppressWarnings("unchecked")
   public static <L, R> Matcher<Either<L, R>> isLeft() {
-    return isLeft(new IsAnything<L>());
+    return (Matcher) IS_LEFT;
+  }
+
+  /**
+   * Matches the value of a valid Vavr {@link Validation}.
+   *
+   * @param matcher Matcher for the valid value.
+   */
+  public static <E, T> Matcher<Validation<E, T>> isValid(Matcher<T> matcher) {
+    return new IsValid<>(matcher);
+  }
+
+  private static final class IsValid<E, T> extends InstrumentedMatcher<Validation<E, T>> {
+    private final Matcher<T> matcher;
+
+    private IsValid(Matcher<T> matcher) {
+      super(Validation.class, "ControlMatchers.isValid");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(Validation<E, T> validation) {
+      return validation.isValid() && matcher.matches(validation.get());
+    }
+
+    @Override
+    Predicate<Validation<E, T>> compile() {
+      final Predicate<T> predicate = MatcherPredicates.compile(matcher);
+      return guard(validation -> validation.isValid() && predicate.test(validation.get()));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("»Validation« should be »Valid« with a value matching: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(Validation<E, T> validation, Description mismatch) {
+      if (validation.isValid()) {
+        mismatch.appendText("Expected matching »Valid« value, but got: ");
+        matcher.describeMismatch(validation.get(), mismatch);
+      } else {
+        mismatch
+            .appendText("Expected matching »Valid« value, but got »Invalid«: ")
+            .appendValue(validation.getError());
+      }
+    }
+  }
+
+  /**
+   * Matches a valid Vavr {@link Validation}.
+   */
+  @SuppressWarnings("unchecked")
+  public static <E, T> Matcher<Validation<E, T>> isValid() {
+    return (Matcher) IS_VALID;
+  }
+
+  /**
+   * Matches the error of an invalid Vavr {@link Validation}.
+   *
+   * @param matcher Matcher for the error.
+   */
+  public static <E, T> Matcher<Validation<E, T>> isInvalid(Matcher<E> matcher) {
+    return new IsInvalid<>(matcher);
+  }
+
+  private static final class IsInvalid<E, T> extends InstrumentedMatcher<Validation<E, T>> {
+    private final Matcher<E> matcher;
+
+    private IsInvalid(Matcher<E> matcher) {
+      super(Validation.class, "ControlMatchers.isInvalid");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(Validation<E, T> validation) {
+      return validation.isInvalid() && matcher.matches(validation.getError());
+    }
+
+    @Override
+    Predicate<Validation<E, T>> compile() {
+      final Predicate<E> predicate = MatcherPredicates.compile(matcher);
+      return guard(validation -> validation.isInvalid() && predicate.test(validation.getError()));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("»Validation« should be »Invalid« with an error matching: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(Validation<E, T> validation, Description mismatch) {
+      if (validation.isInvalid()) {
+        mismatch.appendText("Expected matching »Invalid« error, but got: ");
+        matcher.describeMismatch(validation.getError(), mismatch);
+      } else {
+        mismatch
+            .appendText("Expected matching »Invalid« error, but got »Valid«: ")
+            .appendValue(validation.get());
+      }
+    }
+  }
+
+  /**
+   * Matches an invalid Vavr {@link Validation}.
+   */
+  @SuppressWarnings("unchecked")
+  public static <E, T> Matcher<Validation<E, T>> isInvalid() {
+    return (Matcher) IS_INVALID;
+  }
+
+  /**
+   * Matches an invalid Vavr {@link Validation} whose accumulated errors, as produced by
+   * {@link Validation#combine(Validation, Validation)}, match the supplied matchers in order.
+   *
+   * @param matchers One matcher per expected error.
+   */
+  public static <E, T> Matcher<Validation<Seq<E>, T>> hasErrorsMatching(
+      Seq<Matcher<? super E>> matchers) {
+    return new HasErrorsMatching<>(matchers);
+  }
+
+  private static final class HasErrorsMatching<E, T>
+      extends InstrumentedMatcher<Validation<Seq<E>, T>> {
+    private final Seq<Matcher<? super E>> matchers;
+
+    private HasErrorsMatching(Seq<Matcher<? super E>> matchers) {
+      super(Validation.class, "ControlMatchers.hasErrorsMatching");
+      this.matchers = matchers;
+    }
+
+    @Override
+    protected boolean evaluate(Validation<Seq<E>, T> validation) {
+      return validation.isInvalid() && firstMismatch(validation.getError()) < 0;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendList("»Validation« should be »Invalid« with errors matching [", ", ",
+          "]", matchers);
+    }
+
+    @Override
+    public void explainMismatch(Validation<Seq<E>, T> validation, Description mismatch) {
+      if (validation.isValid()) {
+        mismatch.appendText("Expected matching »Invalid« errors, but got »Valid«: ")
+            .appendValue(validation.get());
+        return;
+      }
+
+      final Seq<E> errors = validation.getError();
+      final int index = firstMismatch(errors);
+      if (index >= errors.size() || index >= matchers.size()) {
+        mismatch.appendText("Expected ").appendValue(matchers.size())
+            .appendText(" errors but got ").appendValue(errors.size())
+            .appendText(": ");
+        BoundedValueList.appendValueList(mismatch, "[", ", ", "]", errors);
+        return;
+      }
+
+      mismatch.appendText("Error at index ").appendValue(index)
+          .appendText(" should match '")
+          .appendDescriptionOf(matchers.get(index))
+          .appendText("' but ");
+      matchers.get(index).describeMismatch(errors.get(index), mismatch);
+    }
+
+    /**
+     * Returns the index of the first error that does not match its matcher, the length of the
+     * shorter sequence if one is a prefix of the other, or -1 if all errors match.
+     */
+    private int firstMismatch(Seq<E> errors) {
+      final Iterator<E> actual = errors.iterator();
+      final Iterator<Matcher<? super E>> expected = matchers.iterator();
+      int index = 0;
+      while (actual.hasNext() && expected.hasNext()) {
+        if (!expected.next().matches(actual.next())) {
+          return index;
+        }
+        index++;
+      }
+      return actual.hasNext() || expected.hasNext() ? index : -1;
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Validation} with the given number of accumulated errors. A valid
+   * {@link Validation} has no errors.
+   *
+   * @param count The expected number of errors.
+   */
+  public static <E, T> Matcher<Validation<Seq<E>, T>> hasErrorCount(int count) {
+    return new HasErrorCount<>(count);
+  }
+
+  private static final class HasErrorCount<E, T>
+      extends InstrumentedMatcher<Validation<Seq<E>, T>> {
+    private final int count;
+
+    private HasErrorCount(int count) {
+      super(Validation.class, "ControlMatchers.hasErrorCount");
+      this.count = count;
+    }
+
+    @Override
+    protected boolean evaluate(Validation<Seq<E>, T> validation) {
+      return errorCount(validation) == count;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("»Validation« should have ").appendValue(count)
+          .appendText(" errors");
+    }
+
+    @Override
+    public void explainMismatch(Validation<Seq<E>, T> validation, Description mismatch) {
+      mismatch.appendText("»Validation« should have ").appendValue(count)
+          .appendText(" errors, but has ").appendValue(errorCount(validation));
+      if (validation.isInvalid()) {
+        mismatch.appendText(": ");
+        BoundedValueList.appendValueList(mismatch, "[", ", ", "]", validation.getError());
+      }
+    }
+
+    private static int errorCount(Validation<? extends Seq<?>, ?> validation) {
+      return validation.isValid() ? 0 : validation.getError().size();
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} of {@link Validation}s that are all valid.
+   *
+   * The traversable is traversed once and only up to the first invalid {@link Validation}. The
+   * mismatch description reports the first {@value CollectionMatchers#DEFAULT_REPORTED_FAILURES}
+   * invalid {@link Validation}s.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends Traversable<? extends Validation<?, ?>>> Matcher<T> allValid() {
+    return (Matcher) ALL_VALID;
+  }
+
+  private static final class AllValid
+      extends InstrumentedMatcher<Traversable<? extends Validation<?, ?>>> {
+    private AllValid() {
+      super(Traversable.class, "ControlMatchers.allValid");
+    }
+
+    @Override
+    protected boolean evaluate(Traversable<? extends Validation<?, ?>> validations) {
+      return !hasMoreInvalid(validations, 0);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("All »Validation«s should be »Valid«");
+    }
+
+    @Override
+    public void explainMismatch(Traversable<? extends Validation<?, ?>> validations,
+                                Description mismatch) {
+      mismatch.appendText("All »Validation«s should be »Valid«, but ");
+      recordInvalid(validations, 0).describeTo(mismatch);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} of {@link Validation}s of which at most the given number
+   * are invalid.
+   *
+   * The traversable is traversed once and only until more than {@code max} invalid
+   * {@link Validation}s were found.
+   *
+   * @param max The maximum number of invalid {@link Validation}s.
+   */
+  public static <T extends Traversable<? extends Validation<?, ?>>> Matcher<T> invalidCountAtMost(
+      int max) {
+    return new InvalidCountAtMost<>(max);
+  }
+
+  private static final class InvalidCountAtMost<T extends Traversable<? extends Validation<?, ?>>>
+      extends InstrumentedMatcher<T> {
+    private final int max;
+
+    private InvalidCountAtMost(int max) {
+      super(Traversable.class, "ControlMatchers.invalidCountAtMost");
+      this.max = max;
+    }
+
+    @Override
+    protected boolean evaluate(T validations) {
+      return !hasMoreInvalid(validations, max);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("At most ").appendValue(max)
+          .appendText(" »Validation«s should be »Invalid«");
+    }
+
+    @Override
+    public void explainMismatch(T validations, Description mismatch) {
+      mismatch.appendText("At most ").appendValue(max)
+          .appendText(" »Validation«s should be »Invalid«, but ");
+      recordInvalid(validations, max).describeTo(mismatch);
+    }
+  }
+
+  /**
+   * Checks whether more than {@code allowed} {@link Validation}s are invalid, stopping the
+   * traversal at the first invalid {@link Validation} that exceeds the limit.
+   */
+  private static boolean hasMoreInvalid(Traversable<? extends Validation<?, ?>> validations,
+                                        int allowed) {
+    int found = 0;
+    int index = 0;
+    try {
+      for (Validation<?, ?> validation : validations) {
+        index++;
+        if (validation.isInvalid() && ++found > allowed) {
+          return true;
+        }
+      }
+      return false;
+    } finally {
+      InstrumentedMatcher.visited(index);
+    }
+  }
+
+  /**
+   * Records the first invalid {@link Validation}s with their indices, stopping the traversal once
+   * more than {@code allowed} were found and one did not fit into the record.
+   */
+  private static FailureRecord<Validation<?, ?>> recordInvalid(
+      Traversable<? extends Validation<?, ?>> validations, int allowed) {
+    final FailureRecord<Validation<?, ?>> invalid =
+        new FailureRecord<>(validations, CollectionMatchers.DEFAULT_REPORTED_FAILURES);
+    int found = 0;
+    int index = 0;
+    for (Validation<?, ?> validation : validations) {
+      if (validation.isInvalid()) {
+        final boolean full = invalid.isFull();
+        invalid.add(index, validation);
+        if (++found > allowed && full) {
+          invalid.stop();
+          break;
+        }
+      }
+      index++;
+    }
+    return invalid;
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} of {@link Try}s of which at most the given ratio are
+   * {@link Try.Failure}s.
+   *
+   * The traversable is traversed once. If its size is known in advance, the traversal stops as
+   * soon as the number of failures exceeds the allowed number, or as soon as the remaining
+   * elements can no longer exceed it. The mismatch description reports the number of successes
+   * and failures.
+   *
+   * @param ratio The maximum ratio of failures, between 0 and 1.
+   * @throws IllegalArgumentException If the ratio is not between 0 and 1.
+   */
+  public static <T extends Traversable<? extends Try<?>>> Matcher<T> failureRatioAtMost(
+      double ratio) {
+    if (!(ratio >= 0 && ratio <= 1)) {
+      throw new IllegalArgumentException("Failure ratio must be between 0 and 1: " + ratio);
+    }
+    return new FailureRatioAtMost<>(ratio);
+  }
+
+  private static final class FailureRatioAtMost<T extends Traversable<? extends Try<?>>>
+      extends InstrumentedMatcher<T> {
+    private final double ratio;
+
+    private FailureRatioAtMost(double ratio) {
+      super(Traversable.class, "ControlMatchers.failureRatioAtMost");
+      this.ratio = ratio;
+    }
+
+    @Override
+    protected boolean evaluate(T tries) {
+      final Histogram histogram = count(tries);
+      return histogram.second <= allowed(tries.hasDefiniteSize()
+          ? tries.size() : histogram.total());
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("At most ").appendValue(ratio)
+          .appendText(" of the »Try«s should be »Failure«s");
+    }
+
+    @Override
+    public void explainMismatch(T tries, Description mismatch) {
+      final Histogram histogram = count(tries);
+      final int size = tries.hasDefiniteSize() ? tries.size() : histogram.total();
+      mismatch.appendText("At most ").appendValue(allowed(size))
+          .appendText(" of ").appendValue(size)
+          .appendText(" »Try«s should be »Failure«s, but found ");
+      histogram.describeTo(mismatch, size);
+    }
+
+    private Histogram count(T tries) {
+      final Histogram histogram = new Histogram("»Success«", "»Failure«");
+      final int size = tries.hasDefiniteSize() ? tries.size() : -1;
+      final int allowed = size < 0 ? Integer.MAX_VALUE : allowed(size);
+      try {
+        for (Try<?> t : tries) {
+          histogram.add(t.isSuccess());
+          if (size >= 0 && (histogram.second > allowed
+              || histogram.second + size - histogram.total() <= allowed)) {
+            break;
+          }
+        }
+      } finally {
+        visited(histogram.total());
+      }
+      return histogram;
+    }
+
+    private int allowed(int size) {
+      return (int) Math.floor(ratio * size);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} of {@link Either}s whose {@link Right} values all match the
+   * supplied matcher. {@link Left} values are ignored.
+   *
+   * The traversable is traversed once and only up to the first non-matching {@link Right} value.
+   *
+   * @param matcher Matcher for the {@link Right} values.
+   */
+  public static <R, T extends Traversable<? extends Either<?, ? extends R>>> Matcher<T>
+      rightsAllMatch(Matcher<R> matcher) {
+    return new SideAllMatch<>(true, matcher);
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} of {@link Either}s whose {@link Left} values all match the
+   * supplied matcher. {@link Right} values are ignored.
+   *
+   * The traversable is traversed once and only up to the first non-matching {@link Left} value.
+   *
+   * @param matcher Matcher for the {@link Left} values.
+   */
+  public static <L, T extends Traversable<? extends Either<? extends L, ?>>> Matcher<T>
+      leftsAllMatch(Matcher<L> matcher) {
+    return new SideAllMatch<>(false, matcher);
+  }
+
+  private static final class SideAllMatch<T extends Traversable<? extends Either<?, ?>>>
+      extends InstrumentedMatcher<T> {
+    private final boolean right;
+    private final Matcher<?> matcher;
+
+    private SideAllMatch(boolean right, Matcher<?> matcher) {
+      super(Traversable.class,
+          right ? "ControlMatchers.rightsAllMatch" : "ControlMatchers.leftsAllMatch");
+      this.right = right;
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T eithers) {
+      return findMismatch(eithers, new Histogram("»Right«", "»Left«")) == null;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("All ").appendText(side())
+          .appendText(" values should match: ").appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T eithers, Description mismatch) {
+      final Histogram histogram = new Histogram("»Right«", "»Left«");
+      final Either<?, ?> either = findMismatch(eithers, histogram);
+      if (either == null) {
+        mismatch.appendText("All ").appendText(side())
+            .appendText(" values matched '").appendDescriptionOf(matcher)
+            .appendText("', found ");
+      } else {
+        mismatch.appendText("All ").appendText(side())
+            .appendText(" values should match '").appendDescriptionOf(matcher)
+            .appendText("', but the value at index ").appendValue(histogram.total() - 1)
+            .appendText(" did not: ");
+        matcher.describeMismatch(right ? either.get() : either.getLeft(), mismatch);
+        mismatch.appendText(", found ");
+      }
+      histogram.describeTo(mismatch, eithers.hasDefiniteSize() ? eithers.size() : -1);
+    }
+
+    /**
+     * Returns the first {@link Either} whose value on the checked side does not match, or
+     * {@code null} if all match.
+     */
+    private Either<?, ?> findMismatch(T eithers, Histogram histogram) {
+      try {
+        for (Either<?, ?> either : eithers) {
+          histogram.add(either.isRight());
+          if (either.isRight() == right
+              && !matcher.matches(right ? either.get() : either.getLeft())) {
+            return either;
+          }
+        }
+        return null;
+      } finally {
+        visited(histogram.total());
+      }
+    }
+
+    private String side() {
+      return right ? "»Right«" : "»Left«";
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} of {@link Try}s with the given number of
+   * {@link Try.Success}es.
+   *
+   * @param count The expected number of successes.
+   */
+  public static <T extends Traversable<? extends Try<?>>> Matcher<T> successCount(int count) {
+    return successCount(is(count));
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} of {@link Try}s whose number of {@link Try.Success}es
+   * matches the supplied matcher.
+   *
+   * The traversable is traversed once. As the count matcher is opaque, all elements are visited.
+   *
+   * @param matcher A Hamcrest matcher for the number of successes.
+   */
+  public static <T extends Traversable<? extends Try<?>>> Matcher<T> successCount(
+      Matcher<Integer> matcher) {
+    return new CountMatching<>("ControlMatchers.successCount", "»Success«", "»Failure«",
+        Try::isSuccess, matcher);
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} of {@link Option}s with the given number of defined values.
+   *
+   * @param count The expected number of defined values.
+   */
+  public static <T extends Traversable<? extends Option<?>>> Matcher<T> definedCount(int count) {
+    return definedCount(is(count));
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} of {@link Option}s whose number of defined values matches
+   * the supplied matcher.
+   *
+   * The traversable is traversed once. As the count matcher is opaque, all elements are visited.
+   *
+   * @param matcher A Hamcrest matcher for the number of defined values.
+   */
+  public static <T extends Traversable<? extends Option<?>>> Matcher<T> definedCount(
+      Matcher<Integer> matcher) {
+    return new CountMatching<>("ControlMatchers.definedCount", "»Some«", "»None«",
+        Option::isDefined, matcher);
+  }
+
+  private static final class CountMatching<E, T extends Traversable<? extends E>>
+      extends InstrumentedMatcher<T> {
+    private final String counted;
+    private final String other;
+    private final Predicate<E> predicate;
+    private final Matcher<Integer> matcher;
+
+    private CountMatching(String kind, String counted, String other, Predicate<E> predicate,
+                          Matcher<Integer> matcher) {
+      super(Traversable.class, kind);
+      this.counted = counted;
+      this.other = other;
+      this.predicate = predicate;
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T values) {
+      return matcher.matches(count(values).first);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Number of ").appendText(counted)
+          .appendText(" values should match: ").appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T values, Description mismatch) {
+      final Histogram histogram = count(values);
+      mismatch.appendText("Number of ").appendText(counted)
+          .appendText(" values should match '").appendDescriptionOf(matcher)
+          .appendText("', but found ");
+      histogram.describeTo(mismatch, histogram.total());
+    }
+
+    private Histogram count(T values) {
+      final Histogram histogram = new Histogram(counted, other);
+      try {
+        for (E value : values) {
+          histogram.add(predicate.test(value));
+        }
+      } finally {
+        visited(histogram.total());
+      }
+      return histogram;
+    }
+  }
+
+  /**
+   * Counts the elements of a collection with one of two outcomes during a single pass.
+   */
+  private static final class Histogram {
+    private final String firstLabel;
+    private final String secondLabel;
+    private int first = 0;
+    private int second = 0;
+
+    private Histogram(String firstLabel, String secondLabel) {
+      this.firstLabel = firstLabel;
+      this.secondLabel = secondLabel;
+    }
+
+    private void add(boolean isFirst) {
+      if (isFirst) {
+        first++;
+      } else {
+        second++;
+      }
+    }
+
+    private int total() {
+      return first + second;
+    }
+
+    /**
+     * Describes the counts, e.g. {@code [»Success«: 12, »Failure«: 3] in the first 15 of 100
+     * elements}.
+     *
+     * @param size The size of the collection, or -1 if it is unknown.
+     */
+    private void describeTo(Description description, int size) {
+      description.appendText("[" + firstLabel + ": " + first + ", "
+          + secondLabel + ": " + second + "] in ");
+      if (size == total()) {
+        description.appendText("all " + size + " elements");
+      } else if (size < 0) {
+        description.appendText("the first " + total() + " elements");
+      } else {
+        description.appendText("the first " + total() + " of " + size + " elements");
+      }
+    }
   }
 }
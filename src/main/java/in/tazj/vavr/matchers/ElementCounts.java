@@ -0,0 +1,100 @@
+package in.tazj.vavr.matchers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A mutable multiset index of the elements of a collection, used to compare collections
+ * regardless of their order.
+ *
+ * The index is built in a single pass over the collection and answers membership queries in
+ * constant time, so comparing two collections costs O(n + m) instead of the O(n·m) of repeated
+ * {@code contains} calls on sequential Vavr collections.
+ */
+final class ElementCounts<E> {
+  private final Map<E, int[]> counts;
+  private int size;
+
+  private ElementCounts(Map<E, int[]> counts, int size) {
+    this.counts = counts;
+    this.size = size;
+  }
+
+  /**
+   * Indexes the given elements. Elements are compared using {@link Object#equals(Object)}.
+   */
+  static <E> ElementCounts<E> of(Iterable<? extends E> elements) {
+    // Insertion order is kept so that the remaining elements are reported in the order in which
+    // they were first encountered.
+    final Map<E, int[]> counts = new LinkedHashMap<>();
+    int size = 0;
+
+    for (E element : elements) {
+      final int[] count = counts.get(element);
+      if (count == null) {
+        counts.put(element, new int[]{1});
+      } else {
+        count[0]++;
+      }
+      size++;
+    }
+
+    return new ElementCounts<>(counts, size);
+  }
+
+  /**
+   * Removes a single occurrence of an element from the index.
+   *
+   * @return {@code true} if an occurrence of the element was left to be removed.
+   */
+  boolean remove(E element) {
+    final int[] count = counts.get(element);
+    if (count == null || count[0] == 0) {
+      return false;
+    }
+
+    count[0]--;
+    size--;
+    return true;
+  }
+
+  /**
+   * Removes a single occurrence of each of the given elements from the index.
+   *
+   * @param missing Receives the elements for which no occurrence was left, in iteration order.
+   */
+  void removeAll(Iterable<? extends E> elements, Consumer<? super E> missing) {
+    for (E element : elements) {
+      if (!remove(element)) {
+        missing.accept(element);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of occurrences that have not been removed.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether every occurrence of every indexed element has been removed.
+   */
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Passes each occurrence that has not been removed to the given consumer, grouped by element in
+   * the order in which the elements were first indexed.
+   */
+  void forEachRemaining(Consumer<? super E> consumer) {
+    for (Map.Entry<E, int[]> entry : counts.entrySet()) {
+      for (int i = 0; i < entry.getValue()[0]; i++) {
+        consumer.accept(entry.getKey());
+      }
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Records the elements of a collection that failed to match an element matcher during a single
+ * evaluation pass.
+ *
+ * Only the first {@code limit} failing elements and their indices are kept, all further failures
+ * are only counted. This bounds the memory used by a failed match regardless of the size of the
+ * collection.
+ */
+final class FailureRecord<E> {
+  private final WeakReference<Object> actual;
+  private final int limit;
+  private final List<E> elements;
+  private int[] indices;
+  private long count = 0;
+  private boolean complete = true;
+
+  /**
+   * @param actual The evaluated collection, used to recognise repeated evaluations of it. It is
+   *               only weakly referenced.
+   * @param limit  The maximum number of failing elements to keep. The storage for them grows
+   *               with the recorded failures, so the limit may be as large as
+   *               {@link Integer#MAX_VALUE}.
+   */
+  FailureRecord(Object actual, int limit) {
+    this.actual = new WeakReference<>(actual);
+    this.limit = limit;
+    this.elements = new ArrayList<>(Math.min(limit, 16));
+    this.indices = new int[Math.min(limit, 16)];
+  }
+
+  /**
+   * Records a failing element.
+   */
+  void add(int index, E element) {
+    if (count < limit) {
+      if (elements.size() == indices.length) {
+        indices = Arrays.copyOf(indices, (int) Math.min(indices.length * 2L, limit));
+      }
+      indices[elements.size()] = index;
+      elements.add(element);
+    }
+    count++;
+  }
+
+  /**
+   * Marks the record as incomplete, i.e. the evaluation stopped before visiting all elements.
+   */
+  void stop() {
+    complete = false;
+  }
+
+  /**
+   * Checks whether this record belongs to an evaluation of the given collection.
+   */
+  boolean isFor(Object collection) {
+    return actual.get() == collection;
+  }
+
+  /**
+   * Checks whether the number of failures has reached the limit of kept elements.
+   */
+  boolean isFull() {
+    return count >= limit;
+  }
+
+  boolean isEmpty() {
+    return count == 0;
+  }
+
+  /**
+   * Describes the recorded failures, e.g. {@code found 2 non-matching elements: [<a> at index 3,
+   * <b> at index 7]}.
+   */
+  void describeTo(Description description) {
+    description
+        .appendText(complete ? "found " : "found at least ")
+        .appendText(String.valueOf(count))
+        .appendText(count == 1 ? " non-matching element" : " non-matching elements");
+
+    if (elements.isEmpty()) {
+      return;
+    }
+
+    if (count > elements.size()) {
+      description.appendText(", the first ")
+          .appendText(String.valueOf(elements.size()))
+          .appendText(" of which are");
+    }
+
+    final BoundedValueList<String> failures = BoundedValueList.strings();
+    for (int i = 0; i < elements.size(); i++) {
+      failures.add(BoundedValueList.describeValue(elements.get(i)) + " at index " + indices[i]);
+    }
+    failures.appendTo(description, ": [", ", ", "]");
+  }
+}
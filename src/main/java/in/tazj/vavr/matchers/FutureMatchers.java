@@ -0,0 +1,258 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.vavr.concurrent.Future;
+import io.vavr.control.Try;
+
+/**
+ * Provides Hamcrest matchers for Vavr's {@link Future}.
+ *
+ * Matchers that need a completed future wait for it until a deadline, on a latch that is released
+ * by the future's completion callback. As Vavr offers no way to remove a callback, only one is
+ * registered per future and its latch is shared by all waits for it, so matching a future that
+ * never completes repeatedly does not accumulate callbacks. The latches are only weakly keyed by
+ * their futures. A future that has already completed is matched without waiting.
+ *
+ * Mismatch descriptions never wait again: a future that did not complete in time while matching
+ * is described as pending.
+ */
+public class FutureMatchers {
+  /**
+   * The time matchers without an explicit timeout wait for a future to complete.
+   */
+  public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+  private static final Matcher<Future> IS_STILL_PENDING = new IsStillPending();
+
+  /**
+   * The latches released by the completion callbacks of the pending futures waited for.
+   */
+  private static final Map<Future<?>, CountDownLatch> COMPLETIONS =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Matches a Vavr {@link Future} that succeeds with a matching value within
+   * {@link #DEFAULT_TIMEOUT}.
+   *
+   * @param matcher Matcher for the value of the future.
+   */
+  public static <T> Matcher<Future<T>> succeedsWith(Matcher<T> matcher) {
+    return succeedsWith(matcher, DEFAULT_TIMEOUT);
+  }
+
+  /**
+   * Matches a Vavr {@link Future} that succeeds with a matching value within the given timeout.
+   *
+   * @param matcher Matcher for the value of the future.
+   * @param timeout The maximum time to wait for the future to complete.
+   */
+  public static <T> Matcher<Future<T>> succeedsWith(Matcher<T> matcher, Duration timeout) {
+    return new SucceedsWith<>(ControlMatchers.isSuccess(matcher), timeout);
+  }
+
+  private static final class SucceedsWith<T> extends InstrumentedMatcher<Future<T>> {
+    private final Matcher<Try<T>> matcher;
+    private final Duration timeout;
+
+    private SucceedsWith(Matcher<Try<T>> matcher, Duration timeout) {
+      super(Future.class, "FutureMatchers.succeedsWith");
+      this.matcher = matcher;
+      this.timeout = timeout;
+    }
+
+    @Override
+    protected boolean evaluate(Future<T> future) {
+      return await(future, timeout) && matcher.matches(future.getValue().get());
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("Future completing within ")
+          .appendText(timeout.toString())
+          .appendText(" with: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(Future<T> future, Description mismatch) {
+      describeCompletion(future, matcher, timeout, mismatch);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Future} that fails with an expected exception type within
+   * {@link #DEFAULT_TIMEOUT}.
+   *
+   * @param clazz The expected exception type.
+   */
+  public static <E extends Throwable> Matcher<Future> failsWith(Class<E> clazz) {
+    return failsWith(clazz, DEFAULT_TIMEOUT);
+  }
+
+  /**
+   * Matches a Vavr {@link Future} that fails with an expected exception type within the given
+   * timeout.
+   *
+   * @param clazz   The expected exception type.
+   * @param timeout The maximum time to wait for the future to complete.
+   */
+  public static <E extends Throwable> Matcher<Future> failsWith(Class<E> clazz,
+                                                                Duration timeout) {
+    return new FailsWith(ControlMatchers.hasFailedWith(clazz), timeout);
+  }
+
+  private static final class FailsWith extends InstrumentedMatcher<Future> {
+    private final Matcher<Try> matcher;
+    private final Duration timeout;
+
+    private FailsWith(Matcher<Try> matcher, Duration timeout) {
+      super(Future.class, "FutureMatchers.failsWith");
+      this.matcher = matcher;
+      this.timeout = timeout;
+    }
+
+    @Override
+    protected boolean evaluate(Future future) {
+      return await(future, timeout) && matcher.matches(future.getValue().get());
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("Future completing within ")
+          .appendText(timeout.toString())
+          .appendText(" with: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(Future future, Description mismatch) {
+      describeCompletion(future, matcher, timeout, mismatch);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Future} that completes, successfully or not, within the given timeout.
+   *
+   * @param timeout The maximum time to wait for the future to complete.
+   */
+  public static Matcher<Future> completesWithin(Duration timeout) {
+    return new CompletesWithin(timeout);
+  }
+
+  private static final class CompletesWithin extends InstrumentedMatcher<Future> {
+    private final Duration timeout;
+
+    private CompletesWithin(Duration timeout) {
+      super(Future.class, "FutureMatchers.completesWithin");
+      this.timeout = timeout;
+    }
+
+    @Override
+    protected boolean evaluate(Future future) {
+      return await(future, timeout);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Future completing within ").appendText(timeout.toString());
+    }
+
+    @Override
+    public void explainMismatch(Future future, Description mismatch) {
+      mismatch.appendText("Future did not complete within ").appendText(timeout.toString());
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Future} that has not completed yet. The future is not waited for.
+   */
+  public static Matcher<Future> isStillPending() {
+    return IS_STILL_PENDING;
+  }
+
+  private static final class IsStillPending extends InstrumentedMatcher<Future> {
+    private IsStillPending() {
+      super(Future.class, "FutureMatchers.isStillPending");
+    }
+
+    @Override
+    protected boolean evaluate(Future future) {
+      return !future.isCompleted();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("pending Future");
+    }
+
+    @Override
+    public void explainMismatch(Future future, Description mismatch) {
+      mismatch
+          .appendText("Future has already completed with ")
+          .appendValue(future.getValue().get());
+    }
+  }
+
+  /**
+   * Waits until a future has completed or the timeout has elapsed.
+   *
+   * @return Whether the future has completed. An interrupted wait is treated as a timeout, with
+   *         the interrupt status of the thread restored.
+   */
+  private static boolean await(Future<?> future, Duration timeout) {
+    if (future.isCompleted()) {
+      return true;
+    }
+
+    try {
+      if (completion(future).await(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+        COMPLETIONS.remove(future);
+        return true;
+      }
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Returns the latch that is released when the future completes, registering a completion
+   * callback for it only on the first wait. The callback does not reference the future, so the
+   * latch does not keep it reachable.
+   */
+  private static CountDownLatch completion(Future<?> future) {
+    synchronized (COMPLETIONS) {
+      CountDownLatch latch = COMPLETIONS.get(future);
+      if (latch == null) {
+        final CountDownLatch created = new CountDownLatch(1);
+        future.onComplete(result -> created.countDown());
+        COMPLETIONS.put(future, created);
+        latch = created;
+      }
+      return latch;
+    }
+  }
+
+  private static void describeCompletion(Future<?> future,
+                                         Matcher<?> matcher,
+                                         Duration timeout,
+                                         Description mismatch) {
+    if (future.isCompleted()) {
+      matcher.describeMismatch(future.getValue().get(), mismatch);
+    } else {
+      mismatch.appendText("Future did not complete within ").appendText(timeout.toString());
+    }
+  }
+}
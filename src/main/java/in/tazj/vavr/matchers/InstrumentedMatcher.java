@@ -0,0 +1,111 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.util.function.Predicate;
+
+/**
+ * The base class of the matchers in this library, which reports their evaluations to the
+ * {@link MatcherListener} installed with {@link MatcherInstrumentation}.
+ *
+ * Subclasses implement {@link #evaluate(Object)} and {@link #explainMismatch(Object, Description)}
+ * in place of {@code matchesSafely} and {@code describeMismatchSafely}. Matchers that visit the
+ * elements of a collection report how many they visited with {@link #visited(long)}. Evaluations
+ * are reported under the name of the factory that created the matcher, which subclasses shared by
+ * several factories pass on to the constructor.
+ */
+abstract class InstrumentedMatcher<T> extends TypeSafeMatcher<T> {
+  /**
+   * The number of elements visited on each thread, only updated while instrumentation is enabled.
+   */
+  private static final ThreadLocal<long[]> VISITED = ThreadLocal.withInitial(() -> new long[1]);
+
+  private final Class<?> expectedType;
+  private final String kind;
+
+  /**
+   * @param expectedType The type of the values the matcher can evaluate.
+   * @param kind         The factory that created the matcher, qualified by its class, e.g.
+   *                     {@code "CollectionMatchers.allMatch"}.
+   */
+  protected InstrumentedMatcher(Class<?> expectedType, String kind) {
+    super(expectedType);
+    this.expectedType = expectedType;
+    this.kind = kind;
+  }
+
+  /**
+   * Checks whether a value of the expected type matches.
+   */
+  protected abstract boolean evaluate(T item);
+
+  /**
+   * Describes why a value of the expected type does not match, by default as
+   * {@code was <value>}.
+   */
+  protected void explainMismatch(T item, Description mismatch) {
+    super.describeMismatchSafely(item, mismatch);
+  }
+
+  /**
+   * Compiles this matcher into a predicate that evaluates it without instrumentation and without
+   * going through Hamcrest. Matchers that wrap other matchers override this to compile their
+   * nested matchers as well, wrapping the result in {@link #guard(Predicate)}.
+   *
+   * @see MatcherPredicates#compile(Matcher)
+   */
+  Predicate<T> compile() {
+    return guard(this::evaluate);
+  }
+
+  /**
+   * Guards a compiled predicate with the type check of {@link #matches(Object)}, so that it rejects
+   * {@code null} and values of other types instead of failing with a
+   * {@link ClassCastException}. The check has to happen here, before the value reaches a lambda
+   * whose parameter has the declared type.
+   */
+  final Predicate<T> guard(Predicate<T> predicate) {
+    return item -> expectedType.isInstance(item) && predicate.test(item);
+  }
+
+  /**
+   * Records that the current evaluation visited the given number of collection elements.
+   */
+  static void visited(long elements) {
+    if (MatcherInstrumentation.listener != null) {
+      VISITED.get()[0] += elements;
+    }
+  }
+
+  @Override
+  protected final boolean matchesSafely(T item) {
+    final MatcherListener listener = MatcherInstrumentation.listener;
+    if (listener == null) {
+      return evaluate(item);
+    }
+
+    final long[] visited = VISITED.get();
+    final long before = visited[0];
+    final long start = System.nanoTime();
+    final boolean matched = evaluate(item);
+    final long nanos = System.nanoTime() - start;
+
+    listener.matched(kind, matched, visited[0] - before, nanos);
+    return matched;
+  }
+
+  @Override
+  protected final void describeMismatchSafely(T item, Description mismatch) {
+    final MatcherListener listener = MatcherInstrumentation.listener;
+    if (listener == null) {
+      explainMismatch(item, mismatch);
+      return;
+    }
+
+    final long start = System.nanoTime();
+    explainMismatch(item, mismatch);
+    listener.described(kind, System.nanoTime() - start);
+  }
+}
@@ -0,0 +1,339 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.util.Objects;
+
+import io.vavr.Tuple2;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.Traversable;
+
+/**
+ * Provides Hamcrest matchers for Vavr {@link Map} and {@link Multimap} types.
+ *
+ * Matchers that are given a concrete key use the map's own lookup (e.g. O(1) for a
+ * {@link io.vavr.collection.HashMap}, O(log n) for a {@link io.vavr.collection.TreeMap}) instead of
+ * scanning its entries. The matchers that accept any {@link Traversable} of {@link Tuple2} also
+ * work on other collections of key/value pairs, which are scanned linearly.
+ */
+public class MapMatchers {
+  /**
+   * Matches a Vavr {@link Map} or {@link Multimap} that contains the given key.
+   *
+   * @param key The expected key.
+   */
+  public static <K, V, T extends Traversable<Tuple2<K, V>>> Matcher<T> hasKey(K key) {
+    return new HasKey<>(key);
+  }
+
+  private static final class HasKey<K, V, T extends Traversable<Tuple2<K, V>>>
+      extends InstrumentedMatcher<T> {
+    private final K key;
+
+    private HasKey(K key) {
+      super(Traversable.class, "MapMatchers.hasKey");
+      this.key = key;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return containsKey(t, key);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Map should contain key ").appendValue(key);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      mismatch.appendText("Map does not contain key ").appendValue(key)
+          .appendText(", keys were ");
+      BoundedValueList.appendValueList(mismatch, "[", ",", "]", t.iterator().map(Tuple2::_1));
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Map} or {@link Multimap} that contains a key matching the supplied
+   * matcher. All keys are scanned until a matching key is found.
+   *
+   * @param matcher The key matcher.
+   */
+  public static <K, V, T extends Traversable<Tuple2<K, V>>> Matcher<T> hasKey(Matcher<K> matcher) {
+    return new HasKeyMatching<>(matcher);
+  }
+
+  private static final class HasKeyMatching<K, V, T extends Traversable<Tuple2<K, V>>>
+      extends InstrumentedMatcher<T> {
+    private final Matcher<K> matcher;
+
+    private HasKeyMatching(Matcher<K> matcher) {
+      super(Traversable.class, "MapMatchers.hasKey");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return t.exists(entry -> matcher.matches(entry._1));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Map should contain a key matching: ").appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      mismatch.appendText("Map expected to contain a key matching '")
+          .appendDescriptionOf(matcher)
+          .appendText("' but keys were ");
+      BoundedValueList.appendValueList(mismatch, "[", ",", "]", t.iterator().map(Tuple2::_1));
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Map} or {@link Multimap} that contains all of the given keys.
+   *
+   * @param keys The expected keys.
+   */
+  public static <K, V, T extends Traversable<Tuple2<K, V>>> Matcher<T> hasKeys(
+      Traversable<K> keys) {
+    return new HasKeys<>(keys);
+  }
+
+  private static final class HasKeys<K, V, T extends Traversable<Tuple2<K, V>>>
+      extends InstrumentedMatcher<T> {
+    private final Traversable<K> keys;
+
+    private HasKeys(Traversable<K> keys) {
+      super(Traversable.class, "MapMatchers.hasKeys");
+      this.keys = keys;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return keys.forAll(key -> containsKey(t, key));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Map should contain keys: ");
+      BoundedValueList.appendValueList(description, "[", ",", "]", keys);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final BoundedValueList<K> missing = BoundedValueList.values();
+      keys.forEach(key -> {
+        if (!containsKey(t, key)) {
+          missing.add(key);
+        }
+      });
+
+      mismatch.appendText("Map is missing keys: ");
+      missing.appendTo(mismatch, "[", ",", "]");
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Map} or {@link Multimap} that contains the given key with a value
+   * matching the supplied matcher. For a {@link Multimap}, any of the values of the key may match.
+   *
+   * @param key     The expected key.
+   * @param matcher The value matcher.
+   */
+  public static <K, V, T extends Traversable<Tuple2<K, V>>> Matcher<T> hasEntry(K key,
+                                                                               Matcher<V> matcher) {
+    return new HasEntry<>("MapMatchers.hasEntry", key, matcher);
+  }
+
+  /**
+   * Matches a Vavr {@link Map} that contains the given key with a value matching the supplied
+   * matcher.
+   *
+   * @param key     The expected key.
+   * @param matcher The value matcher.
+   */
+  public static <K, V, T extends Map<K, V>> Matcher<T> hasValueAt(K key, Matcher<V> matcher) {
+    return new HasEntry<>("MapMatchers.hasValueAt", key, matcher);
+  }
+
+  private static final class HasEntry<K, V, T extends Traversable<Tuple2<K, V>>>
+      extends InstrumentedMatcher<T> {
+    private final K key;
+    private final Matcher<V> matcher;
+
+    private HasEntry(String kind, K key, Matcher<V> matcher) {
+      super(Traversable.class, kind);
+      this.key = key;
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      for (V value : valuesAt(t, key)) {
+        if (matcher.matches(value)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("Map should contain key ")
+          .appendValue(key)
+          .appendText(" with a value matching: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final java.util.Iterator<V> values = valuesAt(t, key).iterator();
+      if (!values.hasNext()) {
+        mismatch.appendText("Map does not contain key ").appendValue(key);
+        return;
+      }
+
+      final V value = values.next();
+      if (values.hasNext()) {
+        mismatch.appendText("no value at key ").appendValue(key)
+            .appendText(" matched, values were ");
+        BoundedValueList.appendValueList(mismatch, "[", ",", "]", valuesAt(t, key));
+      } else {
+        mismatch.appendText("value at key ").appendValue(key).appendText(" ");
+        matcher.describeMismatch(value, mismatch);
+      }
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Map} or {@link Multimap} that contains an entry whose key and value
+   * match the supplied matchers. All entries are scanned until a matching entry is found.
+   *
+   * @param keyMatcher   The key matcher.
+   * @param valueMatcher The value matcher.
+   */
+  public static <K, V, T extends Traversable<Tuple2<K, V>>> Matcher<T> hasEntry(
+      Matcher<K> keyMatcher, Matcher<V> valueMatcher) {
+    return new HasEntryMatching<>(keyMatcher, valueMatcher);
+  }
+
+  private static final class HasEntryMatching<K, V, T extends Traversable<Tuple2<K, V>>>
+      extends InstrumentedMatcher<T> {
+    private final Matcher<K> keyMatcher;
+    private final Matcher<V> valueMatcher;
+
+    private HasEntryMatching(Matcher<K> keyMatcher, Matcher<V> valueMatcher) {
+      super(Traversable.class, "MapMatchers.hasEntry");
+      this.keyMatcher = keyMatcher;
+      this.valueMatcher = valueMatcher;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return t.exists(entry -> keyMatcher.matches(entry._1) && valueMatcher.matches(entry._2));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("Map should contain an entry with a key matching ")
+          .appendDescriptionOf(keyMatcher)
+          .appendText(" and a value matching ")
+          .appendDescriptionOf(valueMatcher);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      mismatch
+          .appendText("Map expected to contain an entry matching '")
+          .appendDescriptionOf(keyMatcher)
+          .appendText("' -> '")
+          .appendDescriptionOf(valueMatcher)
+          .appendText("' but found ");
+      BoundedValueList.appendCollection(mismatch, t);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Multimap} whose values for the given key match the supplied matcher.
+   *
+   * @param key     The expected key.
+   * @param matcher The matcher for all values of the key.
+   */
+  public static <K, V, T extends Multimap<K, V>> Matcher<T> hasValuesAt(
+      K key, Matcher<? super Traversable<V>> matcher) {
+    return new HasValuesAt<>(key, matcher);
+  }
+
+  private static final class HasValuesAt<K, V, T extends Multimap<K, V>>
+      extends InstrumentedMatcher<T> {
+    private final K key;
+    private final Matcher<? super Traversable<V>> matcher;
+
+    private HasValuesAt(K key, Matcher<? super Traversable<V>> matcher) {
+      super(Multimap.class, "MapMatchers.hasValuesAt");
+      this.key = key;
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return t.get(key).exists(matcher::matches);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("Multimap should contain key ")
+          .appendValue(key)
+          .appendText(" with values matching: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      if (t.containsKey(key)) {
+        mismatch.appendText("values at key ").appendValue(key).appendText(" ");
+        matcher.describeMismatch(t.get(key).get(), mismatch);
+      } else {
+        mismatch.appendText("Multimap does not contain key ").appendValue(key);
+      }
+    }
+  }
+
+  /**
+   * Checks whether a collection of key/value pairs contains a key, using the lookup of Vavr's map
+   * types where possible.
+   */
+  @SuppressWarnings("unchecked")
+  private static <K, V> boolean containsKey(Traversable<Tuple2<K, V>> t, K key) {
+    if (t instanceof Map) {
+      return ((Map<K, V>) t).containsKey(key);
+    }
+    if (t instanceof Multimap) {
+      return ((Multimap<K, V>) t).containsKey(key);
+    }
+    return t.exists(entry -> Objects.equals(entry._1, key));
+  }
+
+  /**
+   * Returns the values of a key in a collection of key/value pairs, using the lookup of Vavr's map
+   * types where possible.
+   */
+  @SuppressWarnings("unchecked")
+  private static <K, V> Iterable<V> valuesAt(Traversable<Tuple2<K, V>> t, K key) {
+    if (t instanceof Map) {
+      return ((Map<K, V>) t).get(key);
+    }
+    if (t instanceof Multimap) {
+      return ((Multimap<K, V>) t).get(key).getOrElse(List.empty());
+    }
+    return t.filter(entry -> Objects.equals(entry._1, key)).map(Tuple2::_2);
+  }
+}
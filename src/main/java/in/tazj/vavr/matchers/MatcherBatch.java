@@ -0,0 +1,309 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Predicate;
+
+import io.vavr.Lazy;
+import io.vavr.collection.List;
+
+/**
+ * Evaluates a single matcher against every value of a large input, e.g. a Vavr
+ * {@link io.vavr.collection.Iterator} or {@link io.vavr.collection.Stream} of records, and
+ * aggregates the results into a {@link Report}.
+ *
+ * The input is consumed exactly once and is not retained: the memory used by an evaluation is
+ * bounded by the number of reported failures (and, in parallel, by the number of chunks in flight),
+ * regardless of the size of the input. Mismatch descriptions are only rendered when they are
+ * requested from a reported {@link Failure}.
+ *
+ * <pre>
+ * MatcherBatch.Report&lt;Try&lt;Row&gt;&gt; report = MatcherBatch.evaluate(isSuccess(), rows);
+ * if (report.mismatches() &gt; 0) {
+ *   log.warn(report.toString());
+ * }
+ * </pre>
+ */
+public final class MatcherBatch {
+  /**
+   * The default number of failing inputs kept by a report.
+   */
+  public static final int DEFAULT_REPORTED_FAILURES = 10;
+
+  /**
+   * The default number of inputs evaluated by a single task in parallel evaluations.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+  private MatcherBatch() {
+  }
+
+  /**
+   * Evaluates a matcher against every value of an input, keeping the first
+   * {@link #DEFAULT_REPORTED_FAILURES} failing values.
+   *
+   * @param matcher The matcher to evaluate.
+   * @param inputs  The values to evaluate it against.
+   */
+  public static <T> Report<T> evaluate(Matcher<? super T> matcher, Iterable<? extends T> inputs) {
+    return evaluate(matcher, inputs.iterator(), DEFAULT_REPORTED_FAILURES);
+  }
+
+  /**
+   * Evaluates a matcher against every remaining value of an iterator, keeping the first
+   * {@code maxReported} failing values.
+   *
+   * The matcher is compiled with {@link MatcherPredicates#compile(Matcher)}, so its evaluations
+   * are not reported to {@link MatcherInstrumentation}.
+   *
+   * @param matcher     The matcher to evaluate.
+   * @param inputs      The values to evaluate it against.
+   * @param maxReported The maximum number of failing values to keep.
+   */
+  public static <T> Report<T> evaluate(Matcher<? super T> matcher,
+                                       Iterator<? extends T> inputs,
+                                       int maxReported) {
+    final Predicate<T> predicate = MatcherPredicates.compile(matcher);
+    final Chunk<T> chunk = new Chunk<>(matcher, 0, maxReported);
+    while (inputs.hasNext()) {
+      chunk.test(predicate, inputs.next());
+    }
+    return chunk.report();
+  }
+
+  /**
+   * Evaluates a matcher against every value of an input in parallel on the common
+   * {@link ForkJoinPool}, keeping the first {@link #DEFAULT_REPORTED_FAILURES} failing values.
+   *
+   * @param matcher The matcher to evaluate, which has to be safe to use from multiple threads.
+   * @param inputs  The values to evaluate it against.
+   */
+  public static <T> Report<T> evaluateInParallel(Matcher<? super T> matcher,
+                                                 Iterable<? extends T> inputs) {
+    return evaluateInParallel(matcher, inputs.iterator(), DEFAULT_REPORTED_FAILURES,
+        DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Evaluates a matcher against every remaining value of an iterator in parallel on the given
+   * {@link ForkJoinPool}.
+   *
+   * The iterator is read on the calling thread and split into chunks of {@code chunkSize}
+   * values, which are evaluated by the pool. At most two chunks per worker are in flight at any
+   * time, and the results are merged in input order, so the report is the same as that of a
+   * sequential evaluation.
+   *
+   * @param matcher     The matcher to evaluate, which has to be safe to use from multiple threads.
+   * @param inputs      The values to evaluate it against.
+   * @param maxReported The maximum number of failing values to keep.
+   * @param chunkSize   The number of values evaluated by a single task.
+   * @param pool        The pool to evaluate the chunks on.
+   */
+  public static <T> Report<T> evaluateInParallel(Matcher<? super T> matcher,
+                                                 Iterator<? extends T> inputs,
+                                                 int maxReported,
+                                                 int chunkSize,
+                                                 ForkJoinPool pool) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("chunkSize must be positive, but was " + chunkSize);
+    }
+
+    final Predicate<T> predicate = MatcherPredicates.compile(matcher);
+    final int maxInFlight = pool.getParallelism() * 2;
+    final Deque<ForkJoinTask<Chunk<T>>> inFlight = new ArrayDeque<>(maxInFlight);
+    final Chunk<T> total = new Chunk<>(matcher, 0, maxReported);
+    long offset = 0;
+
+    while (inputs.hasNext()) {
+      final java.util.List<T> values = new ArrayList<>(chunkSize);
+      while (values.size() < chunkSize && inputs.hasNext()) {
+        values.add(inputs.next());
+      }
+
+      final Chunk<T> chunk = new Chunk<>(matcher, offset, maxReported);
+      inFlight.addLast(pool.submit(() -> chunk.testAll(predicate, values)));
+      offset += values.size();
+
+      if (inFlight.size() >= maxInFlight) {
+        total.merge(inFlight.removeFirst().join());
+      }
+    }
+
+    while (!inFlight.isEmpty()) {
+      total.merge(inFlight.removeFirst().join());
+    }
+    return total.report();
+  }
+
+  /**
+   * The results of a chunk of consecutive inputs, starting at a given offset.
+   */
+  private static final class Chunk<T> {
+    private final Matcher<? super T> matcher;
+    private final int limit;
+    private final java.util.List<Failure<T>> failures = new ArrayList<>();
+    private long index;
+    private long mismatches = 0;
+
+    private Chunk(Matcher<? super T> matcher, long offset, int limit) {
+      this.matcher = matcher;
+      this.index = offset;
+      this.limit = limit;
+    }
+
+    private void test(Predicate<T> predicate, T value) {
+      if (!predicate.test(value)) {
+        if (failures.size() < limit) {
+          failures.add(new Failure<>(matcher, index, value));
+        }
+        mismatches++;
+      }
+      index++;
+    }
+
+    private Chunk<T> testAll(Predicate<T> predicate, java.util.List<T> values) {
+      for (T value : values) {
+        test(predicate, value);
+      }
+      return this;
+    }
+
+    /**
+     * Merges the results of the directly following chunk into this one.
+     */
+    private void merge(Chunk<T> next) {
+      for (Failure<T> failure : next.failures) {
+        if (failures.size() >= limit) {
+          break;
+        }
+        failures.add(failure);
+      }
+      mismatches += next.mismatches;
+      index = next.index;
+    }
+
+    private Report<T> report() {
+      return new Report<>(matcher, index, mismatches, List.ofAll(failures));
+    }
+  }
+
+  /**
+   * The aggregated results of evaluating a matcher against every value of an input.
+   */
+  public static final class Report<T> {
+    private final Matcher<? super T> matcher;
+    private final long evaluated;
+    private final long mismatches;
+    private final List<Failure<T>> failures;
+
+    private Report(Matcher<? super T> matcher,
+                   long evaluated,
+                   long mismatches,
+                   List<Failure<T>> failures) {
+      this.matcher = matcher;
+      this.evaluated = evaluated;
+      this.mismatches = mismatches;
+      this.failures = failures;
+    }
+
+    /**
+     * The number of evaluated values.
+     */
+    public long evaluated() {
+      return evaluated;
+    }
+
+    public long matches() {
+      return evaluated - mismatches;
+    }
+
+    public long mismatches() {
+      return mismatches;
+    }
+
+    /**
+     * Checks whether every evaluated value matched.
+     */
+    public boolean allMatched() {
+      return mismatches == 0;
+    }
+
+    /**
+     * The first failing values in input order, at most as many as were requested.
+     */
+    public List<Failure<T>> failures() {
+      return failures;
+    }
+
+    /**
+     * Describes the report, e.g. {@code 2 of 1000 values did not match <expected>: ...} followed
+     * by one line per reported failure. Renders the mismatch descriptions of all reported
+     * failures.
+     */
+    @Override
+    public String toString() {
+      final StringBuilder text = new StringBuilder()
+          .append(mismatches).append(" of ").append(evaluated)
+          .append(evaluated == 1 ? " value" : " values")
+          .append(" did not match ")
+          .append(StringDescription.toString(matcher));
+
+      if (failures.size() < mismatches && !failures.isEmpty()) {
+        text.append(", the first ").append(failures.size()).append(" of which are");
+      }
+      for (Failure<T> failure : failures) {
+        text.append("\n  ").append(failure);
+      }
+      return text.toString();
+    }
+  }
+
+  /**
+   * A value that failed to match and its index in the input.
+   */
+  public static final class Failure<T> {
+    private final long index;
+    private final T value;
+    private final Lazy<String> description;
+
+    private Failure(Matcher<? super T> matcher, long index, T value) {
+      this.index = index;
+      this.value = value;
+      this.description = Lazy.of(() -> {
+        final StringDescription mismatch = new StringDescription();
+        matcher.describeMismatch(value, mismatch);
+        return mismatch.toString();
+      });
+    }
+
+    public long index() {
+      return index;
+    }
+
+    public T value() {
+      return value;
+    }
+
+    /**
+     * The mismatch description of the value, which is rendered on the first call.
+     */
+    public String mismatchDescription() {
+      return description.get();
+    }
+
+    /**
+     * Describes the failure as {@code at index <i>: <mismatch description>}.
+     */
+    @Override
+    public String toString() {
+      return "at index " + index + ": " + mismatchDescription();
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package in.tazj.vavr.matchers;
+
+import java.util.Objects;
+
+/**
+ * Installs a {@link MatcherListener} that is notified about every evaluation of the matchers in
+ * this library.
+ *
+ * Instrumentation is disabled by default. While it is disabled, each evaluation only costs a
+ * single read of the installed listener.
+ */
+public final class MatcherInstrumentation {
+  static volatile MatcherListener listener;
+
+  private MatcherInstrumentation() {
+  }
+
+  /**
+   * Installs a listener, replacing any previously installed listener.
+   */
+  public static void enable(MatcherListener listener) {
+    MatcherInstrumentation.listener = Objects.requireNonNull(listener, "listener");
+  }
+
+  /**
+   * Removes the installed listener.
+   */
+  public static void disable() {
+    listener = null;
+  }
+
+  /**
+   * Returns whether a listener is installed.
+   */
+  public static boolean isEnabled() {
+    return listener != null;
+  }
+}
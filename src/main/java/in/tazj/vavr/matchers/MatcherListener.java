@@ -0,0 +1,33 @@
+package in.tazj.vavr.matchers;
+
+/**
+ * Receives an event for every evaluation of a matcher in this library while it is installed with
+ * {@link MatcherInstrumentation#enable(MatcherListener)}.
+ *
+ * Events are delivered synchronously on the thread that evaluates the matcher, so implementations
+ * must be thread-safe and cheap. Timings and element counts include those of nested matchers of
+ * this library.
+ *
+ * @see MatcherStatistics
+ */
+public interface MatcherListener {
+  /**
+   * Called after a matcher has been matched against a value of its expected type.
+   *
+   * @param kind     The kind of matcher, i.e. the factory that created it, e.g.
+   *                 {@code "CollectionMatchers.allMatch"}.
+   * @param matched  Whether the value matched.
+   * @param elements The number of collection elements visited, or {@code 0} for matchers that do
+   *                 not visit elements.
+   * @param nanos    The time spent matching, in nanoseconds.
+   */
+  void matched(String kind, boolean matched, long elements, long nanos);
+
+  /**
+   * Called after a matcher has described why a value did not match.
+   *
+   * @param kind  The kind of matcher.
+   * @param nanos The time spent describing the mismatch, in nanoseconds.
+   */
+  void described(String kind, long nanos);
+}
@@ -0,0 +1,41 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.core.IsAnything;
+
+import java.util.function.Predicate;
+
+/**
+ * Compiles matchers into plain {@link Predicate}s for use outside of assertions, e.g. to filter
+ * data.
+ *
+ * Matching a composed matcher such as {@code isDefined(isRight(allMatch(...)))} goes through
+ * Hamcrest's type and null checks and a virtual call at every level. A compiled predicate
+ * evaluates the same tree as nested lambdas over the Vavr values, without mismatch descriptions.
+ */
+public final class MatcherPredicates {
+  private MatcherPredicates() {
+  }
+
+  /**
+   * Compiles a matcher into a predicate that accepts the same values.
+   *
+   * The matchers of this library, and the matchers nested in them, are compiled into predicates
+   * that, like {@link Matcher#matches(Object)}, reject {@code null} and values of other types and
+   * traverse collections in the same way. Other Hamcrest matchers are evaluated by calling
+   * {@link Matcher#matches(Object)}. Evaluations of compiled predicates are not reported to
+   * {@link MatcherInstrumentation}.
+   *
+   * @param matcher The matcher to compile.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Predicate<T> compile(Matcher<? super T> matcher) {
+    if (matcher instanceof InstrumentedMatcher) {
+      return ((InstrumentedMatcher<T>) matcher).compile();
+    }
+    if (matcher instanceof IsAnything) {
+      return value -> true;
+    }
+    return matcher::matches;
+  }
+}
@@ -0,0 +1,208 @@
+package in.tazj.vavr.matchers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MatcherListener} that aggregates matcher evaluations per kind of matcher.
+ *
+ * Counters are {@link LongAdder}s, so concurrent evaluations on many threads do not contend on a
+ * single counter. The statistics can be written as an aligned text table or as CSV.
+ *
+ * <pre>
+ * MatcherStatistics statistics = new MatcherStatistics();
+ * MatcherInstrumentation.enable(statistics);
+ * ...
+ * statistics.writeText(System.out);
+ * </pre>
+ */
+public final class MatcherStatistics implements MatcherListener {
+  private static final String[] COLUMNS = {
+      "matcher", "invocations", "matches", "mismatches", "elements", "match_nanos",
+      "descriptions", "describe_nanos"
+  };
+
+  private final ConcurrentMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+  @Override
+  public void matched(String kind, boolean matched, long elements, long nanos) {
+    final Counters c = countersOf(kind);
+    (matched ? c.matches : c.mismatches).increment();
+    c.elements.add(elements);
+    c.matchNanos.add(nanos);
+  }
+
+  @Override
+  public void described(String kind, long nanos) {
+    final Counters c = countersOf(kind);
+    c.descriptions.increment();
+    c.describeNanos.add(nanos);
+  }
+
+  private Counters countersOf(String kind) {
+    // get() first avoids the locking of computeIfAbsent() for kinds that are already known.
+    final Counters c = counters.get(kind);
+    return c != null ? c : counters.computeIfAbsent(kind, k -> new Counters());
+  }
+
+  /**
+   * Returns the counters of a kind of matcher, which are all zero if it has not been evaluated.
+   *
+   * @param kind The kind of matcher, e.g. {@code "CollectionMatchers.allMatch"}.
+   */
+  public Counters get(String kind) {
+    final Counters c = counters.get(kind);
+    return c != null ? c : new Counters();
+  }
+
+  /**
+   * Resets all counters.
+   */
+  public void reset() {
+    counters.clear();
+  }
+
+  /**
+   * Writes the statistics as a table with one row per kind of matcher, ordered by name.
+   */
+  public void writeText(Appendable out) {
+    final Map<String, long[]> rows = snapshot();
+    int width = COLUMNS[0].length();
+    for (String kind : rows.keySet()) {
+      width = Math.max(width, kind.length());
+    }
+
+    final String format = "%-" + width + "s" + repeat(" %14s", COLUMNS.length - 1) + "%n";
+    write(out, String.format(Locale.ROOT, format, (Object[]) COLUMNS));
+    for (Map.Entry<String, long[]> row : rows.entrySet()) {
+      write(out, String.format(Locale.ROOT, format, cells(row.getKey(), row.getValue())));
+    }
+  }
+
+  /**
+   * Writes the statistics as CSV with a header line and one line per kind of matcher, ordered by
+   * name.
+   */
+  public void writeCsv(Appendable out) {
+    write(out, String.join(",", COLUMNS) + "\n");
+    for (Map.Entry<String, long[]> row : snapshot().entrySet()) {
+      final StringBuilder line = new StringBuilder(row.getKey());
+      for (long value : row.getValue()) {
+        line.append(',').append(value);
+      }
+      write(out, line.append('\n').toString());
+    }
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder text = new StringBuilder();
+    writeText(text);
+    return text.toString();
+  }
+
+  private Map<String, long[]> snapshot() {
+    final Map<String, long[]> rows = new TreeMap<>();
+    counters.forEach((kind, c) -> rows.put(kind, new long[]{
+        c.invocations(), c.matches(), c.mismatches(), c.elements(), c.matchNanos(),
+        c.descriptions(), c.describeNanos()
+    }));
+    return rows;
+  }
+
+  private static Object[] cells(String kind, long[] values) {
+    final Object[] cells = new Object[values.length + 1];
+    cells[0] = kind;
+    for (int i = 0; i < values.length; i++) {
+      cells[i + 1] = values[i];
+    }
+    return cells;
+  }
+
+  private static String repeat(String string, int count) {
+    final StringBuilder repeated = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      repeated.append(string);
+    }
+    return repeated.toString();
+  }
+
+  private static void write(Appendable out, String text) {
+    try {
+      out.append(text);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * The counters of a single kind of matcher.
+   */
+  public static final class Counters {
+    private final LongAdder matches = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder matchNanos = new LongAdder();
+    private final LongAdder descriptions = new LongAdder();
+    private final LongAdder describeNanos = new LongAdder();
+
+    private Counters() {
+    }
+
+    /**
+     * The number of times the matcher was matched against a value of its expected type.
+     */
+    public long invocations() {
+      return matches() + mismatches();
+    }
+
+    public long matches() {
+      return matches.sum();
+    }
+
+    public long mismatches() {
+      return mismatches.sum();
+    }
+
+    /**
+     * The ratio of matches to invocations, or {@code NaN} if the matcher was not invoked.
+     */
+    public double matchRatio() {
+      return (double) matches() / invocations();
+    }
+
+    /**
+     * The total number of collection elements visited while matching.
+     */
+    public long elements() {
+      return elements.sum();
+    }
+
+    /**
+     * The total time spent matching, in nanoseconds.
+     */
+    public long matchNanos() {
+      return matchNanos.sum();
+    }
+
+    /**
+     * The number of mismatch descriptions.
+     */
+    public long descriptions() {
+      return descriptions.sum();
+    }
+
+    /**
+     * The total time spent describing mismatches, in nanoseconds.
+     */
+    public long describeNanos() {
+      return describeNanos.sum();
+    }
+  }
+}
@@ -0,0 +1,216 @@
+package in.tazj.vavr.matchers;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Traversable;
+import io.vavr.control.Option;
+
+/**
+ * Searches the elements of a Vavr {@link Traversable} for an element satisfying a predicate by
+ * splitting the elements across a {@link ForkJoinPool}.
+ *
+ * Indexed sequences such as {@link io.vavr.collection.Vector} and {@link io.vavr.collection.Array}
+ * are split into ranges using their random access, without copying. Other traversables of definite
+ * size, including hash-based collections, are iterated once in the calling task, which hands out
+ * chunks of at most {@value #MAX_CHUNK_SIZE} elements to the pool and keeps only a few of them in
+ * flight. Traversables without a definite size, such as lazy streams, are searched sequentially in
+ * iteration order, as splitting them would have to evaluate them first.
+ */
+final class ParallelSearch<E> {
+  private static final int NOT_FOUND = Integer.MAX_VALUE;
+  private static final int MAX_CHUNK_SIZE = 1024;
+
+  private final Predicate<? super E> predicate;
+  private final boolean first;
+  private final int granularity;
+  private volatile int foundIndex = NOT_FOUND;
+  private E foundElement;
+
+  private ParallelSearch(Predicate<? super E> predicate, boolean first, int granularity) {
+    this.predicate = predicate;
+    this.first = first;
+    this.granularity = granularity;
+  }
+
+  /**
+   * Finds the first element in iteration order that satisfies the predicate. Elements after an
+   * already found element are not searched any further.
+   *
+   * @return The first matching element and its index, if any.
+   */
+  static <E> Option<Tuple2<E, Integer>> findFirst(Traversable<E> t,
+                                                  Predicate<? super E> predicate,
+                                                  ForkJoinPool pool) {
+    return search(t, predicate, pool, true);
+  }
+
+  /**
+   * Finds any element that satisfies the predicate. The search is cancelled as soon as one
+   * element is found.
+   *
+   * @return A matching element and its index, if any.
+   */
+  static <E> Option<Tuple2<E, Integer>> findAny(Traversable<E> t,
+                                                Predicate<? super E> predicate,
+                                                ForkJoinPool pool) {
+    return search(t, predicate, pool, false);
+  }
+
+  private static <E> Option<Tuple2<E, Integer>> search(Traversable<E> t,
+                                                       Predicate<? super E> predicate,
+                                                       ForkJoinPool pool, boolean first) {
+    if (!(t instanceof IndexedSeq) && !t.hasDefiniteSize()) {
+      return sequential(t, predicate);
+    }
+
+    // Several tasks per worker so that workers that finish early can steal remaining ranges.
+    final int size = t.size();
+    final int granularity = Math.max(1, size / (pool.getParallelism() * 8));
+    final ParallelSearch<E> search = new ParallelSearch<>(predicate, first, granularity);
+    if (t instanceof IndexedSeq) {
+      pool.invoke(search.new SearchRange((IndexedSeq<E>) t, 0, size));
+    } else {
+      pool.invoke(search.new SearchChunks(t.iterator(), pool.getParallelism() * 2));
+    }
+
+    if (search.foundIndex == NOT_FOUND) {
+      return Option.none();
+    }
+    return Option.some(Tuple.of(search.foundElement, search.foundIndex));
+  }
+
+  private static <E> Option<Tuple2<E, Integer>> sequential(Traversable<E> t,
+                                                           Predicate<? super E> predicate) {
+    int index = 0;
+    for (E element : t) {
+      if (predicate.test(element)) {
+        return Option.some(Tuple.of(element, index));
+      }
+      index++;
+    }
+    return Option.none();
+  }
+
+  /**
+   * Checks whether elements from the given index on need not be searched any more.
+   */
+  private boolean isSettled(int index) {
+    return first ? index >= foundIndex : foundIndex != NOT_FOUND;
+  }
+
+  private synchronized void found(int index, E element) {
+    if (index < foundIndex) {
+      foundElement = element;
+      foundIndex = index;
+    }
+  }
+
+  private final class SearchRange extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final IndexedSeq<E> seq;
+    private final int from;
+    private final int to;
+
+    private SearchRange(IndexedSeq<E> seq, int from, int to) {
+      this.seq = seq;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (isSettled(from)) {
+        return;
+      }
+
+      if (to - from > granularity) {
+        final int middle = (from + to) >>> 1;
+        invokeAll(new SearchRange(seq, from, middle), new SearchRange(seq, middle, to));
+        return;
+      }
+
+      for (int i = from; i < to && !isSettled(i); i++) {
+        final E element = seq.get(i);
+        if (predicate.test(element)) {
+          found(i, element);
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Iterates the elements and forks a task per chunk, joining the oldest chunk whenever more than
+   * {@code maxPending} chunks are in flight.
+   */
+  private final class SearchChunks extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final Iterator<E> elements;
+    private final int maxPending;
+
+    private SearchChunks(Iterator<E> elements, int maxPending) {
+      this.elements = elements;
+      this.maxPending = maxPending;
+    }
+
+    @Override
+    protected void compute() {
+      final int chunkSize = Math.min(granularity, MAX_CHUNK_SIZE);
+      final Deque<ForkJoinTask<Void>> pending = new ArrayDeque<>();
+      int index = 0;
+
+      while (elements.hasNext() && !isSettled(index)) {
+        final Object[] chunk = new Object[chunkSize];
+        int length = 0;
+        while (length < chunkSize && elements.hasNext()) {
+          chunk[length++] = elements.next();
+        }
+
+        pending.add(new SearchChunk(chunk, length, index).fork());
+        index += length;
+        if (pending.size() > maxPending) {
+          pending.remove().join();
+        }
+      }
+
+      pending.forEach(ForkJoinTask::join);
+    }
+  }
+
+  private final class SearchChunk extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] chunk;
+    private final int length;
+    private final int offset;
+
+    private SearchChunk(Object[] chunk, int length, int offset) {
+      this.chunk = chunk;
+      this.length = length;
+      this.offset = offset;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void compute() {
+      for (int i = 0; i < length && !isSettled(offset + i); i++) {
+        final E element = (E) chunk[i];
+        if (predicate.test(element)) {
+          found(offset + i, element);
+          return;
+        }
+      }
+    }
+  }
+}
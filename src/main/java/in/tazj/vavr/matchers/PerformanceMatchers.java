@@ -0,0 +1,362 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.core.IsAnything;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.Function0;
+import io.vavr.Lazy;
+import io.vavr.control.Try;
+
+/**
+ * Provides Hamcrest matchers for the latency and allocations of code, given as a
+ * {@link Supplier}. A Vavr {@link CheckedFunction0} can be measured through
+ * {@link CheckedFunction0#unchecked()}.
+ *
+ * The code is run on the calling thread, to completion, when the matcher is evaluated. Apart from
+ * {@link #runsWithin(Duration)}, matchers first run it a number of warm-up iterations whose
+ * measurements are discarded. Every iteration calls {@link Supplier#get()} again, so memoized
+ * suppliers such as a Vavr {@link Lazy} or a memoized {@link Function0}, which would only
+ * run the code once, do not match.
+ *
+ * Each matcher keeps the measurements of its last evaluation, so that the mismatch description
+ * does not run the code again.
+ */
+public class PerformanceMatchers {
+  /**
+   * The default number of warm-up iterations.
+   */
+  public static final int DEFAULT_WARMUP_ITERATIONS = 10;
+
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+  /**
+   * Matches code that completes within the given time when it is run once.
+   *
+   * @param limit The maximum running time.
+   */
+  public static <T> Matcher<Supplier<T>> runsWithin(Duration limit) {
+    return new RunsWithin<>(limit, new IsAnything<>());
+  }
+
+  /**
+   * Matches code that completes within the given time when it is run once, with a result
+   * matching the supplied matcher, e.g.
+   * {@code runsWithin(Duration.ofMillis(10), isSuccess(is(42)))}.
+   *
+   * @param limit  The maximum running time.
+   * @param result Matcher for the result of the code, or the exception it threw, as a Vavr
+   *               {@link Try}.
+   */
+  public static <T> Matcher<Supplier<T>> runsWithin(Duration limit,
+                                                    Matcher<? super Try<T>> result) {
+    return new RunsWithin<>(limit, result);
+  }
+
+  private static final class RunsWithin<T> extends InstrumentedMatcher<Supplier<T>> {
+    private final Duration limit;
+    private final Matcher<? super Try<T>> result;
+    private volatile Measurement last;
+
+    private RunsWithin(Duration limit, Matcher<? super Try<T>> result) {
+      super(Supplier.class, "PerformanceMatchers.runsWithin");
+      this.limit = limit;
+      this.result = result;
+    }
+
+    @Override
+    protected boolean evaluate(Supplier<T> code) {
+      final Measurement measurement = measure(code);
+      return measurement.isValid()
+          && measurement.samples[0] <= limit.toNanos()
+          && result.matches(measurement.result);
+    }
+
+    private Measurement measure(Supplier<T> code) {
+      if (isMemoized(code)) {
+        return last = Measurement.unsupported(code);
+      }
+
+      final CheckedFunction0<T> task = code::get;
+      final long start = System.nanoTime();
+      final Try<?> value = Try.of(task);
+      final long nanos = System.nanoTime() - start;
+      return last = new Measurement(code, new long[]{nanos}, value);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("code completing within ").appendText(format(limit.toNanos()));
+      if (!(result instanceof IsAnything)) {
+        description.appendText(" with result ").appendDescriptionOf(result);
+      }
+    }
+
+    @Override
+    public void explainMismatch(Supplier<T> code, Description mismatch) {
+      final Measurement measurement = (last != null && last.isFor(code)) ? last : measure(code);
+      if (!measurement.isValid()) {
+        measurement.describeUnsupported(mismatch);
+      } else if (measurement.samples[0] > limit.toNanos()) {
+        mismatch.appendText("took ").appendText(format(measurement.samples[0]));
+      } else {
+        mismatch.appendText("completed in ").appendText(format(measurement.samples[0]))
+            .appendText(" but result ");
+        result.describeMismatch(measurement.result, mismatch);
+      }
+    }
+  }
+
+  /**
+   * Matches code that allocates at most the given number of bytes on the heap when it is run
+   * once, after {@link #DEFAULT_WARMUP_ITERATIONS} warm-up iterations.
+   *
+   * Allocations are measured with the per-thread allocation counter of HotSpot-based JVMs. On
+   * other JVMs the matcher does not match.
+   *
+   * @param bytes The maximum number of allocated bytes.
+   */
+  public static <T> Matcher<Supplier<T>> allocatesAtMost(long bytes) {
+    return new AllocatesAtMost<>(bytes);
+  }
+
+  private static final class AllocatesAtMost<T> extends InstrumentedMatcher<Supplier<T>> {
+    private final long bytes;
+    private volatile Measurement last;
+
+    private AllocatesAtMost(long bytes) {
+      super(Supplier.class, "PerformanceMatchers.allocatesAtMost");
+      this.bytes = bytes;
+    }
+
+    @Override
+    protected boolean evaluate(Supplier<T> code) {
+      final Measurement measurement = measure(code);
+      return measurement.isValid() && measurement.samples[0] <= bytes;
+    }
+
+    private Measurement measure(Supplier<T> code) {
+      if (isMemoized(code) || allocatedBytes() < 0) {
+        return last = Measurement.unsupported(code);
+      }
+
+      final CheckedFunction0<T> task = code::get;
+      warmUp(task, DEFAULT_WARMUP_ITERATIONS);
+      final long before = allocatedBytes();
+      final Try<?> value = Try.of(task);
+      final long allocated = allocatedBytes() - before;
+      return last = new Measurement(code, new long[]{allocated}, value);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("code allocating at most ").appendValue(bytes).appendText(" bytes");
+    }
+
+    @Override
+    public void explainMismatch(Supplier<T> code, Description mismatch) {
+      final Measurement measurement = (last != null && last.isFor(code)) ? last : measure(code);
+      if (!measurement.isValid()) {
+        measurement.describeUnsupported(mismatch);
+      } else {
+        mismatch.appendText("allocated ").appendValue(measurement.samples[0]).appendText(" bytes");
+      }
+    }
+  }
+
+  /**
+   * Matches code whose 99th percentile running time over the given number of iterations, after
+   * {@link #DEFAULT_WARMUP_ITERATIONS} warm-up iterations, is below the given time.
+   *
+   * @param limit      The exclusive upper bound of the 99th percentile.
+   * @param iterations The number of measured iterations.
+   */
+  public static <T> Matcher<Supplier<T>> hasP99Below(Duration limit, int iterations) {
+    return hasP99Below(limit, iterations, DEFAULT_WARMUP_ITERATIONS);
+  }
+
+  /**
+   * Matches code whose 99th percentile running time over the given number of iterations, after
+   * the given number of warm-up iterations, is below the given time.
+   *
+   * The mismatch description summarises the distribution of the measured running times.
+   *
+   * @param limit      The exclusive upper bound of the 99th percentile.
+   * @param iterations The number of measured iterations.
+   * @param warmup     The number of warm-up iterations.
+   */
+  public static <T> Matcher<Supplier<T>> hasP99Below(Duration limit, int iterations,
+                                                     int warmup) {
+    if (iterations < 1) {
+      throw new IllegalArgumentException("iterations must be positive, but was " + iterations);
+    }
+    return new HasP99Below<>(limit, iterations, warmup);
+  }
+
+  private static final class HasP99Below<T> extends InstrumentedMatcher<Supplier<T>> {
+    private final Duration limit;
+    private final int iterations;
+    private final int warmup;
+    private volatile Measurement last;
+
+    private HasP99Below(Duration limit, int iterations, int warmup) {
+      super(Supplier.class, "PerformanceMatchers.hasP99Below");
+      this.limit = limit;
+      this.iterations = iterations;
+      this.warmup = warmup;
+    }
+
+    @Override
+    protected boolean evaluate(Supplier<T> code) {
+      final Measurement measurement = measure(code);
+      return measurement.isValid()
+          && measurement.result.isSuccess()
+          && measurement.percentile(0.99) < limit.toNanos();
+    }
+
+    private Measurement measure(Supplier<T> code) {
+      if (isMemoized(code)) {
+        return last = Measurement.unsupported(code);
+      }
+
+      final CheckedFunction0<T> task = code::get;
+      warmUp(task, warmup);
+      final long[] samples = new long[iterations];
+      Try<?> value = Try.success(null);
+      for (int i = 0; i < samples.length && value.isSuccess(); i++) {
+        final long start = System.nanoTime();
+        value = Try.of(task);
+        samples[i] = System.nanoTime() - start;
+      }
+
+      Arrays.sort(samples);
+      return last = new Measurement(code, samples, value);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("code with a 99th percentile running time below ")
+          .appendText(format(limit.toNanos()))
+          .appendText(" over ")
+          .appendValue(iterations)
+          .appendText(" iterations");
+    }
+
+    @Override
+    public void explainMismatch(Supplier<T> code, Description mismatch) {
+      final Measurement measurement = (last != null && last.isFor(code)) ? last : measure(code);
+      if (!measurement.isValid()) {
+        measurement.describeUnsupported(mismatch);
+      } else if (measurement.result.isFailure()) {
+        mismatch.appendText("threw ").appendValue(measurement.result.getCause());
+      } else {
+        mismatch.appendText(String.format(Locale.ROOT,
+            "p99 was %s (min %s, p50 %s, p90 %s, max %s over %d iterations)",
+            format(measurement.percentile(0.99)),
+            format(measurement.samples[0]),
+            format(measurement.percentile(0.5)),
+            format(measurement.percentile(0.9)),
+            format(measurement.samples[measurement.samples.length - 1]),
+            measurement.samples.length));
+      }
+    }
+  }
+
+  /**
+   * Checks whether a supplier memoizes its value, so that only its first call runs the code.
+   */
+  private static boolean isMemoized(Supplier<?> code) {
+    return code instanceof Lazy
+        || code instanceof Function0 && ((Function0<?>) code).isMemoized();
+  }
+
+  private static void warmUp(CheckedFunction0<?> task, int iterations) {
+    for (int i = 0; i < iterations; i++) {
+      Try.of(task);
+    }
+  }
+
+  /**
+   * Returns the number of bytes allocated by the current thread so far, or {@code -1} if the JVM
+   * does not support measuring it.
+   */
+  private static long allocatedBytes() {
+    if (THREADS instanceof com.sun.management.ThreadMXBean) {
+      final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+      if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Formats a number of nanoseconds with a readable unit, e.g. {@code 1.5ms}.
+   */
+  private static String format(long nanos) {
+    if (nanos < 1_000) {
+      return nanos + "ns";
+    } else if (nanos < 1_000_000) {
+      return String.format(Locale.ROOT, "%.1fus", nanos / 1e3);
+    } else if (nanos < 1_000_000_000) {
+      return String.format(Locale.ROOT, "%.1fms", nanos / 1e6);
+    }
+    return String.format(Locale.ROOT, "%.2fs", nanos / 1e9);
+  }
+
+  /**
+   * The sorted samples and the last result of measuring a piece of code.
+   */
+  private static final class Measurement {
+    private final WeakReference<Supplier<?>> code;
+    private final long[] samples;
+    private final Try<?> result;
+
+    private Measurement(Supplier<?> code, long[] samples, Try<?> result) {
+      this.code = new WeakReference<>(code);
+      this.samples = samples;
+      this.result = result;
+    }
+
+    private static Measurement unsupported(Supplier<?> code) {
+      return new Measurement(code, null, null);
+    }
+
+    private boolean isFor(Object code) {
+      return this.code.get() == code;
+    }
+
+    private boolean isValid() {
+      return samples != null;
+    }
+
+    /**
+     * Returns the nearest-rank percentile of the samples.
+     */
+    private long percentile(double p) {
+      final int rank = (int) Math.ceil(p * samples.length);
+      return samples[Math.max(rank, 1) - 1];
+    }
+
+    private void describeUnsupported(Description mismatch) {
+      final Supplier<?> memoized = code.get();
+      if (memoized != null && isMemoized(memoized)) {
+        mismatch
+            .appendValue(memoized)
+            .appendText(" memoizes its value, so only its first call would run the code");
+      } else {
+        mismatch.appendText("measuring allocations is not supported by this JVM");
+      }
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package in.tazj.vavr.matchers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Traversable;
+
+/**
+ * Draws a seeded random sample of distinct elements from a Vavr {@link Traversable}.
+ *
+ * Indexed sequences such as {@link io.vavr.collection.Vector} and {@link io.vavr.collection.Array}
+ * are sampled by drawing random indices, so only the sampled elements are accessed. All other
+ * traversables are traversed once with reservoir sampling, which keeps only the sample in memory.
+ * The same seed always draws the same sample from the same traversable.
+ */
+final class RandomSample {
+  private RandomSample() {
+  }
+
+  /**
+   * Returns the number of elements to sample so that, if at least the given fraction of the
+   * elements of a collection have some property, the sample contains at least one of them with
+   * the given confidence.
+   *
+   * @param confidence The probability of sampling an element with the property, in (0, 1).
+   * @param rate       The minimum fraction of elements with the property, in (0, 1).
+   */
+  static int sizeFor(double confidence, double rate) {
+    if (!(confidence > 0 && confidence < 1)) {
+      throw new IllegalArgumentException("confidence must be in (0, 1), but was " + confidence);
+    }
+    if (!(rate > 0 && rate < 1)) {
+      throw new IllegalArgumentException("rate must be in (0, 1), but was " + rate);
+    }
+
+    // Each independently drawn element misses the property with a probability of at most
+    // (1 - rate), so a sample of n elements misses it with a probability of (1 - rate)^n.
+    final double size = Math.ceil(Math.log(1 - confidence) / Math.log(1 - rate));
+    return (int) Math.min(Integer.MAX_VALUE, size);
+  }
+
+  /**
+   * Draws a sample of at most {@code size} distinct elements. The traversable must be finite.
+   *
+   * @return The sampled elements with their indices, ordered by index. If the traversable has at
+   * most {@code size} elements, all of them are returned.
+   */
+  static <E> List<Tuple2<E, Integer>> of(Traversable<E> t, int size, long seed) {
+    final SplittableRandom random = new SplittableRandom(seed);
+    return t instanceof IndexedSeq
+        ? ofIndexed((IndexedSeq<E>) t, size, random)
+        : ofTraversal(t, size, random);
+  }
+
+  /**
+   * Draws distinct random indices with Floyd's algorithm, which needs exactly one random number
+   * per sampled index.
+   */
+  private static <E> List<Tuple2<E, Integer>> ofIndexed(IndexedSeq<E> seq,
+                                                        int size,
+                                                        SplittableRandom random) {
+    final int length = seq.length();
+    final int[] indices;
+    if (length <= size) {
+      indices = new int[length];
+      Arrays.setAll(indices, i -> i);
+    } else {
+      final Set<Integer> drawn = new HashSet<>(size * 2);
+      for (int j = length - size; j < length; j++) {
+        final int index = random.nextInt(j + 1);
+        drawn.add(drawn.contains(index) ? j : index);
+      }
+      indices = drawn.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    final List<Tuple2<E, Integer>> sample = new ArrayList<>(indices.length);
+    for (int index : indices) {
+      sample.add(Tuple.of(seq.get(index), index));
+    }
+    InstrumentedMatcher.visited(indices.length);
+    return sample;
+  }
+
+  /**
+   * Draws a sample with reservoir sampling (Algorithm R) in a single traversal.
+   */
+  private static <E> List<Tuple2<E, Integer>> ofTraversal(Traversable<E> t,
+                                                          int size,
+                                                          SplittableRandom random) {
+    final List<Tuple2<E, Integer>> reservoir = new ArrayList<>(Math.min(size, 1024));
+    int index = 0;
+    for (E element : t) {
+      if (index < size) {
+        reservoir.add(Tuple.of(element, index));
+      } else {
+        final int slot = random.nextInt(index + 1);
+        if (slot < size) {
+          reservoir.set(slot, Tuple.of(element, index));
+        }
+      }
+      index++;
+    }
+
+    reservoir.sort((a, b) -> Integer.compare(a._2, b._2));
+    InstrumentedMatcher.visited(index);
+    return reservoir;
+  }
+}
@@ -0,0 +1,154 @@
+package in.tazj.vavr.matchers;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A mutable map from the keys of a collection seen so far to the index of the first element with
+ * that key, used to find repeated elements and their first occurrence in a single pass.
+ *
+ * As long as all keys are {@link Integer}s or all keys are {@link Long}s, they are stored
+ * unboxed in an open-addressing hash table backed by a {@code long[]} and a parallel
+ * {@code int[]} of indices, which allocates nothing per key and needs far less memory than a
+ * {@link HashMap}. Once a key of any other type is added, the keys are moved to a
+ * {@link HashMap}.
+ */
+final class SeenKeys {
+  private static final int INITIAL_CAPACITY = 16;
+  private static final int NOT_SEEN = -1;
+
+  private Class<?> primitiveType;
+  // 0 marks an empty slot, so the index of the key 0 is tracked separately.
+  private long[] table;
+  private int[] indices;
+  private int shift;
+  private int zeroIndex = NOT_SEEN;
+  private int size = 0;
+
+  private Map<Object, Integer> boxed;
+  private int nullIndex = NOT_SEEN;
+
+  /**
+   * Adds a key with the index of its element, unless the key was seen before.
+   *
+   * @return The index of the first element with the key, or {@code -1} if the key was not seen
+   * before.
+   */
+  int add(Object key, int index) {
+    if (key == null) {
+      final int first = nullIndex;
+      if (first == NOT_SEEN) {
+        nullIndex = index;
+      }
+      return first;
+    }
+
+    if (boxed == null) {
+      if (primitiveType == null) {
+        if (!(key instanceof Integer || key instanceof Long)) {
+          boxed = new HashMap<>();
+          return addBoxed(key, index);
+        }
+        primitiveType = key.getClass();
+        table = new long[INITIAL_CAPACITY];
+        indices = new int[INITIAL_CAPACITY];
+        shift = shiftFor(INITIAL_CAPACITY);
+      }
+      if (key.getClass() == primitiveType) {
+        return addPrimitive(((Number) key).longValue(), index);
+      }
+      moveToBoxed();
+    }
+    return addBoxed(key, index);
+  }
+
+  private int addBoxed(Object key, int index) {
+    final Integer first = boxed.putIfAbsent(key, index);
+    return first == null ? NOT_SEEN : first;
+  }
+
+  private int addPrimitive(long key, int index) {
+    if (key == 0) {
+      final int first = zeroIndex;
+      if (first == NOT_SEEN) {
+        zeroIndex = index;
+      }
+      return first;
+    }
+
+    final int mask = table.length - 1;
+    int slot = slot(key, shift);
+    while (table[slot] != 0) {
+      if (table[slot] == key) {
+        return indices[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    table[slot] = key;
+    indices[slot] = index;
+    if (++size * 4 >= table.length * 3) {
+      grow();
+    }
+    return NOT_SEEN;
+  }
+
+  private void grow() {
+    final long[] oldTable = table;
+    final int[] oldIndices = indices;
+    table = new long[oldTable.length * 2];
+    indices = new int[oldTable.length * 2];
+    shift = shiftFor(table.length);
+
+    final int mask = table.length - 1;
+    for (int i = 0; i < oldTable.length; i++) {
+      final long key = oldTable[i];
+      if (key != 0) {
+        int slot = slot(key, shift);
+        while (table[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        table[slot] = key;
+        indices[slot] = oldIndices[i];
+      }
+    }
+  }
+
+  private void moveToBoxed() {
+    boxed = new HashMap<>(Math.max(INITIAL_CAPACITY, size * 2));
+    if (zeroIndex != NOT_SEEN) {
+      boxed.put(box(0), zeroIndex);
+    }
+    for (int i = 0; i < table.length; i++) {
+      if (table[i] != 0) {
+        boxed.put(box(table[i]), indices[i]);
+      }
+    }
+    table = null;
+    indices = null;
+  }
+
+  private Object box(long key) {
+    return primitiveType == Integer.class ? (Object) (int) key : (Object) key;
+  }
+
+  /**
+   * Hashes a key to a slot of the table.
+   *
+   * The low three bits of the key select a slot within a block of eight slots, the size of a
+   * cache line, and the remaining bits select the block with Fibonacci hashing. Runs of
+   * consecutive ids therefore share cache lines instead of causing a cache miss per key, while
+   * ids that are multiples of a power of two are still spread over all blocks.
+   */
+  private static int slot(long key, int shift) {
+    final long block = ((key >>> 3) * 0x9E3779B97F4A7C15L) >>> shift;
+    return (int) (block << 3 | (key & 7));
+  }
+
+  /**
+   * Returns the shift that turns a 64-bit hash into a block index of a table of the given length.
+   */
+  private static int shiftFor(int length) {
+    return 64 - (Integer.numberOfTrailingZeros(length) - 3);
+  }
+}
@@ -0,0 +1,351 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+
+/**
+ * Computes a minimal edit script between two sequences, used to describe why two sequences are not
+ * equal.
+ *
+ * The script is computed with the linear-space variant of Myers' O(ND) difference algorithm, which
+ * needs O(N + M) memory for sequences of length N and M and O((N + M) · D) time for an edit
+ * distance of D. Since the time grows with the distance, the search is abandoned as soon as the
+ * distance is known to exceed a limit.
+ *
+ * Common prefixes are skipped before any element is copied, and so are common suffixes that two
+ * {@link List}s share structurally.
+ */
+final class SeqDiff {
+  /**
+   * The positions of runs of equal elements, as triples of expected index, actual index and
+   * length, in ascending order.
+   */
+  private final ArrayList<int[]> common = new ArrayList<>();
+  private final Object[] expected;
+  private final Object[] actual;
+  private final int offset;
+  private final int maxEdits;
+
+  private int edits = -1;
+
+  private SeqDiff(Object[] expected, Object[] actual, int offset, int maxEdits) {
+    this.expected = expected;
+    this.actual = actual;
+    this.offset = offset;
+    this.maxEdits = maxEdits;
+  }
+
+  /**
+   * Checks whether two sequences contain equal elements in the same order, without comparing
+   * elements that are known to be equal because the sequences share them.
+   */
+  static boolean equal(Seq<?> expected, Seq<?> actual) {
+    if (expected == actual) {
+      return true;
+    }
+    if (expected instanceof List && actual instanceof List) {
+      return equalLists((List<?>) expected, (List<?>) actual);
+    }
+    if (expected instanceof IndexedSeq && actual instanceof IndexedSeq
+        && expected.size() != actual.size()) {
+      return false;
+    }
+
+    final java.util.Iterator<?> left = expected.iterator();
+    final java.util.Iterator<?> right = actual.iterator();
+    while (left.hasNext() && right.hasNext()) {
+      if (!Objects.equals(left.next(), right.next())) {
+        return false;
+      }
+    }
+    return !left.hasNext() && !right.hasNext();
+  }
+
+  private static boolean equalLists(List<?> expected, List<?> actual) {
+    if (expected.length() != actual.length()) {
+      return false;
+    }
+
+    List<?> left = expected;
+    List<?> right = actual;
+    while (left != right) {
+      if (left.isEmpty() || !Objects.equals(left.head(), right.head())) {
+        return false;
+      }
+      left = left.tail();
+      right = right.tail();
+    }
+    return true;
+  }
+
+  /**
+   * Computes the differences between two unequal sequences, unless they differ by more than
+   * {@code maxEdits} insertions and deletions.
+   */
+  static SeqDiff of(Seq<?> expected, Seq<?> actual, int maxEdits) {
+    // Leading elements are compared while iterating, so that only the differing remainder is
+    // copied into arrays for the diff.
+    final java.util.Iterator<?> left = expected.iterator();
+    final java.util.Iterator<?> right = actual.iterator();
+    final ArrayList<Object> expectedRest = new ArrayList<>();
+    final ArrayList<Object> actualRest = new ArrayList<>();
+    int offset = 0;
+    while (left.hasNext() && right.hasNext()) {
+      final Object l = left.next();
+      final Object r = right.next();
+      if (!Objects.equals(l, r)) {
+        expectedRest.add(l);
+        actualRest.add(r);
+        break;
+      }
+      offset++;
+    }
+
+    final int shared = sharedSuffix(expected, actual, offset + expectedRest.size());
+    copyRemaining(left, expectedRest, shared == 0 ? -1 : expected.length() - offset - shared);
+    copyRemaining(right, actualRest, shared == 0 ? -1 : actual.length() - offset - shared);
+
+    final SeqDiff diff =
+        new SeqDiff(expectedRest.toArray(), actualRest.toArray(), offset, maxEdits);
+    diff.compute();
+    return diff;
+  }
+
+  /**
+   * Returns the number of trailing elements that two {@link List}s share structurally, without
+   * looking at the first {@code skip} elements.
+   */
+  private static int sharedSuffix(Seq<?> expected, Seq<?> actual, int skip) {
+    if (!(expected instanceof List) || !(actual instanceof List)) {
+      return 0;
+    }
+
+    // Shared tails end both lists, so the longer list is first aligned with the shorter one.
+    final int expectedLength = expected.length();
+    final int actualLength = actual.length();
+    final int length = Math.min(expectedLength, actualLength);
+    List<?> left = ((List<?>) expected).drop(expectedLength - length);
+    List<?> right = ((List<?>) actual).drop(actualLength - length);
+
+    for (int position = 0; position < length; position++) {
+      if (left == right) {
+        return Math.min(length - position, Math.min(expectedLength, actualLength) - skip);
+      }
+      left = left.tail();
+      right = right.tail();
+    }
+    return 0;
+  }
+
+  /**
+   * Copies elements into a list until it has {@code length} elements, or until the iterator is
+   * exhausted if {@code length} is negative.
+   */
+  private static void copyRemaining(java.util.Iterator<?> elements, ArrayList<Object> list,
+                                    int length) {
+    while (elements.hasNext() && (length < 0 || list.size() < length)) {
+      list.add(elements.next());
+    }
+  }
+
+  /**
+   * Returns whether the sequences differ by more than the maximum number of edits, in which case
+   * no edit script was computed.
+   */
+  boolean isExceeded() {
+    return edits < 0;
+  }
+
+  /**
+   * Returns the index of the first element that differs.
+   */
+  int firstDifference() {
+    return offset;
+  }
+
+  /**
+   * Returns the number of insertions and deletions needed to turn the expected sequence into the
+   * actual one.
+   */
+  int edits() {
+    return edits;
+  }
+
+  /**
+   * Appends the edit script, as runs of inserted, deleted and changed elements, to a description.
+   * Indices refer to the actual sequence.
+   */
+  void appendTo(Description description) {
+    final BoundedValueList<String> runs = BoundedValueList.strings();
+    int expectedFrom = 0;
+    int actualFrom = 0;
+
+    for (int[] run : common) {
+      if (run[0] > expectedFrom || run[1] > actualFrom) {
+        runs.add(describeRun(expectedFrom, run[0], actualFrom, run[1]));
+      }
+      expectedFrom = run[0] + run[2];
+      actualFrom = run[1] + run[2];
+    }
+    if (expected.length > expectedFrom || actual.length > actualFrom) {
+      runs.add(describeRun(expectedFrom, expected.length, actualFrom, actual.length));
+    }
+
+    runs.appendTo(description, "", ", ", "");
+  }
+
+  private String describeRun(int expectedFrom, int expectedTo, int actualFrom, int actualTo) {
+    final Description run = new StringDescription();
+    final Iterable<Object> removed = Arrays.asList(expected).subList(expectedFrom, expectedTo);
+    final Iterable<Object> added = Arrays.asList(actual).subList(actualFrom, actualTo);
+
+    if (expectedFrom == expectedTo) {
+      run.appendText("inserted ");
+      BoundedValueList.appendValueList(run, "[", ",", "]", added);
+    } else if (actualFrom == actualTo) {
+      run.appendText("deleted ");
+      BoundedValueList.appendValueList(run, "[", ",", "]", removed);
+    } else {
+      run.appendText("changed ");
+      BoundedValueList.appendValueList(run, "[", ",", "]", removed);
+      run.appendText(" to ");
+      BoundedValueList.appendValueList(run, "[", ",", "]", added);
+    }
+
+    return run.appendText(" at index ").appendValue(offset + actualFrom).toString();
+  }
+
+  private void compute() {
+    final int[] snake = new int[5];
+    final int n = expected.length;
+    final int m = actual.length;
+    if (n == 0 || m == 0) {
+      edits = n + m <= maxEdits ? n + m : -1;
+      return;
+    }
+
+    // Only the outermost search is limited: the distance of each half is lower than the total.
+    if (!middleSnake(0, n, 0, m, maxEdits, snake)) {
+      return;
+    }
+    edits = snake[4];
+    diff(0, snake[0], 0, snake[1]);
+    addCommon(snake[0], snake[1], snake[2] - snake[0]);
+    diff(snake[2], n, snake[3], m);
+  }
+
+  /**
+   * Records the common runs between {@code expected[aFrom, aTo)} and {@code actual[bFrom, bTo)}.
+   */
+  private void diff(int aFrom, int aTo, int bFrom, int bTo) {
+    // Common prefixes and suffixes are recorded directly.
+    final int prefixStart = aFrom;
+    final int prefixActual = bFrom;
+    while (aFrom < aTo && bFrom < bTo && Objects.equals(expected[aFrom], actual[bFrom])) {
+      aFrom++;
+      bFrom++;
+    }
+    addCommon(prefixStart, prefixActual, aFrom - prefixStart);
+
+    int suffix = 0;
+    while (aTo > aFrom && bTo > bFrom && Objects.equals(expected[aTo - 1], actual[bTo - 1])) {
+      aTo--;
+      bTo--;
+      suffix++;
+    }
+
+    if (aFrom < aTo && bFrom < bTo) {
+      final int[] snake = new int[5];
+      middleSnake(aFrom, aTo, bFrom, bTo, Integer.MAX_VALUE, snake);
+      diff(aFrom, snake[0], bFrom, snake[1]);
+      addCommon(snake[0], snake[1], snake[2] - snake[0]);
+      diff(snake[2], aTo, snake[3], bTo);
+    }
+
+    addCommon(aTo, bTo, suffix);
+  }
+
+  private void addCommon(int expectedIndex, int actualIndex, int length) {
+    if (length > 0) {
+      common.add(new int[]{expectedIndex, actualIndex, length});
+    }
+  }
+
+  /**
+   * Finds the middle snake of an optimal edit path between {@code expected[aFrom, aTo)} and
+   * {@code actual[bFrom, bTo)}, searching from both ends at once.
+   *
+   * @param snake Receives the start and end of the snake as {@code x, y, u, v} and the length of
+   *              the edit path.
+   * @return {@code false} if the edit path is longer than {@code limit}.
+   */
+  private boolean middleSnake(int aFrom, int aTo, int bFrom, int bTo, int limit, int[] snake) {
+    final int n = aTo - aFrom;
+    final int m = bTo - bFrom;
+    final int delta = n - m;
+    final boolean odd = (delta & 1) != 0;
+    final int maxD = (int) Math.min((n + m + 1) / 2, limit / 2L + 1);
+    final int offset = maxD + 1;
+    final int[] forward = new int[2 * maxD + 3];
+    final int[] backward = new int[2 * maxD + 3];
+
+    for (int d = 0; d <= maxD; d++) {
+      for (int k = -d; k <= d; k += 2) {
+        int x = (k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1]))
+            ? forward[offset + k + 1]
+            : forward[offset + k - 1] + 1;
+        int y = x - k;
+        final int startX = x;
+        while (x < n && y < m && Objects.equals(expected[aFrom + x], actual[bFrom + y])) {
+          x++;
+          y++;
+        }
+        forward[offset + k] = x;
+
+        final int reverse = delta - k;
+        if (odd && reverse >= -(d - 1) && reverse <= d - 1
+            && x + backward[offset + reverse] >= n) {
+          return snake(snake, aFrom + startX, bFrom + startX - k, aFrom + x, bFrom + y,
+              2 * d - 1, limit);
+        }
+      }
+
+      for (int k = -d; k <= d; k += 2) {
+        int x = (k == -d || (k != d && backward[offset + k - 1] < backward[offset + k + 1]))
+            ? backward[offset + k + 1]
+            : backward[offset + k - 1] + 1;
+        int y = x - k;
+        final int startX = x;
+        while (x < n && y < m
+            && Objects.equals(expected[aTo - x - 1], actual[bTo - y - 1])) {
+          x++;
+          y++;
+        }
+        backward[offset + k] = x;
+
+        final int reverse = delta - k;
+        if (!odd && reverse >= -d && reverse <= d && x + forward[offset + reverse] >= n) {
+          return snake(snake, aTo - x, bTo - y, aTo - startX, bTo - startX + k, 2 * d, limit);
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean snake(int[] snake, int x, int y, int u, int v, int d, int limit) {
+    snake[0] = x;
+    snake[1] = y;
+    snake[2] = u;
+    snake[3] = v;
+    snake[4] = d;
+    return d <= limit;
+  }
+}
@@ -0,0 +1,589 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Seq;
+import io.vavr.collection.SortedMap;
+import io.vavr.collection.SortedSet;
+import io.vavr.collection.Traversable;
+
+/**
+ * Provides Hamcrest matchers for the order of Vavr {@link Seq} and sorted collection types.
+ *
+ * Elements of an {@link IndexedSeq}, such as a {@link io.vavr.collection.Vector} or an
+ * {@link io.vavr.collection.Array}, are accessed by index; other sequences are traversed once.
+ * Sorted collections are queried through their own ordering instead of being scanned.
+ */
+public class SeqMatchers {
+  /**
+   * Matches a Vavr {@link Seq} that contains exactly the expected elements in the same order.
+   *
+   * @param expected The expected elements.
+   */
+  public static <E, T extends Seq<E>> Matcher<T> containsInOrder(Seq<E> expected) {
+    return new ContainsInOrder<>(expected);
+  }
+
+  private static final class ContainsInOrder<E, T extends Seq<E>> extends InstrumentedMatcher<T> {
+    private final Seq<E> expected;
+
+    private ContainsInOrder(Seq<E> expected) {
+      super(Seq.class, "SeqMatchers.containsInOrder");
+      this.expected = expected;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      if (t instanceof IndexedSeq && expected instanceof IndexedSeq
+          && t.size() != expected.size()) {
+        return false;
+      }
+      return orderMismatch(t, expected) < 0;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Sequence should contain in order: ");
+      BoundedValueList.appendValueList(description, "[", ",", "]", expected);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final int index = orderMismatch(t, expected);
+      final Iterator<E> actual = t.iterator().drop(index);
+      final Iterator<E> wanted = expected.iterator().drop(index);
+
+      if (actual.hasNext() && wanted.hasNext()) {
+        mismatch.appendText("element at index ")
+            .appendValue(index)
+            .appendText(" was ")
+            .appendText(BoundedValueList.describeValue(actual.next()))
+            .appendText(" but expected ")
+            .appendText(BoundedValueList.describeValue(wanted.next()));
+      } else if (wanted.hasNext()) {
+        mismatch.appendText("Sequence has only ")
+            .appendValue(index)
+            .appendText(" elements, missing ");
+        BoundedValueList.appendValueList(mismatch, "[", ",", "]", wanted);
+      } else {
+        mismatch.appendText("Sequence has unexpected elements after index ")
+            .appendValue(index - 1)
+            .appendText(": ");
+        BoundedValueList.appendValueList(mismatch, "[", ",", "]", actual);
+      }
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Seq} that contains the expected elements in the same relative order,
+   * possibly with other elements in between.
+   *
+   * The sequence is traversed once and only until the last expected element has been found.
+   *
+   * @param expected The expected elements.
+   */
+  public static <E, T extends Seq<E>> Matcher<T> containsSubsequence(Seq<E> expected) {
+    return new ContainsSubsequence<>(expected);
+  }
+
+  private static final class ContainsSubsequence<E, T extends Seq<E>>
+      extends InstrumentedMatcher<T> {
+    private final Seq<E> expected;
+
+    private ContainsSubsequence(Seq<E> expected) {
+      super(Seq.class, "SeqMatchers.containsSubsequence");
+      this.expected = expected;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return subsequenceLength(t, expected) == expected.size();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Sequence should contain in relative order: ");
+      BoundedValueList.appendValueList(description, "[", ",", "]", expected);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final int found = subsequenceLength(t, expected);
+      mismatch.appendText("Sequence contains the first ")
+          .appendValue(found)
+          .appendText(" expected elements in order but not ")
+          .appendText(BoundedValueList.describeValue(expected.get(found)))
+          .appendText(" after them");
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Seq} whose first elements are equal to the expected elements. This is
+   * {@link CollectionMatchers#startsWith(Traversable)} and describes mismatches the same way.
+   *
+   * @param prefix The expected first elements.
+   */
+  public static <E, T extends Seq<E>> Matcher<T> startsWith(Seq<E> prefix) {
+    return CollectionMatchers.startsWith(prefix);
+  }
+
+  /**
+   * Matches a Vavr {@link Seq} whose last elements are equal to the expected elements.
+   *
+   * Only the last elements of an {@link IndexedSeq} are accessed.
+   *
+   * @param suffix The expected last elements.
+   */
+  public static <E, T extends Seq<E>> Matcher<T> endsWith(Seq<E> suffix) {
+    return new EndsWith<>(suffix);
+  }
+
+  private static final class EndsWith<E, T extends Seq<E>> extends InstrumentedMatcher<T> {
+    private final Seq<E> suffix;
+
+    private EndsWith(Seq<E> suffix) {
+      super(Seq.class, "SeqMatchers.endsWith");
+      this.suffix = suffix;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      final int offset = t.size() - suffix.size();
+      return offset >= 0 && regionMismatch(t, offset, suffix) < 0;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Sequence should end with: ");
+      BoundedValueList.appendValueList(description, "[", ",", "]", suffix);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final int offset = t.size() - suffix.size();
+      if (offset < 0) {
+        mismatch.appendText("Sequence has only ")
+            .appendValue(t.size())
+            .appendText(" elements");
+      } else {
+        describeRegionMismatch(t, offset, suffix, mismatch);
+      }
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Seq} whose elements are in ascending order according to the given
+   * comparator. Equal adjacent elements are allowed.
+   *
+   * @param comparator The comparator defining the expected order.
+   */
+  public static <E, T extends Seq<E>> Matcher<T> isSorted(Comparator<? super E> comparator) {
+    return new IsSorted<>(comparator);
+  }
+
+  private static final class IsSorted<E, T extends Seq<E>> extends InstrumentedMatcher<T> {
+    private final Comparator<? super E> comparator;
+
+    private IsSorted(Comparator<? super E> comparator) {
+      super(Seq.class, "SeqMatchers.isSorted");
+      this.comparator = comparator;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return firstInversion(t, comparator) < 0;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Sequence should be sorted");
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final int index = firstInversion(t, comparator);
+      final Iterator<E> elements = t.iterator().drop(index - 1);
+      final E predecessor = elements.next();
+
+      mismatch.appendText("element at index ")
+          .appendValue(index)
+          .appendText(" was ")
+          .appendText(BoundedValueList.describeValue(elements.next()))
+          .appendText(" which is ordered before its predecessor ")
+          .appendText(BoundedValueList.describeValue(predecessor));
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Seq} whose element at the given index matches the supplied matcher.
+   *
+   * The element of an {@link IndexedSeq} is accessed directly, other sequences are traversed up to
+   * the index.
+   *
+   * @param index   The index of the element.
+   * @param matcher The element matcher.
+   */
+  public static <E, T extends Seq<E>> Matcher<T> elementAt(int index, Matcher<E> matcher) {
+    return new ElementAt<>(index, matcher);
+  }
+
+  private static final class ElementAt<E, T extends Seq<E>> extends InstrumentedMatcher<T> {
+    private final int index;
+    private final Matcher<E> matcher;
+
+    private ElementAt(int index, Matcher<E> matcher) {
+      super(Seq.class, "SeqMatchers.elementAt");
+      this.index = index;
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      final Iterator<E> element = elementAt(t, index);
+      return element.hasNext() && matcher.matches(element.next());
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("Element at index ")
+          .appendValue(index)
+          .appendText(" should match: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final Iterator<E> element = elementAt(t, index);
+      if (element.hasNext()) {
+        mismatch.appendText("element at index ").appendValue(index).appendText(" ");
+        matcher.describeMismatch(element.next(), mismatch);
+      } else {
+        mismatch.appendText("Sequence has no element at index ").appendValue(index);
+      }
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link SortedSet} whose elements all lie within the given range, inclusive of
+   * both bounds, according to the set's comparator. Only the smallest and largest elements of the
+   * set are compared.
+   *
+   * @param from The lower bound.
+   * @param to   The upper bound.
+   */
+  public static <E, T extends SortedSet<E>> Matcher<T> containsAllInRange(E from, E to) {
+    return new ContainsAllInRange<>(from, to);
+  }
+
+  private static final class ContainsAllInRange<E, T extends SortedSet<E>>
+      extends InstrumentedMatcher<T> {
+    private final E from;
+    private final E to;
+
+    private ContainsAllInRange(E from, E to) {
+      super(SortedSet.class, "SeqMatchers.containsAllInRange");
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return t.isEmpty() || outOfRange(t.comparator(), t.head(), t.last(), from, to) == null;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      appendRange(description.appendText("All elements should be in range "), from, to);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      mismatch.appendText("element ")
+          .appendText(BoundedValueList.describeValue(
+              outOfRange(t.comparator(), t.head(), t.last(), from, to)))
+          .appendText(" is outside of range ");
+      appendRange(mismatch, from, to);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link SortedMap} whose keys all lie within the given range, inclusive of both
+   * bounds, according to the map's comparator. Only the smallest and largest keys are compared.
+   *
+   * @param from The lower bound.
+   * @param to   The upper bound.
+   */
+  public static <K, V, T extends SortedMap<K, V>> Matcher<T> hasKeysInRange(K from, K to) {
+    return new HasKeysInRange<>(from, to);
+  }
+
+  private static final class HasKeysInRange<K, V, T extends SortedMap<K, V>>
+      extends InstrumentedMatcher<T> {
+    private final K from;
+    private final K to;
+
+    private HasKeysInRange(K from, K to) {
+      super(SortedMap.class, "SeqMatchers.hasKeysInRange");
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return t.isEmpty() || outOfRange(t.comparator(), t.head()._1, last(t)._1, from, to) == null;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      appendRange(description.appendText("All keys should be in range "), from, to);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      mismatch.appendText("key ")
+          .appendText(BoundedValueList.describeValue(
+              outOfRange(t.comparator(), t.head()._1, last(t)._1, from, to)))
+          .appendText(" is outside of range ");
+      appendRange(mismatch, from, to);
+    }
+  }
+
+  /**
+   * Matches a non-empty Vavr {@link Traversable} whose first element, in the collection's own
+   * order, matches the supplied matcher. For sorted collections this is the smallest element.
+   *
+   * @param matcher The element matcher.
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> firstMatching(Matcher<E> matcher) {
+    return new EndMatching<>(true, matcher);
+  }
+
+  /**
+   * Matches a non-empty Vavr {@link Traversable} whose last element, in the collection's own
+   * order, matches the supplied matcher. For sorted collections this is the largest element.
+   *
+   * @param matcher The element matcher.
+   */
+  public static <E, T extends Traversable<E>> Matcher<T> lastMatching(Matcher<E> matcher) {
+    return new EndMatching<>(false, matcher);
+  }
+
+  private static final class EndMatching<E, T extends Traversable<E>>
+      extends InstrumentedMatcher<T> {
+    private final boolean first;
+    private final Matcher<E> matcher;
+
+    private EndMatching(boolean first, Matcher<E> matcher) {
+      super(Traversable.class, first ? "SeqMatchers.firstMatching" : "SeqMatchers.lastMatching");
+      this.first = first;
+      this.matcher = matcher;
+    }
+
+    private E element(T t) {
+      return first ? t.head() : last(t);
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      return !t.isEmpty() && matcher.matches(element(t));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText(first ? "The first" : "The last")
+          .appendText(" element should match: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      if (t.isEmpty()) {
+        mismatch.appendText("Collection was empty");
+      } else {
+        mismatch.appendText(first ? "first element " : "last element ");
+        matcher.describeMismatch(element(t), mismatch);
+      }
+    }
+  }
+
+  /**
+   * Returns the last element of a traversable in its own order.
+   */
+  @SuppressWarnings("unchecked")
+  private static <E> E last(Traversable<E> t) {
+    // SortedMap#last() looks up the maximum using the natural order of the entries rather than
+    // the map's comparator, so the largest key is looked up in the key set, which uses it.
+    if (t instanceof SortedMap) {
+      return (E) lastEntry((SortedMap<?, ?>) t);
+    }
+    return t.last();
+  }
+
+  private static <K, V> Tuple2<K, V> lastEntry(SortedMap<K, V> map) {
+    final K key = map.keySet().last();
+    return Tuple.of(key, map.get(key).get());
+  }
+
+  /**
+   * Appends a range, e.g. {@code [<1>, <5>]}. The bounds are passed as objects, which creates a
+   * reifiable varargs array for {@link Description#appendValueList(String, String, String,
+   * Object[])} instead of a generic one.
+   */
+  private static void appendRange(Description description, Object from, Object to) {
+    description.appendValueList("[", ", ", "]", from, to);
+  }
+
+  /**
+   * Returns the smallest or largest element if it lies outside of the given range, or
+   * {@code null} if both lie within it.
+   */
+  private static <E> E outOfRange(Comparator<E> comparator, E min, E max, E from, E to) {
+    if (comparator.compare(min, from) < 0) {
+      return min;
+    }
+    if (comparator.compare(max, to) > 0) {
+      return max;
+    }
+    return null;
+  }
+
+  /**
+   * Returns an iterator over the element at the given index, which is empty if the sequence has
+   * no such element.
+   */
+  private static <E> Iterator<E> elementAt(Seq<E> t, int index) {
+    if (index < 0) {
+      return Iterator.empty();
+    }
+    if (t instanceof IndexedSeq) {
+      return index < t.size() ? Iterator.of(t.get(index)) : Iterator.empty();
+    }
+    return t.iterator().drop(index).take(1);
+  }
+
+  /**
+   * Compares two sequences element by element.
+   *
+   * @return The index of the first element that differs or is missing in either sequence, or
+   * {@code -1} if the sequences are equal.
+   */
+  private static <E> int orderMismatch(Seq<E> t, Seq<E> expected) {
+    final java.util.Iterator<E> actual = t.iterator();
+    final java.util.Iterator<E> wanted = expected.iterator();
+    int index = 0;
+    while (actual.hasNext() && wanted.hasNext()) {
+      if (!Objects.equals(actual.next(), wanted.next())) {
+        return index;
+      }
+      index++;
+    }
+    return actual.hasNext() || wanted.hasNext() ? index : -1;
+  }
+
+  /**
+   * Compares the elements of a sequence starting at {@code offset} with the expected elements.
+   * Elements of an {@link IndexedSeq} are accessed by index.
+   *
+   * @return The index relative to {@code offset} of the first element that differs or is missing,
+   * or {@code -1} if the region is equal to the expected elements.
+   */
+  private static <E> int regionMismatch(Seq<E> t, int offset, Seq<E> expected) {
+    if (t instanceof IndexedSeq) {
+      final int available = t.size() - offset;
+      int index = 0;
+      for (E element : expected) {
+        if (index >= available || !Objects.equals(t.get(offset + index), element)) {
+          return index;
+        }
+        index++;
+      }
+      return -1;
+    }
+
+    final java.util.Iterator<E> elements = t.iterator().drop(offset);
+    int index = 0;
+    for (E element : expected) {
+      if (!elements.hasNext() || !Objects.equals(elements.next(), element)) {
+        return index;
+      }
+      index++;
+    }
+    return -1;
+  }
+
+  private static <E> void describeRegionMismatch(Seq<E> t, int offset, Seq<E> expected,
+                                                 Description mismatch) {
+    final int index = regionMismatch(t, offset, expected);
+    final Iterator<E> element = elementAt(t, offset + index);
+
+    if (element.hasNext()) {
+      mismatch.appendText("element at index ")
+          .appendValue(offset + index)
+          .appendText(" was ")
+          .appendText(BoundedValueList.describeValue(element.next()))
+          .appendText(" but expected ")
+          .appendText(BoundedValueList.describeValue(expected.get(index)));
+    } else {
+      mismatch.appendText("Sequence has only ")
+          .appendValue(offset + index)
+          .appendText(" elements");
+    }
+  }
+
+  /**
+   * Counts how many of the expected elements occur in the sequence in the same relative order,
+   * traversing the sequence once.
+   */
+  private static <E> int subsequenceLength(Seq<E> t, Seq<E> expected) {
+    final java.util.Iterator<E> wanted = expected.iterator();
+    if (!wanted.hasNext()) {
+      return 0;
+    }
+
+    E next = wanted.next();
+    int found = 0;
+    for (E element : t) {
+      if (Objects.equals(element, next)) {
+        found++;
+        if (!wanted.hasNext()) {
+          break;
+        }
+        next = wanted.next();
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Returns the index of the first element that is ordered before its predecessor, or {@code -1}
+   * if the sequence is sorted.
+   */
+  private static <E> int firstInversion(Seq<E> t, Comparator<? super E> comparator) {
+    final java.util.Iterator<E> elements = t.iterator();
+    if (!elements.hasNext()) {
+      return -1;
+    }
+
+    E previous = elements.next();
+    int index = 1;
+    while (elements.hasNext()) {
+      final E element = elements.next();
+      if (comparator.compare(previous, element) > 0) {
+        return index;
+      }
+      previous = element;
+      index++;
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,373 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.UUID;
+
+import io.vavr.collection.Traversable;
+
+/**
+ * Provides Hamcrest matchers that compare Vavr {@link Traversable}s with golden snapshots stored
+ * in files.
+ *
+ * A snapshot contains one record per element in iteration order: the {@code toString()}
+ * representation of the element with backslashes, line feeds and carriage returns escaped, encoded
+ * as UTF-8 and terminated by a line feed. The elements are serialised one at a time and compared
+ * with the snapshot as it is read through a fixed-size buffer, so neither side is ever held on the
+ * heap as a whole. Note that the iteration order of hash-based collections such as
+ * {@code HashSet} and {@code HashMap} is only stable if the hash codes of the elements are.
+ *
+ * Snapshots are re-recorded instead of compared when the system property
+ * {@value #UPDATE_PROPERTY} is set to {@code true}, e.g. with
+ * {@code mvn test -Dvavr-matchers.updateSnapshots=true}.
+ */
+public class SnapshotMatchers {
+  /**
+   * The system property that switches {@link #matchesSnapshot(Path)} to re-recording snapshots.
+   */
+  public static final String UPDATE_PROPERTY = "vavr-matchers.updateSnapshots";
+
+  /**
+   * The maximum number of bytes of a record rendered in a mismatch description.
+   */
+  public static final int EXCERPT_LENGTH = 120;
+
+  /**
+   * The size of the buffer through which snapshot files are read.
+   */
+  private static final int WINDOW_SIZE = 64 << 10;
+
+  private static final byte NEWLINE = '\n';
+
+  /**
+   * Matches a Vavr {@link Traversable} whose records equal those of the snapshot file.
+   *
+   * If the system property {@value #UPDATE_PROPERTY} is {@code true}, the snapshot is recorded
+   * from the actual value instead and the matcher always matches.
+   *
+   * @param snapshot The path of the snapshot file.
+   */
+  public static <T extends Traversable<?>> Matcher<T> matchesSnapshot(Path snapshot) {
+    return matchesSnapshot(snapshot, Boolean.getBoolean(UPDATE_PROPERTY));
+  }
+
+  /**
+   * Matches a Vavr {@link Traversable} whose records equal those of the snapshot file, or records
+   * the snapshot from the actual value.
+   *
+   * @param snapshot The path of the snapshot file.
+   * @param update   Whether to (re-)record the snapshot instead of comparing with it. In that case
+   *                 the matcher always matches.
+   */
+  public static <T extends Traversable<?>> Matcher<T> matchesSnapshot(Path snapshot,
+                                                                      boolean update) {
+    return new MatchesSnapshot<>(snapshot, update);
+  }
+
+  private static final class MatchesSnapshot<T extends Traversable<?>>
+      extends InstrumentedMatcher<T> {
+    private final Path snapshot;
+    private final boolean update;
+
+    private MatchesSnapshot(Path snapshot, boolean update) {
+      super(Traversable.class, "SnapshotMatchers.matchesSnapshot");
+      this.snapshot = Objects.requireNonNull(snapshot, "snapshot");
+      this.update = update;
+    }
+
+    @Override
+    protected boolean evaluate(T t) {
+      if (update) {
+        record(t);
+        return true;
+      }
+      return compare(t) == null;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Traversable should match snapshot ")
+          .appendValue(snapshot.toString());
+    }
+
+    @Override
+    public void explainMismatch(T t, Description mismatch) {
+      final Difference difference = compare(t);
+      if (difference == null) {
+        mismatch.appendText("Traversable matched the snapshot");
+      } else {
+        difference.describeTo(mismatch);
+      }
+    }
+
+    /**
+     * Writes the records of the traversable to a temporary file next to the snapshot and moves it
+     * into place, so an interrupted update does not leave a partial snapshot behind. The temporary
+     * file is created like any other file rather than with {@link Files#createTempFile}, which
+     * would restrict its permissions to the owner.
+     */
+    private void record(T t) {
+      long records = 0;
+      try {
+        final Path directory = snapshot.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final Path temporary = directory.resolve(
+            "." + snapshot.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+          try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary,
+              StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))) {
+            final RecordEncoder encoder = new RecordEncoder();
+            for (Object element : t) {
+              final ByteBuffer record = encoder.encode(element);
+              out.write(record.array(), 0, record.limit());
+              out.write(NEWLINE);
+              records++;
+            }
+          }
+          Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+          Files.deleteIfExists(temporary);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      } finally {
+        visited(records);
+      }
+    }
+
+    /**
+     * Compares the records of the traversable with the snapshot.
+     *
+     * @return The first difference, or {@code null} if all records are equal.
+     */
+    private Difference compare(T t) {
+      long index = 0;
+      try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+        final SnapshotReader reader = new SnapshotReader(channel);
+        final RecordEncoder encoder = new RecordEncoder();
+        long offset = 0;
+        for (Object element : t) {
+          final ByteBuffer record = encoder.encode(element);
+          if (!reader.hasRecord(offset, record)) {
+            return new Difference(snapshot, index, offset, reader.excerpt(offset),
+                excerpt(record.array(), record.limit()));
+          }
+          offset += record.limit() + 1;
+          index++;
+        }
+
+        if (offset < reader.size) {
+          return new Difference(snapshot, index, offset, reader.excerpt(offset), null);
+        }
+        return null;
+      } catch (NoSuchFileException e) {
+        return new Difference(snapshot, -1, 0, null, null);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      } finally {
+        visited(index);
+      }
+    }
+  }
+
+  /**
+   * A snapshot file that is read sequentially through a single window buffer, which is refilled
+   * whenever a read leaves it. No memory mappings are created, so the file can be replaced as soon
+   * as its channel is closed.
+   */
+  private static final class SnapshotReader {
+    private final FileChannel channel;
+    private final long size;
+    private ByteBuffer window;
+    private long windowStart = 0;
+
+    private SnapshotReader(FileChannel channel) throws IOException {
+      this.channel = channel;
+      this.size = channel.size();
+    }
+
+    /**
+     * Checks whether the snapshot contains the given record, followed by a line feed, at the given
+     * offset.
+     */
+    private boolean hasRecord(long offset, ByteBuffer record) throws IOException {
+      final int length = record.limit();
+      if (offset + length >= size) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (get(offset + i) != record.get(i)) {
+          return false;
+        }
+      }
+      return get(offset + length) == NEWLINE;
+    }
+
+    /**
+     * Returns the beginning of the record at the given offset, or {@code null} if the snapshot
+     * ends before it. The excerpt is read separately, so it does not move the window.
+     */
+    private String excerpt(long offset) throws IOException {
+      if (offset >= size) {
+        return null;
+      }
+      final int length = (int) Math.min(EXCERPT_LENGTH + 1, size - offset);
+      final ByteBuffer bytes = ByteBuffer.allocate(length);
+      read(bytes, offset);
+      int end = 0;
+      while (end < bytes.limit() && bytes.get(end) != NEWLINE) {
+        end++;
+      }
+      return SnapshotMatchers.excerpt(bytes.array(), end);
+    }
+
+    private byte get(long position) throws IOException {
+      if (window == null || position < windowStart
+          || position >= windowStart + window.limit()) {
+        if (window == null) {
+          window = ByteBuffer.allocate((int) Math.min(WINDOW_SIZE, size));
+        }
+        windowStart = position;
+        window.clear();
+        read(window, position);
+      }
+      return window.get((int) (position - windowStart));
+    }
+
+    /**
+     * Fills the buffer from the given position on, or up to the end of the snapshot, and flips it.
+     */
+    private void read(ByteBuffer buffer, long position) throws IOException {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, position + buffer.position()) < 0) {
+          break;
+        }
+      }
+      buffer.flip();
+    }
+  }
+
+  /**
+   * The first record in which a traversable differs from its snapshot.
+   */
+  private static final class Difference {
+    private final Path snapshot;
+    private final long index;
+    private final long offset;
+    private final String expected;
+    private final String actual;
+
+    /**
+     * @param index    The index of the record, or -1 if the snapshot does not exist.
+     * @param offset   The byte offset of the record in the snapshot.
+     * @param expected The record in the snapshot, or {@code null} if the snapshot ended before it.
+     * @param actual   The actual record, or {@code null} if the traversable ended before it.
+     */
+    private Difference(Path snapshot, long index, long offset, String expected, String actual) {
+      this.snapshot = snapshot;
+      this.index = index;
+      this.offset = offset;
+      this.expected = expected;
+      this.actual = actual;
+    }
+
+    private void describeTo(Description description) {
+      if (index < 0) {
+        description.appendText("snapshot ").appendValue(snapshot.toString())
+            .appendText(" does not exist, record it by setting the system property ")
+            .appendText(UPDATE_PROPERTY).appendText(" to true");
+        return;
+      }
+
+      description.appendText("record " + index + " at byte offset " + offset);
+      if (expected == null) {
+        description.appendText(" is missing from the snapshot, it was ").appendValue(actual);
+      } else if (actual == null) {
+        description.appendText(" is missing from the Traversable, the snapshot has ")
+            .appendValue(expected);
+      } else {
+        description.appendText(" differs, expected ").appendValue(expected)
+            .appendText(" but was ").appendValue(actual);
+      }
+    }
+  }
+
+  /**
+   * Serialises elements into records, reusing its buffers for all elements of a traversal.
+   */
+  private static final class RecordEncoder {
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final StringBuilder escaped = new StringBuilder();
+    private ByteBuffer bytes = ByteBuffer.allocate(256);
+
+    /**
+     * Returns the record of an element without the terminating line feed. The returned buffer is
+     * only valid until the next call.
+     */
+    private ByteBuffer encode(Object element) {
+      final CharSequence record = escape(String.valueOf(element));
+      final int maxBytes = (int) (record.length() * (double) encoder.maxBytesPerChar());
+      if (bytes.capacity() < maxBytes) {
+        bytes = ByteBuffer.allocate(Math.max(maxBytes, bytes.capacity() * 2));
+      }
+
+      bytes.clear();
+      encoder.reset();
+      encoder.encode(CharBuffer.wrap(record), bytes, true);
+      encoder.flush(bytes);
+      bytes.flip();
+      return bytes;
+    }
+
+    private CharSequence escape(String string) {
+      if (string.indexOf('\\') < 0 && string.indexOf('\n') < 0 && string.indexOf('\r') < 0) {
+        return string;
+      }
+
+      escaped.setLength(0);
+      for (int i = 0; i < string.length(); i++) {
+        final char c = string.charAt(i);
+        if (c == '\\') {
+          escaped.append("\\\\");
+        } else if (c == '\n') {
+          escaped.append("\\n");
+        } else if (c == '\r') {
+          escaped.append("\\r");
+        } else {
+          escaped.append(c);
+        }
+      }
+      return escaped;
+    }
+  }
+
+  /**
+   * Decodes the first {@value #EXCERPT_LENGTH} bytes of a record, marking truncation with an
+   * ellipsis.
+   */
+  private static String excerpt(byte[] record, int length) {
+    if (length <= EXCERPT_LENGTH) {
+      return new String(record, 0, length, StandardCharsets.UTF_8);
+    }
+    return new String(record, 0, EXCERPT_LENGTH, StandardCharsets.UTF_8) + "...";
+  }
+}
@@ -0,0 +1,44 @@
+package in.tazj.vavr.matchers;
+
+/**
+ * Caches whether classes are subtypes of an expected type, so that classifying many values of a
+ * few classes checks each class against the type hierarchy only once.
+ *
+ * The results are stored in {@link ClassValue}s, which are attached to the classes themselves and
+ * do not prevent them from being unloaded. There is one {@link ClassValue} per expected type,
+ * shared by all matchers that expect it.
+ */
+final class SubtypeCache {
+  private static final ClassValue<ClassValue<Boolean>> SUBTYPES =
+      new ClassValue<ClassValue<Boolean>>() {
+        @Override
+        protected ClassValue<Boolean> computeValue(Class<?> expected) {
+          return new ClassValue<Boolean>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+              return expected.isAssignableFrom(type);
+            }
+          };
+        }
+      };
+
+  private final ClassValue<Boolean> subtypes;
+
+  private SubtypeCache(Class<?> expected) {
+    this.subtypes = SUBTYPES.get(expected);
+  }
+
+  /**
+   * Returns the cache for subtypes of the given type.
+   */
+  static SubtypeCache of(Class<?> expected) {
+    return new SubtypeCache(expected);
+  }
+
+  /**
+   * Checks whether a value is an instance of the expected type.
+   */
+  boolean isInstance(Object value) {
+    return value != null && subtypes.get(value.getClass());
+  }
+}
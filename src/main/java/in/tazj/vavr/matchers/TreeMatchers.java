@@ -0,0 +1,403 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import io.vavr.collection.Tree;
+import io.vavr.collection.Tree.Node;
+
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Provides Hamcrest matchers for Vavr {@link Tree}.
+ *
+ * The nodes are traversed in pre-order with an explicit stack rather than by recursion, so the
+ * matchers work on trees of any depth, and the traversal stops as soon as the result is known.
+ * Mismatch descriptions render the path from the root to the offending node, eliding the middle
+ * of long paths, instead of the whole tree. Note that the {@code toString()}, {@code equals} and
+ * {@code hashCode} methods of a {@link Tree} are recursive, so very deep trees should not be
+ * passed to matchers that use them, such as {@link org.hamcrest.Matchers#equalTo(Object)}.
+ */
+public class TreeMatchers {
+  /**
+   * Matches a Vavr {@link Tree} with at least one node whose value matches the supplied matcher.
+   *
+   * @param matcher The node value matcher.
+   */
+  public static <E, T extends Tree<E>> Matcher<T> anyNode(Matcher<E> matcher) {
+    return new AnyNode<>(matcher);
+  }
+
+  private static final class AnyNode<E, T extends Tree<E>> extends InstrumentedMatcher<T> {
+    private final Matcher<E> matcher;
+
+    private AnyNode(Matcher<E> matcher) {
+      super(Tree.class, "TreeMatchers.anyNode");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T tree) {
+      return findPath(tree, (node, depth) ->
+          matcher.matches(node.getValue()) ? Step.STOP : Step.DESCEND) != null;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("At least one node should match: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T tree, Description mismatch) {
+      mismatch
+          .appendText("Tree expected to contain a node matching '")
+          .appendDescriptionOf(matcher)
+          .appendText("' but none of its ")
+          .appendValue(tree.length())
+          .appendText(" nodes did");
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Tree} whose node values all match the supplied matcher.
+   *
+   * The mismatch description reports the path to the first non-matching node in pre-order.
+   *
+   * @param matcher The node value matcher.
+   */
+  public static <E, T extends Tree<E>> Matcher<T> allNodes(Matcher<E> matcher) {
+    return new AllNodes<>(matcher);
+  }
+
+  private static final class AllNodes<E, T extends Tree<E>> extends InstrumentedMatcher<T> {
+    private final Matcher<E> matcher;
+
+    private AllNodes(Matcher<E> matcher) {
+      super(Tree.class, "TreeMatchers.allNodes");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T tree) {
+      return findFirstMismatch(tree) == null;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("All nodes should match: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T tree, Description mismatch) {
+      final List<Node<E>> path = findFirstMismatch(tree);
+      mismatch
+          .appendText("All nodes should match '")
+          .appendDescriptionOf(matcher)
+          .appendText("' but node ")
+          .appendText(BoundedValueList.describeValue(path.get(path.size() - 1).getValue()))
+          .appendText(" at depth ")
+          .appendValue(path.size())
+          .appendText(" did not, path was ");
+      appendPath(mismatch, path);
+    }
+
+    private List<Node<E>> findFirstMismatch(T tree) {
+      return findPath(tree, (node, depth) ->
+          matcher.matches(node.getValue()) ? Step.DESCEND : Step.STOP);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Tree} with a depth of at most the given number of levels. A tree that
+   * consists only of its root has a depth of 1, an empty tree a depth of 0.
+   *
+   * Nodes deeper than {@code depth + 1} levels are never visited.
+   *
+   * @param depth The maximum number of levels.
+   */
+  public static <T extends Tree<?>> Matcher<T> hasDepthAtMost(int depth) {
+    return new HasDepthAtMost<>(depth);
+  }
+
+  private static final class HasDepthAtMost<T extends Tree<?>> extends InstrumentedMatcher<T> {
+    private final int depth;
+
+    private HasDepthAtMost(int depth) {
+      super(Tree.class, "TreeMatchers.hasDepthAtMost");
+      this.depth = depth;
+    }
+
+    @Override
+    protected boolean evaluate(T tree) {
+      return findTooDeep(tree) == null;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Tree should have a depth of at most ").appendValue(depth);
+    }
+
+    @Override
+    public void explainMismatch(T tree, Description mismatch) {
+      mismatch
+          .appendText("Tree should have a depth of at most ")
+          .appendValue(depth)
+          .appendText(" but has a deeper path ");
+      appendPath(mismatch, findTooDeep(tree));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<? extends Node<?>> findTooDeep(T tree) {
+      return findPath((Tree<Object>) tree, (node, level) ->
+          level > depth ? Step.STOP : Step.DESCEND);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Tree} with a path from the root whose node values match the supplied
+   * matchers in order, i.e. the root matches the first matcher, one of its children the second
+   * matcher and so on. The path does not need to end at a leaf.
+   *
+   * @param matchers The matchers for the node values along the path.
+   */
+  @SafeVarargs
+  public static <E, T extends Tree<E>> Matcher<T> hasPathMatching(Matcher<? super E>... matchers) {
+    final List<Matcher<? super E>> list = new ArrayList<>(matchers.length);
+    for (Matcher<? super E> matcher : matchers) {
+      list.add(matcher);
+    }
+    return hasPathMatching(list);
+  }
+
+  /**
+   * Matches a Vavr {@link Tree} with a path from the root whose node values match the supplied
+   * matchers in order.
+   *
+   * Only children of nodes that match their matcher are visited. The mismatch description
+   * reports the longest path that matched the first matchers.
+   *
+   * @param matchers The matchers for the node values along the path.
+   * @see #hasPathMatching(Matcher[])
+   */
+  public static <E, T extends Tree<E>> Matcher<T> hasPathMatching(
+      Iterable<? extends Matcher<? super E>> matchers) {
+    return new HasPathMatching<>(matchers);
+  }
+
+  private static final class HasPathMatching<E, T extends Tree<E>>
+      extends InstrumentedMatcher<T> {
+    private final List<Matcher<? super E>> matchers = new ArrayList<>();
+
+    private HasPathMatching(Iterable<? extends Matcher<? super E>> matchers) {
+      super(Tree.class, "TreeMatchers.hasPathMatching");
+      matchers.forEach(this.matchers::add);
+    }
+
+    @Override
+    protected boolean evaluate(T tree) {
+      if (matchers.isEmpty()) {
+        return true;
+      }
+      return findPath(tree, (node, depth) -> {
+        if (!matchers.get(depth - 1).matches(node.getValue())) {
+          return Step.SKIP;
+        }
+        return depth == matchers.size() ? Step.STOP : Step.DESCEND;
+      }) != null;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendList("Tree should have a path from the root matching [", ", ", "]",
+          matchers);
+    }
+
+    @Override
+    public void explainMismatch(T tree, Description mismatch) {
+      // The nodes of the current path, and a copy of it whenever it is the longest so far.
+      final List<Node<E>> current = new ArrayList<>();
+      final List<Node<E>> longest = new ArrayList<>();
+      findPath(tree, (node, depth) -> {
+        if (!matchers.get(depth - 1).matches(node.getValue())) {
+          return Step.SKIP;
+        }
+        current.subList(depth - 1, current.size()).clear();
+        current.add(node);
+        if (depth > longest.size()) {
+          longest.clear();
+          longest.addAll(current);
+        }
+        return Step.DESCEND;
+      });
+
+      if (longest.isEmpty()) {
+        mismatch
+            .appendText("Tree root should match '")
+            .appendDescriptionOf(matchers.get(0))
+            .appendText("' but ");
+        if (tree.isEmpty()) {
+          mismatch.appendText("the tree is empty");
+        } else {
+          matchers.get(0).describeMismatch(tree.getValue(), mismatch);
+        }
+        return;
+      }
+
+      mismatch.appendText("Longest matching path from the root was ");
+      appendPath(mismatch, longest);
+      mismatch
+          .appendText(" but none of the children of its last node matched '")
+          .appendDescriptionOf(matchers.get(longest.size()))
+          .appendText("'");
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Tree} with the given number of leaves.
+   *
+   * @param count The expected number of leaves.
+   */
+  public static <T extends Tree<?>> Matcher<T> hasLeafCount(int count) {
+    return hasLeafCount(is(count));
+  }
+
+  /**
+   * Matches a Vavr {@link Tree} whose number of leaves matches the supplied matcher.
+   *
+   * @param matcher A Hamcrest matcher for the number of leaves.
+   */
+  public static <T extends Tree<?>> Matcher<T> hasLeafCount(Matcher<Integer> matcher) {
+    return new HasLeafCount<>(matcher);
+  }
+
+  private static final class HasLeafCount<T extends Tree<?>> extends InstrumentedMatcher<T> {
+    private final Matcher<Integer> matcher;
+
+    private HasLeafCount(Matcher<Integer> matcher) {
+      super(Tree.class, "TreeMatchers.hasLeafCount");
+      this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean evaluate(T tree) {
+      return matcher.matches(leafCount(tree));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description
+          .appendText("Tree leaf count should match: ")
+          .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void explainMismatch(T tree, Description mismatch) {
+      mismatch
+          .appendText("Tree leaf count does not match ")
+          .appendDescriptionOf(matcher)
+          .appendText(", leaf count was ")
+          .appendValue(leafCount(tree));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int leafCount(Tree<?> tree) {
+      final int[] leaves = {0};
+      findPath((Tree<Object>) tree, (node, depth) -> {
+        if (node.isLeaf()) {
+          leaves[0]++;
+        }
+        return Step.DESCEND;
+      });
+      return leaves[0];
+    }
+  }
+
+  /**
+   * The decision of a {@link Visitor} about how to continue the traversal after a node.
+   */
+  private enum Step {
+    /** Continue with the children of the node. */
+    DESCEND,
+    /** Continue with the next sibling of the node, skipping its children. */
+    SKIP,
+    /** Stop the traversal at the node. */
+    STOP
+  }
+
+  @FunctionalInterface
+  private interface Visitor<E> {
+    /**
+     * Visits a node at the given depth, counting the root as depth 1.
+     */
+    Step visit(Node<E> node, int depth);
+  }
+
+  /**
+   * Traverses the nodes of a tree in pre-order with an explicit stack of child iterators, so the
+   * depth of the tree is only limited by the heap.
+   *
+   * @return The path from the root to the node at which the visitor stopped the traversal, or
+   * {@code null} if it visited all nodes.
+   */
+  private static <E> List<Node<E>> findPath(Tree<E> tree, Visitor<E> visitor) {
+    if (!(tree instanceof Node)) {
+      return null;
+    }
+
+    final List<Node<E>> path = new ArrayList<>();
+    final Deque<Iterator<Node<E>>> children = new ArrayDeque<>();
+    Node<E> node = (Node<E>) tree;
+    long visited = 0;
+
+    try {
+      while (node != null) {
+        visited++;
+        path.add(node);
+
+        final Step step = visitor.visit(node, path.size());
+        if (step == Step.STOP) {
+          return path;
+        } else if (step == Step.DESCEND && !node.isLeaf()) {
+          children.push(node.getChildren().iterator());
+        } else {
+          path.remove(path.size() - 1);
+        }
+
+        node = null;
+        while (node == null && !children.isEmpty()) {
+          final Iterator<Node<E>> siblings = children.peek();
+          if (siblings.hasNext()) {
+            node = siblings.next();
+          } else {
+            children.pop();
+            path.remove(path.size() - 1);
+          }
+        }
+      }
+      return null;
+    } finally {
+      InstrumentedMatcher.visited(visited);
+    }
+  }
+
+  /**
+   * Appends the values along a path, e.g. {@code [<1> > <2> > <5>]}.
+   */
+  private static void appendPath(Description description, List<? extends Node<?>> path) {
+    final BoundedValueList<Object> values = BoundedValueList.values();
+    for (Node<?> node : path) {
+      values.add(node.getValue());
+    }
+    values.appendTo(description, "[", " > ", "]");
+  }
+}
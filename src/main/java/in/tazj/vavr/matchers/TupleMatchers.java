@@ -0,0 +1,342 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.vavr.Tuple1;
+import io.vavr.Tuple2;
+import io.vavr.Tuple3;
+import io.vavr.Tuple4;
+import io.vavr.Tuple5;
+import io.vavr.Tuple6;
+import io.vavr.Tuple7;
+import io.vavr.Tuple8;
+
+/**
+ * Provides Hamcrest matchers for Vavr's tuples.
+ *
+ * A tuple matches if each of its components matches the corresponding component matcher. The
+ * component matchers are not evaluated in declaration order but cheapest first, and evaluation
+ * stops at the first component that does not match. The cost of a component matcher is the cost
+ * hint given with {@link #withCost(Matcher, long)} or, without a hint, its average running time
+ * measured over the first 16 evaluations of the tuple matcher, during which all components are
+ * evaluated.
+ *
+ * The mismatch description names every component that does not match, e.g.
+ * {@code component _2 was "b"}.
+ */
+public class TupleMatchers {
+  /**
+   * Attaches a cost hint to a component matcher, which is then ranked by the hint instead of by
+   * its measured running time.
+   *
+   * @param matcher The component matcher.
+   * @param nanos   The estimated running time of the matcher, in nanoseconds.
+   */
+  public static <T> Matcher<T> withCost(Matcher<T> matcher, long nanos) {
+    if (nanos < 0) {
+      throw new IllegalArgumentException("cost must not be negative, but was " + nanos);
+    }
+    return new WithCost<>(matcher, nanos);
+  }
+
+  private static final class WithCost<T> extends BaseMatcher<T> {
+    private final Matcher<T> matcher;
+    private final long nanos;
+
+    private WithCost(Matcher<T> matcher, long nanos) {
+      this.matcher = matcher;
+      this.nanos = nanos;
+    }
+
+    @Override
+    public boolean matches(Object item) {
+      return matcher.matches(item);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      matcher.describeTo(description);
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description mismatch) {
+      matcher.describeMismatch(item, mismatch);
+    }
+  }
+
+  /**
+   * Matches a Vavr {@link Tuple1} whose component matches the supplied matcher.
+   *
+   * @param m1 Matcher for the component.
+   */
+  public static <T1> Matcher<Tuple1<T1>> tuple(Matcher<? super T1> m1) {
+    return new TupleMatcher<>(Tuple1.class, new Matcher<?>[]{m1}, components(Tuple1::_1));
+  }
+
+  /**
+   * Matches a Vavr {@link Tuple2} whose components match the supplied matchers.
+   *
+   * @param m1 Matcher for the first component.
+   * @param m2 Matcher for the second component.
+   */
+  public static <T1, T2> Matcher<Tuple2<T1, T2>> tuple(Matcher<? super T1> m1,
+                                                       Matcher<? super T2> m2) {
+    return new TupleMatcher<>(Tuple2.class, new Matcher<?>[]{m1, m2},
+        components(Tuple2::_1, Tuple2::_2));
+  }
+
+  /**
+   * Matches a Vavr {@link Tuple3} whose components match the supplied matchers.
+   *
+   * @param m1 Matcher for the first component.
+   * @param m2 Matcher for the second component.
+   * @param m3 Matcher for the third component.
+   */
+  public static <T1, T2, T3> Matcher<Tuple3<T1, T2, T3>> tuple(Matcher<? super T1> m1,
+                                                               Matcher<? super T2> m2,
+                                                               Matcher<? super T3> m3) {
+    return new TupleMatcher<>(Tuple3.class, new Matcher<?>[]{m1, m2, m3},
+        components(Tuple3::_1, Tuple3::_2, Tuple3::_3));
+  }
+
+  /**
+   * Matches a Vavr {@link Tuple4} whose components match the supplied matchers.
+   *
+   * @param m1 Matcher for the first component.
+   * @param m2 Matcher for the second component.
+   * @param m3 Matcher for the third component.
+   * @param m4 Matcher for the fourth component.
+   */
+  public static <T1, T2, T3, T4> Matcher<Tuple4<T1, T2, T3, T4>> tuple(
+      Matcher<? super T1> m1, Matcher<? super T2> m2, Matcher<? super T3> m3,
+      Matcher<? super T4> m4) {
+    return new TupleMatcher<>(Tuple4.class, new Matcher<?>[]{m1, m2, m3, m4},
+        components(Tuple4::_1, Tuple4::_2, Tuple4::_3, Tuple4::_4));
+  }
+
+  /**
+   * Matches a Vavr {@link Tuple5} whose components match the supplied matchers.
+   *
+   * @param m1 Matcher for the first component.
+   * @param m2 Matcher for the second component.
+   * @param m3 Matcher for the third component.
+   * @param m4 Matcher for the fourth component.
+   * @param m5 Matcher for the fifth component.
+   */
+  public static <T1, T2, T3, T4, T5> Matcher<Tuple5<T1, T2, T3, T4, T5>> tuple(
+      Matcher<? super T1> m1, Matcher<? super T2> m2, Matcher<? super T3> m3,
+      Matcher<? super T4> m4, Matcher<? super T5> m5) {
+    return new TupleMatcher<>(Tuple5.class, new Matcher<?>[]{m1, m2, m3, m4, m5},
+        components(Tuple5::_1, Tuple5::_2, Tuple5::_3, Tuple5::_4, Tuple5::_5));
+  }
+
+  /**
+   * Matches a Vavr {@link Tuple6} whose components match the supplied matchers.
+   *
+   * @param m1 Matcher for the first component.
+   * @param m2 Matcher for the second component.
+   * @param m3 Matcher for the third component.
+   * @param m4 Matcher for the fourth component.
+   * @param m5 Matcher for the fifth component.
+   * @param m6 Matcher for the sixth component.
+   */
+  public static <T1, T2, T3, T4, T5, T6> Matcher<Tuple6<T1, T2, T3, T4, T5, T6>> tuple(
+      Matcher<? super T1> m1, Matcher<? super T2> m2, Matcher<? super T3> m3,
+      Matcher<? super T4> m4, Matcher<? super T5> m5, Matcher<? super T6> m6) {
+    return new TupleMatcher<>(Tuple6.class, new Matcher<?>[]{m1, m2, m3, m4, m5, m6},
+        components(Tuple6::_1, Tuple6::_2, Tuple6::_3, Tuple6::_4, Tuple6::_5, Tuple6::_6));
+  }
+
+  /**
+   * Matches a Vavr {@link Tuple7} whose components match the supplied matchers.
+   *
+   * @param m1 Matcher for the first component.
+   * @param m2 Matcher for the second component.
+   * @param m3 Matcher for the third component.
+   * @param m4 Matcher for the fourth component.
+   * @param m5 Matcher for the fifth component.
+   * @param m6 Matcher for the sixth component.
+   * @param m7 Matcher for the seventh component.
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7> Matcher<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tuple(
+      Matcher<? super T1> m1, Matcher<? super T2> m2, Matcher<? super T3> m3,
+      Matcher<? super T4> m4, Matcher<? super T5> m5, Matcher<? super T6> m6,
+      Matcher<? super T7> m7) {
+    return new TupleMatcher<>(Tuple7.class, new Matcher<?>[]{m1, m2, m3, m4, m5, m6, m7},
+        components(Tuple7::_1, Tuple7::_2, Tuple7::_3, Tuple7::_4, Tuple7::_5, Tuple7::_6,
+            Tuple7::_7));
+  }
+
+  /**
+   * Matches a Vavr {@link Tuple8} whose components match the supplied matchers.
+   *
+   * @param m1 Matcher for the first component.
+   * @param m2 Matcher for the second component.
+   * @param m3 Matcher for the third component.
+   * @param m4 Matcher for the fourth component.
+   * @param m5 Matcher for the fifth component.
+   * @param m6 Matcher for the sixth component.
+   * @param m7 Matcher for the seventh component.
+   * @param m8 Matcher for the eighth component.
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8>
+      Matcher<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tuple(
+      Matcher<? super T1> m1, Matcher<? super T2> m2, Matcher<? super T3> m3,
+      Matcher<? super T4> m4, Matcher<? super T5> m5, Matcher<? super T6> m6,
+      Matcher<? super T7> m7, Matcher<? super T8> m8) {
+    return new TupleMatcher<>(Tuple8.class, new Matcher<?>[]{m1, m2, m3, m4, m5, m6, m7, m8},
+        components(Tuple8::_1, Tuple8::_2, Tuple8::_3, Tuple8::_4, Tuple8::_5, Tuple8::_6,
+            Tuple8::_7, Tuple8::_8));
+  }
+
+  /**
+   * Collects the accessors of the components of a tuple, in the order of the component matchers.
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  private static <T> Function<T, ?>[] components(Function<T, ?>... accessors) {
+    return accessors;
+  }
+
+  private static final class TupleMatcher<T> extends InstrumentedMatcher<T> {
+    private static final int CALIBRATION_RUNS = 16;
+    private static final long UNKNOWN = -1;
+
+    private final Matcher<?>[] matchers;
+    private final Function<T, ?>[] components;
+    private final long[] hints;
+    private final AtomicLongArray measured;
+    private final AtomicInteger calibrations = new AtomicInteger();
+    private volatile int[] order;
+
+    private TupleMatcher(Class<?> expectedType, Matcher<?>[] matchers,
+                         Function<T, ?>[] components) {
+      super(expectedType, "TupleMatchers.tuple");
+      this.matchers = matchers;
+      this.components = components;
+      this.hints = new long[matchers.length];
+      this.measured = new AtomicLongArray(matchers.length);
+
+      int unknown = 0;
+      for (int i = 0; i < matchers.length; i++) {
+        hints[i] = matchers[i] instanceof WithCost ? ((WithCost<?>) matchers[i]).nanos : UNKNOWN;
+        if (hints[i] == UNKNOWN) {
+          unknown++;
+        }
+      }
+
+      // Measuring is pointless if all components have hints or there is only one component.
+      if (unknown == 0 || matchers.length < 2) {
+        this.order = rank();
+      }
+    }
+
+    @Override
+    protected boolean evaluate(T tuple) {
+      final int[] order = this.order;
+      if (order == null) {
+        return calibrate(tuple);
+      }
+
+      for (int i : order) {
+        if (!matchers[i].matches(components[i].apply(tuple))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Evaluates all components in declaration order and measures the unhinted ones. Once enough
+     * evaluations were measured, the components are ranked by their cost.
+     */
+    private boolean calibrate(T tuple) {
+      final int run = calibrations.getAndIncrement();
+      boolean matched = true;
+
+      for (int i = 0; i < matchers.length; i++) {
+        final Object component = components[i].apply(tuple);
+        if (hints[i] != UNKNOWN || run >= CALIBRATION_RUNS) {
+          matched &= matchers[i].matches(component);
+        } else {
+          final long start = System.nanoTime();
+          matched &= matchers[i].matches(component);
+          measured.addAndGet(i, System.nanoTime() - start);
+        }
+      }
+
+      if (run == CALIBRATION_RUNS - 1) {
+        order = rank();
+      }
+      return matched;
+    }
+
+    /**
+     * Orders the components by their cost, keeping the declaration order of components with the
+     * same cost. The measured cost is averaged over the calibration runs so far, which are fewer
+     * than {@value #CALIBRATION_RUNS} if the matcher is compiled before it was calibrated.
+     */
+    private int[] rank() {
+      final int runs = Math.max(1, Math.min(calibrations.get(), CALIBRATION_RUNS));
+      final Integer[] indices = new Integer[matchers.length];
+      final long[] costs = new long[matchers.length];
+      for (int i = 0; i < matchers.length; i++) {
+        indices[i] = i;
+        costs[i] = hints[i] != UNKNOWN ? hints[i] : measured.get(i) / runs;
+      }
+
+      Arrays.sort(indices, Comparator.comparingLong(i -> costs[i]));
+      return Arrays.stream(indices).mapToInt(Integer::intValue).toArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Predicate<T> compile() {
+      final Predicate<Object>[] predicates =
+          (Predicate<Object>[]) new Predicate<?>[matchers.length];
+      for (int i = 0; i < matchers.length; i++) {
+        predicates[i] = MatcherPredicates.compile((Matcher<Object>) matchers[i]);
+      }
+
+      final int[] order = this.order != null ? this.order : rank();
+      return guard(tuple -> {
+        for (int i : order) {
+          if (!predicates[i].test(components[i].apply(tuple))) {
+            return false;
+          }
+        }
+        return true;
+      });
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      description.appendList("tuple (", ", ", ")", Arrays.asList(matchers));
+    }
+
+    @Override
+    public void explainMismatch(T tuple, Description mismatch) {
+      boolean first = true;
+      for (int i = 0; i < matchers.length; i++) {
+        final Object component = components[i].apply(tuple);
+        if (!matchers[i].matches(component)) {
+          mismatch
+              .appendText(first ? "component _" : ", component _")
+              .appendText(String.valueOf(i + 1))
+              .appendText(" ");
+          matchers[i].describeMismatch(component, mismatch);
+          first = false;
+        }
+      }
+    }
+  }
+}
@@ -2,7 +2,6 @@ package in.tazj.vavr.matchers;
 
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
-import org.hamcrest.TypeSafeMatcher;
 
 import io.vavr.Value;
 
@@ -10,20 +9,29 @@ import io.vavr.Value;
  * Provides Hamcret matchers that can be used with any Vavr value type.
  */
 public class ValueMatchers {
+  private static final Matcher<Value> IS_EMPTY = new IsEmpty();
+
   /**
    * Matches any empty (undefined) Vavr {@link Value}.
    */
+  @SuppressWarnings("unchecked")
   public static <T extends Value> Matcher<T> isEmpty() {
-    return new TypeSafeMatcher<T>() {
-      @Override
-      protected boolean matchesSafely(T t) {
-        return t.isEmpty();
-      }
+    return (Matcher) IS_EMPTY;
+  }
+
+  private static final class IsEmpty extends InstrumentedMatcher<Value> {
+    private IsEmpty() {
+      super(Value.class, "ValueMatchers.isEmpty");
+    }
+
+    @Override
+    protected boolean evaluate(Value t) {
+      return t.isEmpty();
+    }
 
-      @Override
-      public void describeTo(Description description) {
-        description.appendText("Value should be empty");
-      }
-    };
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("Value should be empty");
+    }
   }
 }
@@ -0,0 +1,65 @@
+package in.tazj.vavr.matchers;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * A bounded set of collection versions that were verified by a matcher, compared by identity.
+ *
+ * The versions are only weakly referenced and at most {@code capacity} of them are kept, the
+ * version that was added first being replaced first, so the set never keeps a collection
+ * alive or grows with the number of evaluated collections. All methods are thread-safe.
+ */
+final class VerifiedVersions<T> {
+  private final WeakReference<T>[] versions;
+  private int next = 0;
+
+  @SuppressWarnings("unchecked")
+  VerifiedVersions(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive, but was " + capacity);
+    }
+    this.versions = new WeakReference[capacity];
+  }
+
+  /**
+   * Records a verified version, unless it is already known.
+   */
+  synchronized void add(T version) {
+    for (WeakReference<T> known : versions) {
+      if (known != null && known.get() == version) {
+        return;
+      }
+    }
+    versions[next] = new WeakReference<>(version);
+    next = (next + 1) % versions.length;
+  }
+
+  /**
+   * Returns the verified versions that are still reachable, most recently verified first.
+   */
+  synchronized Object[] snapshot() {
+    final Object[] live = new Object[versions.length];
+    int size = 0;
+    for (int i = 1; i <= versions.length; i++) {
+      final WeakReference<T> known = versions[(next - i + versions.length) % versions.length];
+      final T version = known == null ? null : known.get();
+      if (version != null) {
+        live[size++] = version;
+      }
+    }
+    return size == live.length ? live : Arrays.copyOf(live, size);
+  }
+
+  /**
+   * Checks whether the given object is one of the versions in a snapshot.
+   */
+  static boolean contains(Object[] snapshot, Object candidate) {
+    for (Object version : snapshot) {
+      if (version == candidate) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,104 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import io.vavr.collection.BitSet;
+
+import static in.tazj.vavr.matchers.BitSetMatchers.containsAllBits;
+import static in.tazj.vavr.matchers.BitSetMatchers.hasCardinality;
+import static in.tazj.vavr.matchers.BitSetMatchers.rangeIsSet;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class BitSetMatchersTest {
+  private static final BitSet<Integer> LARGE = BitSet.range(0, 1_000_000).remove(777_777);
+
+  @Test
+  public void testContainsAllBits() {
+    assertThat(BitSet.of(1, 2, 3, 64, 200), containsAllBits(BitSet.of(1, 64, 200)));
+    assertThat(BitSet.of(1, 2, 3), containsAllBits(BitSet.empty()));
+    assertThat(BitSet.of(1, 2, 3), not(containsAllBits(BitSet.of(1, 200))));
+    assertThat(LARGE, containsAllBits(BitSet.range(0, 777_777)));
+    assertThat(LARGE, not(containsAllBits(BitSet.range(777_000, 778_000))));
+  }
+
+  @Test
+  public void testContainsAllBitsOfOtherElementTypes() {
+    assertThat(BitSet.ofAll('a', 'b', 'c'), containsAllBits(BitSet.ofAll('a', 'c')));
+    assertThat(BitSet.ofAll('a', 'b'), not(containsAllBits(BitSet.ofAll('z'))));
+  }
+
+  @Test
+  public void testFactoryElementTypes() {
+    assertThat(BitSet.withEnum(TimeUnit.class).of(TimeUnit.SECONDS, TimeUnit.DAYS),
+        containsAllBits(BitSet.withEnum(TimeUnit.class).of(TimeUnit.DAYS)));
+    assertThat(BitSet.ofAll(1L, 70L), containsAllBits(BitSet.of(70)));
+    assertThat(BitSet.ofAll(true, false), hasCardinality(2));
+    assertThat(BitSet.range('a', 'z'), rangeIsSet('a', 'z'));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCustomRelationsAreUnsupported() {
+    final BitSet<String> custom =
+        BitSet.withRelations(String::valueOf, Integer::parseInt).of("1", "2");
+    containsAllBits(BitSet.of(1)).matches(custom);
+  }
+
+  @Test
+  public void testContainsAllBitsMismatch() {
+    final Description description = new StringDescription();
+    containsAllBits(BitSet.of(1, 5, 70, 130)).describeMismatch(BitSet.of(1, 2, 3), description);
+    assertThat(description.toString(), is("BitSet is missing 3 expected bits: [<5>, <70>, <130>]"));
+  }
+
+  @Test
+  public void testHasCardinality() {
+    assertThat(BitSet.empty(), hasCardinality(0));
+    assertThat(BitSet.of(1, 100, 1000), hasCardinality(3));
+    assertThat(LARGE, hasCardinality(999_999));
+    assertThat(LARGE, hasCardinality(greaterThan(1000)));
+    assertThat(BitSet.of(1, 2), not(hasCardinality(3)));
+
+    final Description description = new StringDescription();
+    hasCardinality(3).describeMismatch(BitSet.of(1, 2), description);
+    assertThat(description.toString(),
+        is("BitSet cardinality does not match is <3>, cardinality was <2>"));
+  }
+
+  @Test
+  public void testRangeIsSet() {
+    assertThat(BitSet.range(10, 20), rangeIsSet(10, 20));
+    assertThat(BitSet.range(0, 200), rangeIsSet(63, 129));
+    assertThat(BitSet.range(64, 128), rangeIsSet(64, 128));
+    assertThat(BitSet.empty(), rangeIsSet(5, 5));
+    assertThat(BitSet.range(10, 20), not(rangeIsSet(9, 20)));
+    assertThat(BitSet.range(10, 20), not(rangeIsSet(10, 21)));
+    assertThat(BitSet.range(0, 128), not(rangeIsSet(100, 130)));
+    assertThat(LARGE, rangeIsSet(0, 777_777));
+    assertThat(LARGE, not(rangeIsSet(0, 1_000_000)));
+  }
+
+  @Test
+  public void testRangeIsSetMismatch() {
+    final Description description = new StringDescription();
+    rangeIsSet(0, 1000).describeMismatch(LARGE.remove(3), description);
+    assertThat(description.toString(), is("BitSet has 1 unset bit: [<3>] in [0, 1000)"));
+
+    final Description truncated = new StringDescription();
+    rangeIsSet(0, 100).describeMismatch(BitSet.of(1), truncated);
+    assertThat(truncated.toString(), is("BitSet has 99 unset bits, the first 20 of which are: "
+        + "[<0>, <2>, <3>, <4>, <5>, <6>, <7>, <8>, <9>, <10>, <11>, <12>, <13>, <14>, <15>, "
+        + "<16>, <17>, <18>, <19>, <20>] in [0, 100)"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRangeIsSetInvalidRange() {
+    rangeIsSet(10, 5);
+  }
+}
@@ -0,0 +1,75 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import io.vavr.collection.CharSeq;
+
+import static in.tazj.vavr.matchers.CharSeqMatchers.containsSubstring;
+import static in.tazj.vavr.matchers.CharSeqMatchers.matchesRegex;
+import static in.tazj.vavr.matchers.CharSeqMatchers.startsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class CharSeqMatchersTest {
+  private static final CharSeq LARGE = CharSeq.repeat('a', 1_000_000).append('b');
+
+  @Test
+  public void testMatchesRegex() {
+    assertThat(CharSeq.of("abc123"), matchesRegex("[a-z]+\\d+"));
+    assertThat(CharSeq.of("abc123x"), not(matchesRegex("[a-z]+\\d+")));
+    assertThat(CharSeq.of("ABC"), matchesRegex(Pattern.compile("abc", Pattern.CASE_INSENSITIVE)));
+    assertThat(LARGE, matchesRegex("a*b"));
+    assertThat(CharSeq.empty(), matchesRegex(""));
+  }
+
+  @Test
+  public void testMatchesRegexMismatch() {
+    final Description description = new StringDescription();
+    matchesRegex("\\d+").describeMismatch(CharSeq.of("12a"), description);
+    assertThat(description.toString(), is("CharSeq does not match regex \"\\d+\", was \"12a\""));
+  }
+
+  @Test
+  public void testContainsSubstring() {
+    assertThat(CharSeq.of("hello world"), containsSubstring("o w"));
+    assertThat(CharSeq.of("hello world"), containsSubstring(CharSeq.of("world")));
+    assertThat(CharSeq.of("hello world"), not(containsSubstring("worlds")));
+    assertThat(LARGE, containsSubstring("aab"));
+    assertThat(LARGE, not(containsSubstring("ba")));
+  }
+
+  @Test
+  public void testContainsSubstringMismatchIsTruncated() {
+    final Description description = new StringDescription();
+    final String expected = "CharSeq does not contain \"ba\", was \""
+        + CharSeq.repeat('a', 64) + "...\" (1000001 characters)";
+    containsSubstring("ba").describeMismatch(LARGE, description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testStartsWith() {
+    assertThat(CharSeq.of("prefix-rest"), startsWith("prefix"));
+    assertThat(CharSeq.of("prefix"), startsWith("prefix"));
+    assertThat(CharSeq.of("pre"), not(startsWith("prefix")));
+    assertThat(LARGE, startsWith("aaaa"));
+  }
+
+  @Test
+  public void testStartsWithMismatchShowsDifference() {
+    final Description description = new StringDescription();
+    final CharSeq actual = CharSeq.repeat('a', 500).append('x').appendAll(CharSeq.repeat('a', 500));
+    final String prefix = CharSeq.repeat('a', 600).toString();
+    final String expected = "CharSeq differs from prefix \"" + prefix + "\" at index <500>, "
+        + "was \"..." + CharSeq.repeat('a', 16) + "x" + CharSeq.repeat('a', 47)
+        + "...\" (1001 characters)";
+
+    startsWith(prefix).describeMismatch(actual, description);
+    assertThat(description.toString(), is(expected));
+  }
+}
@@ -1,20 +1,51 @@
 package in.tazj.vavr.matchers;
 
 import org.hamcrest.Description;
+import org.hamcrest.Matcher;
 import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeMatcher;
 import org.junit.Test;
 
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.HashSet;
 import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
 
 import static in.tazj.vavr.matchers.CollectionMatchers.allMatch;
+import static in.tazj.vavr.matchers.CollectionMatchers.allMatchInParallel;
+import static in.tazj.vavr.matchers.CollectionMatchers.allMatchInFirst;
+import static in.tazj.vavr.matchers.CollectionMatchers.allMatchIncremental;
+import static in.tazj.vavr.matchers.CollectionMatchers.allMatchSampled;
 import static in.tazj.vavr.matchers.CollectionMatchers.containsAny;
+import static in.tazj.vavr.matchers.CollectionMatchers.containsAnyInParallel;
+import static in.tazj.vavr.matchers.CollectionMatchers.containsAnySampled;
+import static in.tazj.vavr.matchers.CollectionMatchers.containsAnyWithin;
 import static in.tazj.vavr.matchers.CollectionMatchers.containsElement;
+import static in.tazj.vavr.matchers.CollectionMatchers.containsExactlyInAnyOrder;
 import static in.tazj.vavr.matchers.CollectionMatchers.containsInAnyOrder;
+import static in.tazj.vavr.matchers.CollectionMatchers.hasDuplicatesOf;
+import static in.tazj.vavr.matchers.CollectionMatchers.hasNoDuplicates;
 import static in.tazj.vavr.matchers.CollectionMatchers.hasSize;
+import static in.tazj.vavr.matchers.CollectionMatchers.hasSizeAtLeast;
+import static in.tazj.vavr.matchers.CollectionMatchers.hasSizeAtMost;
+import static in.tazj.vavr.matchers.CollectionMatchers.isDistinctBy;
 import static in.tazj.vavr.matchers.CollectionMatchers.isEmpty;
+import static in.tazj.vavr.matchers.CollectionMatchers.seqEqualTo;
+import static in.tazj.vavr.matchers.CollectionMatchers.startsWith;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public class CollectionMatchersTest {
@@ -32,6 +63,12 @@ public class CollectionMatchersTest {
     assertThat(description.toString(), is(expected));
   }
 
+  @Test
+  public void testIsEmptyUnexpectedType() {
+    assertThat(isEmpty(), is(sameInstance(isEmpty())));
+    assertThat(isEmpty().matches(Option.none()), is(false));
+  }
+
   @Test
   public void testHasSize() throws Exception {
     assertThat(List.of(1, 2, 3, 4, 5), hasSize(5));
@@ -83,6 +120,24 @@ public class CollectionMatchersTest {
     assertThat(description.toString(), is(expected));
   }
 
+  @Test
+  public void testContainsAnyLargeMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Collection expected to contain a value matching 'is <-1>' but found "
+        + "<Vector(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, ... 999,980 more ..., "
+        + "999995, 999996, 999997, 999998, 999999)>";
+    containsAny(is(-1)).describeMismatch(Vector.range(0, 1000000), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testContainsAnyLargeElementMismatch() {
+    final Description description = new StringDescription();
+    final String element = Stream.continually("x").take(10000).mkString();
+    containsAny(is("y")).describeMismatch(List.of(element, element), description);
+    assertThat(description.toString().length(), lessThan(2200));
+  }
+
   @Test
   public void testContainsInAnyOrder() throws Exception {
     assertThat(List.of(3, 2, 1), containsInAnyOrder(List.of(1, 2, 3)));
@@ -97,6 +152,55 @@ public class CollectionMatchersTest {
     assertThat(description.toString(), is(expected));
   }
 
+  @Test
+  public void testContainsInAnyOrderMultiplicity() {
+    assertThat(List.of(1, 2, 1), containsInAnyOrder(List.of(1, 1)));
+    assertThat(List.of(1, 2), not(containsInAnyOrder(List.of(1, 1))));
+  }
+
+  @Test
+  public void testContainsInAnyOrderMultiplicityMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Collection is missing elements: [<1>]";
+    containsInAnyOrder(List.of(1, 1, 2)).describeMismatch(List.of(2, 1), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testContainsInAnyOrderLargeMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Collection is missing elements: [<0>,<1>,<2>,<3>,<4>,<5>,<6>,<7>,"
+        + "<8>,<9>,<10>,<11>,<12>,<13>,<14>,... 99,980 more ...,<99995>,<99996>,<99997>,<99998>,"
+        + "<99999>]";
+    containsInAnyOrder(List.range(0, 100000)).describeMismatch(List.empty(), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testContainsExactlyInAnyOrder() {
+    assertThat(List.of(3, 1, 2, 1), containsExactlyInAnyOrder(List.of(1, 1, 2, 3)));
+    assertThat(List.empty(), containsExactlyInAnyOrder(List.empty()));
+    assertThat(List.of(3, 2, 1), not(containsExactlyInAnyOrder(List.of(1, 2))));
+    assertThat(List.of(2, 1), not(containsExactlyInAnyOrder(List.of(1, 2, 2))));
+  }
+
+  @Test
+  public void testContainsExactlyInAnyOrderUnexpectedMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Collection contains unexpected elements: [<3>,<3>]";
+    containsExactlyInAnyOrder(List.of(1, 2)).describeMismatch(List.of(3, 2, 3, 1), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testContainsExactlyInAnyOrderMismatch() {
+    final Description description = new StringDescription();
+    final String expected =
+        "Collection is missing elements: [<4>] and contains unexpected elements: [<3>]";
+    containsExactlyInAnyOrder(List.of(1, 2, 4)).describeMismatch(List.of(1, 2, 3), description);
+    assertThat(description.toString(), is(expected));
+  }
+
   @Test
   public void testAllMatch() {
     assertThat(List.of(1, 2, 3), allMatch(lessThan(5)));
@@ -106,9 +210,692 @@ public class CollectionMatchersTest {
   @Test
   public void testAllMatchMismatch() {
     final Description description = new StringDescription();
-    final String expected =
-        "All elements should match 'is <true>' but found non-matching elements: [<false>,<false>]";
+    final String expected = "All elements should match 'is <true>' but found 2 non-matching "
+        + "elements: [<false> at index 0, <false> at index 2]";
     allMatch(is(true)).describeMismatch(List.of(false, true, false), description);
     assertThat(description.toString(), is(expected));
   }
+
+  @Test
+  public void testAllMatchLimitedMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "All elements should match 'a value less than <5>' but found 5 "
+        + "non-matching elements, the first 2 of which are: [<5> at index 5, <6> at index 6]";
+    allMatch(lessThan(5), 2).describeMismatch(List.range(0, 10), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testAllMatchUnlimitedMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "All elements should match 'a value less than <5>' but found 40 "
+        + "non-matching elements: [<5> at index 5, <6> at index 6";
+    allMatch(lessThan(5), Integer.MAX_VALUE).describeMismatch(List.range(0, 45), description);
+    assertThat(description.toString(), containsString(expected));
+    assertThat(description.toString(), endsWith("<44> at index 44]"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAllMatchNegativeLimit() {
+    allMatch(lessThan(5), -1);
+  }
+
+  @Test
+  public void testAllMatchEvaluatesOnce() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    final Matcher<Integer> countingMatcher = new TypeSafeMatcher<Integer>() {
+      @Override
+      protected boolean matchesSafely(Integer item) {
+        evaluated.incrementAndGet();
+        return item < 5;
+      }
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText("less than 5");
+      }
+    };
+
+    final Matcher<List<Integer>> matcher = allMatch(countingMatcher);
+    final List<Integer> list = List.range(0, 10);
+    assertThat(matcher.matches(list), is(false));
+    matcher.describeMismatch(list, new StringDescription());
+    assertThat(evaluated.get(), is(10));
+  }
+
+  @Test
+  public void testIsEmptyStreamMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Collection was expected to be empty but has at least one element";
+    isEmpty().describeMismatch(Stream.from(0), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testHasSizeStream() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    assertThat(Stream.of(1, 2, 3), hasSize(3));
+    assertThat(countingStream(evaluated), not(hasSize(5)));
+    assertThat(evaluated.get(), lessThanOrEqualTo(6));
+  }
+
+  @Test
+  public void testHasSizeStreamMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Collection should have size <2> but actually has more than <2> elements";
+    hasSize(2).describeMismatch(Stream.from(0), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testMaximumSizeOnStream() {
+    assertThat(Stream.of(1, 2, 3), not(hasSize(Integer.MAX_VALUE)));
+    assertThat(Stream.of(1, 2, 3), hasSizeAtMost(Integer.MAX_VALUE));
+
+    final Description description = new StringDescription();
+    hasSize(Integer.MAX_VALUE).describeMismatch(Stream.of(1, 2, 3), description);
+    assertThat(description.toString(),
+        is("Collection should have size <2147483647> but actually has size <3>"));
+  }
+
+  @Test
+  public void testHasSizeMatcherStreamMismatch() {
+    final Description description = new StringDescription();
+    final String expected =
+        "Collection size does not match a value less than <2>, collection does not have a definite size";
+    hasSize(lessThan(2)).describeMismatch(Stream.from(0), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testAllMatchStreamMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "All elements should match 'a value less than <5>' but found at "
+        + "least 2 non-matching elements: [<5> at index 5, <6> at index 6]";
+    allMatch(lessThan(5), 2).describeMismatch(Stream.from(0), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testHasSizeAtLeast() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    assertThat(countingStream(evaluated), hasSizeAtLeast(10));
+    assertThat(evaluated.get(), lessThanOrEqualTo(10));
+    assertThat(List.of(1, 2), hasSizeAtLeast(2));
+    assertThat(List.of(1, 2), not(hasSizeAtLeast(3)));
+  }
+
+  @Test
+  public void testHasSizeAtLeastMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Collection should have at least <3> elements but actually has size <2>";
+    hasSizeAtLeast(3).describeMismatch(Stream.of(1, 2), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testHasSizeAtMost() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    assertThat(countingStream(evaluated), not(hasSizeAtMost(10)));
+    assertThat(evaluated.get(), lessThanOrEqualTo(11));
+    assertThat(List.of(1, 2), hasSizeAtMost(2));
+    assertThat(List.of(1, 2, 3), not(hasSizeAtMost(2)));
+  }
+
+  @Test
+  public void testHasSizeAtMostMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Collection should have at most <2> elements but actually has more";
+    hasSizeAtMost(2).describeMismatch(Stream.from(0), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testStartsWith() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    assertThat(countingStream(evaluated), startsWith(List.of(0, 1, 2)));
+    assertThat(evaluated.get(), lessThanOrEqualTo(3));
+    assertThat(List.of(1, 2, 3), startsWith(List.empty()));
+    assertThat(List.of(1, 2, 3), not(startsWith(List.of(1, 3))));
+    assertThat(List.of(1), not(startsWith(List.of(1, 2))));
+  }
+
+  @Test
+  public void testStartsWithMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Collection should start with [<1>,<3>] but element at index <1> was <2>";
+    startsWith(List.of(1, 3)).describeMismatch(List.of(1, 2, 3), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testStartsWithShortMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Collection should start with [<1>,<2>] but only has <1> elements";
+    startsWith(List.of(1, 2)).describeMismatch(List.of(1), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testAllMatchInFirst() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    assertThat(countingStream(evaluated), allMatchInFirst(100, lessThan(100)));
+    assertThat(evaluated.get(), lessThanOrEqualTo(100));
+    assertThat(List.of(1, 2), allMatchInFirst(5, lessThan(5)));
+    assertThat(Stream.from(0), not(allMatchInFirst(10, lessThan(5))));
+  }
+
+  @Test
+  public void testAllMatchInFirstMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "The first <10> elements should match 'a value less than <5>' "
+        + "but element at index <5> was <5>";
+    allMatchInFirst(10, lessThan(5)).describeMismatch(Stream.from(0), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testAllMatchInFirstMatchingDescription() {
+    final Description description = new StringDescription();
+    allMatchInFirst(2, is(1)).describeMismatch(List.of(1, 1), description);
+    assertThat(description.toString(), is("The first <2> elements matched 'is <1>'"));
+  }
+
+  @Test
+  public void testContainsAnyWithin() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    assertThat(countingStream(evaluated), not(containsAnyWithin(50, is(-1))));
+    assertThat(evaluated.get(), lessThanOrEqualTo(50));
+    assertThat(Stream.from(0), containsAnyWithin(10, is(9)));
+    assertThat(Stream.from(0), not(containsAnyWithin(10, is(10))));
+  }
+
+  @Test
+  public void testContainsAnyWithinMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Collection expected to contain a value matching 'is <10>' "
+        + "within the first <3> elements but found [<0>,<1>,<2>]";
+    containsAnyWithin(3, is(10)).describeMismatch(Stream.from(0), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testContainsAnyInParallel() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    assertThat(Vector.range(0, 10000), containsAnyInParallel(is(9999), pool));
+    assertThat(HashSet.range(0, 10000), containsAnyInParallel(is(42), pool));
+    assertThat(List.range(0, 10000), not(containsAnyInParallel(is(-1), pool)));
+    assertThat(Vector.empty(), not(containsAnyInParallel(is(1))));
+  }
+
+  @Test
+  public void testContainsAnyInParallelInfiniteStream() {
+    assertThat(Stream.from(0), containsAnyInParallel(is(5000), new ForkJoinPool(4)));
+  }
+
+  @Test
+  public void testAllMatchInParallel() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    assertThat(Vector.range(0, 10000), allMatchInParallel(lessThan(10000), pool));
+    assertThat(HashSet.range(0, 10000), allMatchInParallel(lessThan(10000), pool));
+    assertThat(Array.range(0, 10000), not(allMatchInParallel(lessThan(9999), pool)));
+    assertThat(Vector.empty(), allMatchInParallel(is(1)));
+  }
+
+  @Test
+  public void testAllMatchInParallelMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "All elements should match 'a value less than <5000>' "
+        + "but found at least 1 non-matching element: [<5000> at index 5000]";
+    allMatchInParallel(lessThan(5000), new ForkJoinPool(4))
+        .describeMismatch(Vector.range(0, 10000), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testAllMatchInParallelReusesEvaluation() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    final Matcher<List<Integer>> matcher =
+        allMatchInParallel(countingNonNegative(evaluated), new ForkJoinPool(4));
+    final List<Integer> list = List.range(0, 10000).update(7000, -1);
+
+    assertThat(matcher.matches(list), is(false));
+    final int evaluations = evaluated.get();
+    final Description description = new StringDescription();
+    matcher.describeMismatch(list, description);
+
+    assertThat(evaluated.get(), is(evaluations));
+    assertThat(description.toString(), endsWith("[<-1> at index 7000]"));
+  }
+
+  @Test
+  public void testAllMatchInParallelInfiniteStream() {
+    assertThat(Stream.from(0), not(allMatchInParallel(lessThan(5000), new ForkJoinPool(4))));
+  }
+
+  @Test
+  public void testAllMatchIncrementalAppend() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    final Matcher<Vector<Integer>> matcher = allMatchIncremental(countingNonNegative(evaluated));
+
+    Vector<Integer> vector = Vector.empty();
+    for (int i = 0; i < 2000; i++) {
+      vector = vector.append(i);
+      assertThat(vector, matcher);
+    }
+    assertThat(evaluated.get(), is(2000));
+
+    assertThat(vector.append(-1), not(matcher));
+    assertThat(vector.update(0, -1), not(matcher));
+  }
+
+  @Test
+  public void testAllMatchIncrementalPrepend() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    final Matcher<List<Integer>> matcher = allMatchIncremental(countingNonNegative(evaluated));
+
+    List<Integer> list = List.empty();
+    for (int i = 0; i < 2000; i++) {
+      list = list.prepend(i);
+      assertThat(list, matcher);
+    }
+    assertThat(evaluated.get(), is(2000));
+
+    assertThat(list, matcher);
+    assertThat(list.prepend(-1), not(matcher));
+    assertThat(list.append(-1), not(matcher));
+    assertThat(evaluated.get(), is(2000 + 1 + 2001));
+  }
+
+  @Test
+  public void testAllMatchIncrementalComparesPrefixByReference() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    final Matcher<String> countingMatcher = new TypeSafeMatcher<String>() {
+      @Override
+      protected boolean matchesSafely(String item) {
+        evaluated.incrementAndGet();
+        return !item.isEmpty();
+      }
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText("not empty");
+      }
+    };
+    final Matcher<Vector<String>> matcher = allMatchIncremental(countingMatcher);
+    final Vector<String> vector = Vector.range(0, 1000).map(String::valueOf);
+
+    assertThat(vector, matcher);
+    assertThat(vector.append("a"), matcher);
+    assertThat(evaluated.get(), is(1001));
+
+    // Equal but distinct elements are not known to be verified.
+    assertThat(vector.map(String::new), matcher);
+    assertThat(evaluated.get(), is(2001));
+  }
+
+  @Test
+  public void testAllMatchIncrementalPrimitiveVector() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    final Matcher<Vector<Integer>> matcher = allMatchIncremental(countingNonNegative(evaluated));
+    final Vector<Integer> vector = Vector.range(1000, 2000);
+
+    assertThat(vector, matcher);
+    assertThat(vector.append(1), matcher);
+    assertThat(evaluated.get(), is(1001));
+  }
+
+  @Test
+  public void testAllMatchIncrementalComparesOtherNumbersByReference() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    final Matcher<BigInteger> countingMatcher = new TypeSafeMatcher<BigInteger>() {
+      @Override
+      protected boolean matchesSafely(BigInteger item) {
+        evaluated.incrementAndGet();
+        return item.signum() >= 0;
+      }
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText("non-negative");
+      }
+    };
+    final Matcher<Vector<BigInteger>> matcher = allMatchIncremental(countingMatcher);
+    final Vector<BigInteger> vector = Vector.range(0, 1000).map(BigInteger::valueOf);
+
+    assertThat(vector, matcher);
+    assertThat(vector.append(BigInteger.ONE), matcher);
+    assertThat(evaluated.get(), is(1001));
+
+    // Equal but distinct numbers other than boxed primitives are not known to be verified.
+    assertThat(vector.map(i -> new BigInteger(i.toByteArray())), matcher);
+    assertThat(evaluated.get(), is(2001));
+  }
+
+  @Test
+  public void testAllMatchIncrementalForgetsOldVersions() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    final Matcher<Vector<Integer>> matcher =
+        allMatchIncremental(countingNonNegative(evaluated), 1);
+    final Vector<Integer> first = Vector.range(0, 100);
+
+    assertThat(first, matcher);
+    assertThat(Vector.range(500, 510), matcher);
+    assertThat(first.append(100), matcher);
+    assertThat(evaluated.get(), is(100 + 10 + 101));
+  }
+
+  @Test
+  public void testAllMatchIncrementalMismatch() {
+    final Matcher<Vector<Integer>> matcher = allMatchIncremental(lessThan(5));
+    final Vector<Integer> vector = Vector.range(0, 5);
+    assertThat(vector, matcher);
+
+    final Description description = new StringDescription();
+    final Description expected = new StringDescription();
+    matcher.describeMismatch(vector.appendAll(List.of(5, 6)), description);
+    allMatch(lessThan(5)).describeMismatch(vector.appendAll(List.of(5, 6)), expected);
+    assertThat(description.toString(), is(expected.toString()));
+    assertThat(Stream.from(0), not(allMatchIncremental(lessThan(5))));
+  }
+
+  @Test
+  public void testAllMatchSampled() {
+    final Vector<Integer> vector = Vector.tabulate(1_000_000, i -> i % 20 == 7 ? -i : i);
+    final List<Integer> list = List.ofAll(vector);
+    assertThat(Vector.range(0, 1_000_000), allMatchSampled(not(lessThan(0)), 0.99, 0.01));
+    assertThat(vector, not(allMatchSampled(not(lessThan(0)), 0.99, 0.01)));
+    assertThat(list, not(allMatchSampled(not(lessThan(0)), 0.99, 0.01)));
+    assertThat(Stream.range(0, 1000), allMatchSampled(lessThan(1000), 0.9, 0.1, 1));
+  }
+
+  @Test
+  public void testAllMatchSampledChecksWholeSmallCollection() {
+    final Description description = new StringDescription();
+    final String expected = "All elements should match 'a value less than <99>' but found 1 "
+        + "non-matching element: [<99> at index 99] among 100 sampled elements (seed 42)";
+    allMatchSampled(lessThan(99), 0.99, 0.01, 42)
+        .describeMismatch(List.range(0, 100), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testAllMatchSampledIsReproducible() {
+    final Vector<Integer> vector = Vector.tabulate(100_000, i -> i % 50 == 0 ? -i : i);
+    final Description first = new StringDescription();
+    final Description second = new StringDescription();
+    final Description fromList = new StringDescription();
+    allMatchSampled(greaterThan(0), 0.95, 0.05, 7).describeMismatch(vector, first);
+    allMatchSampled(greaterThan(0), 0.95, 0.05, 7).describeMismatch(vector, second);
+    allMatchSampled(greaterThan(0), 0.95, 0.05, 7)
+        .describeMismatch(List.ofAll(vector), fromList);
+
+    assertThat(first.toString(), is(second.toString()));
+    assertThat(first.toString(), containsString("among 59 sampled elements (seed 7)"));
+    assertThat(fromList.toString(), containsString("among 59 sampled elements (seed 7)"));
+  }
+
+  @Test
+  public void testAllMatchSampledEvaluatesSampleOnly() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    final Matcher<Integer> countingMatcher = new TypeSafeMatcher<Integer>() {
+      @Override
+      protected boolean matchesSafely(Integer item) {
+        evaluated.incrementAndGet();
+        return item >= 0;
+      }
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText("non-negative");
+      }
+    };
+
+    assertThat(Vector.range(0, 1_000_000), allMatchSampled(countingMatcher, 0.99, 0.01, 1));
+    assertThat(evaluated.get(), is(459));
+  }
+
+  @Test
+  public void testAllMatchSampledDescription() {
+    final Description description = new StringDescription();
+    final String expected = "All elements should match: a value less than <5> (checked on a "
+        + "random sample of 459 elements with seed 3, which finds at least 1% non-matching "
+        + "elements with 99% confidence)";
+    allMatchSampled(lessThan(5), 0.99, 0.01, 3).describeTo(description);
+    assertThat(description.toString(), is(expected));
+
+    final Description random = new StringDescription();
+    allMatchSampled(lessThan(5), 0.99, 0.01).describeTo(random);
+    assertThat(random.toString(), containsString("with seed "));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAllMatchSampledInvalidConfidence() {
+    allMatchSampled(lessThan(5), 1.0, 0.01);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testContainsAnySampledInvalidRate() {
+    containsAnySampled(lessThan(5), 0.99, 0.0);
+  }
+
+  @Test
+  public void testContainsAnySampled() {
+    final Vector<Integer> vector = Vector.tabulate(1_000_000, i -> i % 10 == 3 ? -i : i);
+    assertThat(vector, containsAnySampled(lessThan(0), 0.999, 0.1));
+    assertThat(List.ofAll(vector), containsAnySampled(lessThan(0), 0.999, 0.1, 5));
+    assertThat(vector.map(Math::abs), not(containsAnySampled(lessThan(0), 0.999, 0.1)));
+  }
+
+  @Test
+  public void testContainsAnySampledMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Collection expected to contain a value matching 'a value less than "
+        + "<0>' but none of 66 sampled elements (seed 11) matched";
+    containsAnySampled(lessThan(0), 0.999, 0.1, 11)
+        .describeMismatch(Vector.range(0, 100_000), description);
+    assertThat(description.toString(), is(expected));
+
+    final Description small = new StringDescription();
+    containsAnySampled(lessThan(0), 0.999, 0.1, 11).describeMismatch(HashSet.of(1, 2, 3), small);
+    assertThat(small.toString(), containsString("none of 3 sampled elements"));
+  }
+
+  @Test
+  public void testSeqEqualTo() {
+    assertThat(List.of(1, 2, 3), seqEqualTo(List.of(1, 2, 3)));
+    assertThat(Vector.of(1, 2, 3), seqEqualTo(List.of(1, 2, 3)));
+    assertThat(List.empty(), seqEqualTo(Array.empty()));
+    assertThat(List.of(1, 2, 3), not(seqEqualTo(List.of(1, 2))));
+    assertThat(Vector.of(1, 2), not(seqEqualTo(Vector.of(1, 3))));
+    assertThat(Stream.of(1, 2, 3), not(seqEqualTo(Stream.of(1, 2, 3, 4))));
+  }
+
+  @Test
+  public void testSeqEqualToMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Sequence differs by <5> edits: changed [<3>] to [<30>] at index <2>, "
+        + "inserted [<41>,<42>] at index <4>, deleted [<7>] at index <8>";
+    seqEqualTo(List.of(1, 2, 3, 4, 5, 6, 7, 8))
+        .describeMismatch(Vector.of(1, 2, 30, 4, 41, 42, 5, 6, 8), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testSeqEqualToMismatchAtEnds() {
+    final Description description = new StringDescription();
+    final String expected =
+        "Sequence differs by <3> edits: deleted [<0>] at index <0>, inserted [<4>,<5>] at index <3>";
+    seqEqualTo(List.of(0, 1, 2, 3)).describeMismatch(List.of(1, 2, 3, 4, 5), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testSeqEqualToMaxEdits() {
+    final Description description = new StringDescription();
+    final String expected = "Sequence differs by more than <10> edits, starting at index <1000>";
+    seqEqualTo(Vector.range(0, 100000), 10)
+        .describeMismatch(Vector.range(0, 1000).appendAll(Vector.range(2000, 100000)), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testSeqEqualToLargeSequences() {
+    final Description description = new StringDescription();
+    final String expected = "Sequence differs by <2> edits: changed [<50000>] to [<-1>] at index <50000>";
+    seqEqualTo(List.range(0, 100000))
+        .describeMismatch(List.range(0, 100000).update(50000, -1), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testSeqEqualToSharedStructure() {
+    // Elements of the shared tail cannot be compared, so the lists must not look at them.
+    final List<Object> shared = List.fill(1000, Incomparable::new);
+    final List<Object> expected = shared.prepend(1);
+
+    assertThat(expected, seqEqualTo(expected));
+    assertThat(shared.prepend(1), seqEqualTo(expected));
+    assertThat(shared.prepend(2), not(seqEqualTo(expected)));
+
+    final Description description = new StringDescription();
+    seqEqualTo(expected).describeMismatch(shared.prepend(3).prepend(2), description);
+    assertThat(description.toString(),
+        is("Sequence differs by <3> edits: changed [<1>] to [<2>,<3>] at index <0>"));
+  }
+
+  @Test
+  public void testHasNoDuplicates() {
+    assertThat(List.empty(), hasNoDuplicates());
+    assertThat(List.of(1, 2, 3), hasNoDuplicates());
+    assertThat(List.of(1, 2, 1), not(hasNoDuplicates()));
+    assertThat(List.of(1L, 2L, 3L), hasNoDuplicates());
+    assertThat(List.of("a", "b", "a"), not(hasNoDuplicates()));
+    assertThat(List.of(null, "a", null), not(hasNoDuplicates()));
+    assertThat(HashSet.of(1, 2, 3), hasNoDuplicates());
+  }
+
+  @Test
+  public void testHasNoDuplicatesMixedKeys() {
+    // Integer 1 and Long 1 are not equal, so they must not be indexed as the same number.
+    assertThat(List.<Object>of(1, 1L, 2, 2L), hasNoDuplicates());
+    assertThat(List.<Object>of(1, 2, 1L, 3, "a", 2), not(hasNoDuplicates()));
+
+    final Description description = new StringDescription();
+    hasNoDuplicates().describeMismatch(List.<Object>of(1, 2, 1L, 3, "a", 2), description);
+    assertThat(description.toString(), is("found duplicate <2> at indices <1> and <5>"));
+  }
+
+  @Test
+  public void testHasNoDuplicatesLarge() {
+    final Vector<Integer> ids = Vector.range(0, 1_000_000).map(i -> i * 31);
+    assertThat(ids, hasNoDuplicates());
+    assertThat(ids.append(31 * 500_000), not(hasNoDuplicates()));
+
+    final Description description = new StringDescription();
+    hasNoDuplicates().describeMismatch(ids.append(31 * 500_000), description);
+    assertThat(description.toString(),
+        is("found duplicate <15500000> at indices <500000> and <1000000>"));
+  }
+
+  @Test
+  public void testHasNoDuplicatesLongKeys() {
+    final List<Long> strided = List.range(0L, 100_000L).map(i -> i << 10);
+    assertThat(strided, hasNoDuplicates());
+    assertThat(strided.append(0L), not(hasNoDuplicates()));
+    assertThat(List.<Object>of(0L, 1L, "a", 0L), not(hasNoDuplicates()));
+    assertThat(List.<Object>of(0, 1, "a", 0L), hasNoDuplicates());
+
+    final Description description = new StringDescription();
+    hasNoDuplicates().describeMismatch(List.<Object>of(5L, 0L, 1L, "a", 0L), description);
+    assertThat(description.toString(), is("found duplicate <0L> at indices <1> and <4>"));
+  }
+
+  @Test
+  public void testHasNoDuplicatesStopsAtFirstDuplicate() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    final Stream<Integer> repeating = countingStream(evaluated).map(i -> i % 10);
+
+    assertThat(repeating, not(hasNoDuplicates()));
+    assertThat(evaluated.get(), is(11));
+  }
+
+  @Test
+  public void testHasDuplicatesOf() {
+    assertThat(List.of(1, 2, 3, 2), hasDuplicatesOf(lessThan(3)));
+    assertThat(List.of(1, 2, 3, 3), not(hasDuplicatesOf(lessThan(3))));
+
+    final Description description = new StringDescription();
+    hasDuplicatesOf(lessThan(3)).describeMismatch(List.of(1, 2, 3, 3), description);
+    assertThat(description.toString(),
+        is("no element matching 'a value less than <3>' occurs more than once"));
+  }
+
+  @Test
+  public void testIsDistinctBy() {
+    assertThat(List.of("a", "bb", "ccc"), isDistinctBy(String::length));
+    assertThat(List.of("a", "bb", "cc"), not(isDistinctBy(String::length)));
+
+    final Description description = new StringDescription();
+    CollectionMatchers.<String, Integer, List<String>>isDistinctBy(String::length)
+        .describeMismatch(List.of("a", "bb", "cc"), description);
+    assertThat(description.toString(),
+        is("\"cc\" at index <2> has the same key <2> as the element at index <1>"));
+  }
+
+  @Test
+  public void testIsDistinctByReusesEvaluation() {
+    final AtomicInteger keys = new AtomicInteger();
+    final Matcher<List<String>> matcher = isDistinctBy(s -> {
+      keys.incrementAndGet();
+      return s.length();
+    });
+    final List<String> list = List.of("a", "bb", "ccc", "dd");
+
+    assertThat(matcher.matches(list), is(false));
+    final Description description = new StringDescription();
+    matcher.describeMismatch(list, description);
+
+    assertThat(keys.get(), is(5));
+    assertThat(description.toString(),
+        is("\"dd\" at index <3> has the same key <2> as the element at index <1>"));
+  }
+
+  /**
+   * Creates an infinite stream of the natural numbers that counts how many of its elements have
+   * been evaluated.
+   */
+  private static Stream<Integer> countingStream(AtomicInteger evaluated) {
+    return Stream.continually(evaluated::getAndIncrement);
+  }
+
+  /**
+   * Creates a matcher for non-negative integers that counts how many integers it has evaluated.
+   */
+  private static Matcher<Integer> countingNonNegative(AtomicInteger evaluated) {
+    return new TypeSafeMatcher<Integer>() {
+      @Override
+      protected boolean matchesSafely(Integer item) {
+        evaluated.incrementAndGet();
+        return item >= 0;
+      }
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText("non-negative");
+      }
+    };
+  }
+
+  private static final class Incomparable {
+    @Override
+    public boolean equals(Object obj) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
 }
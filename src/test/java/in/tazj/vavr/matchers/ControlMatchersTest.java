@@ -1,25 +1,39 @@
 package in.tazj.vavr.matchers;
 
 import org.hamcrest.Description;
+import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 import org.hamcrest.StringDescription;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Stream;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
+import io.vavr.control.Validation;
 
 import static in.tazj.vavr.matchers.ControlMatchers.isDefined;
 import static in.tazj.vavr.matchers.ControlMatchers.isLeft;
 import static in.tazj.vavr.matchers.ControlMatchers.isRight;
 import static in.tazj.vavr.matchers.ControlMatchers.isSuccess;
 import static org.hamcrest.Matchers.anything;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertThat;
 
 public class ControlMatchersTest {
@@ -146,6 +160,85 @@ public class ControlMatchersTest {
     assertThat(description.toString(), is(expected));
   }
 
+  @Test
+  public void testHasFailedWithInstanceOf() {
+    assertThat(Try.failure(new CustomException()),
+        ControlMatchers.hasFailedWithInstanceOf(CustomException.class));
+    assertThat(Try.failure(new SpecialCustomException()),
+        ControlMatchers.hasFailedWithInstanceOf(CustomException.class));
+    assertThat(Try.failure(new UnsupportedEncodingException()),
+        ControlMatchers.hasFailedWithInstanceOf(IOException.class));
+    assertThat(Try.failure(new Exception()),
+        not(ControlMatchers.hasFailedWithInstanceOf(CustomException.class)));
+    assertThat(Try.success(1), not(ControlMatchers.hasFailedWithInstanceOf(Exception.class)));
+  }
+
+  @Test
+  public void testHasFailedWithInstanceOfMismatch() {
+    final Description description = new StringDescription();
+    ControlMatchers.hasFailedWithInstanceOf(IOException.class)
+        .describeMismatch(Try.failure(new IllegalStateException()), description);
+    assertThat(description.toString(),
+        is("Failure type is IllegalStateException but expected an instance of IOException"));
+  }
+
+  @Test
+  public void testHasFailedWithCause() {
+    final Try<Object> wrapped = Try.failure(
+        new ExecutionException(new CompletionException(new SpecialCustomException())));
+    assertThat(wrapped, ControlMatchers.hasFailedWithCause(CustomException.class));
+    assertThat(wrapped, ControlMatchers.hasFailedWithCause(ExecutionException.class));
+    assertThat(wrapped, not(ControlMatchers.hasFailedWithCause(IOException.class)));
+    assertThat(wrapped, ControlMatchers.hasFailedWithCause(
+        Matchers.<Throwable>instanceOf(CompletionException.class)));
+    assertThat(Try.success(1), not(ControlMatchers.hasFailedWithCause(Exception.class)));
+  }
+
+  @Test
+  public void testHasFailedWithCauseCycle() {
+    final CyclicException first = new CyclicException("first");
+    final CyclicException second = new CyclicException("second");
+    first.cause = second;
+    second.cause = first;
+
+    assertThat(Try.failure(first), ControlMatchers.hasFailedWithCause(CyclicException.class));
+    assertThat(Try.failure(first), not(ControlMatchers.hasFailedWithCause(IOException.class)));
+
+    final Description description = new StringDescription();
+    ControlMatchers.hasFailedWithCause(IOException.class)
+        .describeMismatch(Try.failure(first), description);
+    assertThat(description.toString(), containsString("No exception in the cause chain matched "
+        + "'an instance of java.io.IOException', the chain was [" + first + " <- " + second));
+  }
+
+  @Test
+  public void testHasFailedWithCauseMismatch() {
+    final Description description = new StringDescription();
+    final Exception failure = new ExecutionException("outer", new IllegalStateException("inner"));
+    ControlMatchers.hasFailedWithCause(IOException.class)
+        .describeMismatch(Try.failure(failure), description);
+    assertThat(description.toString(), is("No exception in the cause chain matched 'an instance "
+        + "of java.io.IOException', the chain was [java.util.concurrent.ExecutionException: outer "
+        + "<- java.lang.IllegalStateException: inner]"));
+  }
+
+  @Test
+  public void testHasFailedWithMessage() {
+    assertThat(Try.failure(new IllegalStateException("boom")),
+        ControlMatchers.hasFailedWithMessage(containsString("oo")));
+    assertThat(Try.failure(new IllegalStateException()),
+        ControlMatchers.hasFailedWithMessage(nullValue()));
+    assertThat(Try.failure(new IllegalStateException("boom")),
+        not(ControlMatchers.hasFailedWithMessage(is("bang"))));
+    assertThat(Try.success("boom"), not(ControlMatchers.hasFailedWithMessage(is("boom"))));
+
+    final Description description = new StringDescription();
+    ControlMatchers.hasFailedWithMessage(is("bang"))
+        .describeMismatch(Try.failure(new IllegalStateException("boom")), description);
+    assertThat(description.toString(),
+        is("Failure message should match 'is \"bang\"' but was \"boom\""));
+  }
+
   @Test
   public void testIsRight() throws Exception {
     assertThat(Either.right(1), ControlMatchers.isRight());
@@ -190,6 +283,257 @@ public class ControlMatchersTest {
     assertThat(description.toString(), is(expected));
   }
 
+  @Test
+  public void testIsValid() {
+    assertThat(Validation.valid(1), ControlMatchers.isValid());
+    assertThat(Validation.valid(1), ControlMatchers.isValid(is(1)));
+    assertThat(Validation.invalid("e"), not(ControlMatchers.isValid()));
+  }
+
+  @Test
+  public void testIsValidMismatch() {
+    final Description description = new StringDescription();
+    ControlMatchers.isValid().describeMismatch(Validation.invalid("e"), description);
+    assertThat(description.toString(),
+        is("Expected matching »Valid« value, but got »Invalid«: \"e\""));
+
+    final Description value = new StringDescription();
+    ControlMatchers.isValid(is(1)).describeMismatch(Validation.valid(42), value);
+    assertThat(value.toString(), is("Expected matching »Valid« value, but got: was <42>"));
+  }
+
+  @Test
+  public void testIsInvalid() {
+    assertThat(Validation.invalid("e"), ControlMatchers.isInvalid());
+    assertThat(Validation.invalid("e"), ControlMatchers.isInvalid(is("e")));
+    assertThat(Validation.valid(1), not(ControlMatchers.isInvalid()));
+  }
+
+  @Test
+  public void testIsInvalidMismatch() {
+    final Description description = new StringDescription();
+    ControlMatchers.isInvalid(is("e")).describeMismatch(Validation.invalid("f"), description);
+    assertThat(description.toString(),
+        is("Expected matching »Invalid« error, but got: was \"f\""));
+  }
+
+  @Test
+  public void testHasErrorsMatching() {
+    final Validation<Seq<String>, Integer> invalid = Validation.combine(
+        Validation.<String, Integer>invalid("a"), Validation.<String, Integer>invalid("b"))
+        .ap((x, y) -> x + y);
+    final Seq<Matcher<? super String>> matchers = List.of(is("a"), is("b"));
+
+    assertThat(invalid, ControlMatchers.hasErrorsMatching(matchers));
+    assertThat(invalid, not(ControlMatchers.hasErrorsMatching(List.of(is("a")))));
+    assertThat(Validation.valid(1), not(ControlMatchers.hasErrorsMatching(matchers)));
+  }
+
+  @Test
+  public void testHasErrorsMatchingMismatch() {
+    final Validation<Seq<String>, Integer> invalid = Validation.invalid(List.of("a", "c"));
+
+    final Description description = new StringDescription();
+    ControlMatchers.<String, Integer>hasErrorsMatching(List.of(is("a"), is("b")))
+        .describeMismatch(invalid, description);
+    assertThat(description.toString(),
+        is("Error at index <1> should match 'is \"b\"' but was \"c\""));
+
+    final Description count = new StringDescription();
+    ControlMatchers.<String, Integer>hasErrorsMatching(List.of(is("a")))
+        .describeMismatch(invalid, count);
+    assertThat(count.toString(), is("Expected <1> errors but got <2>: [\"a\", \"c\"]"));
+  }
+
+  @Test
+  public void testHasErrorCount() {
+    assertThat(Validation.invalid(List.of("a", "b")), ControlMatchers.hasErrorCount(2));
+    assertThat(Validation.valid(1), ControlMatchers.hasErrorCount(0));
+
+    final Description description = new StringDescription();
+    ControlMatchers.hasErrorCount(1)
+        .describeMismatch(Validation.invalid(List.of("a", "b")), description);
+    assertThat(description.toString(),
+        is("»Validation« should have <1> errors, but has <2>: [\"a\", \"b\"]"));
+  }
+
+  @Test
+  public void testAllValid() {
+    assertThat(List.of(Validation.valid(1), Validation.valid(2)), ControlMatchers.allValid());
+    assertThat(List.empty(), ControlMatchers.allValid());
+    assertThat(List.of(Validation.valid(1), Validation.invalid("e")),
+        not(ControlMatchers.allValid()));
+
+    final Description description = new StringDescription();
+    ControlMatchers.allValid().describeMismatch(
+        List.of(Validation.valid(1), Validation.invalid("e")), description);
+    assertThat(description.toString(),
+        is("All »Validation«s should be »Valid«, but found 1 non-matching element: "
+            + "[<Invalid(e)> at index 1]"));
+  }
+
+  @Test
+  public void testAllValidStopsAtFirstInvalid() {
+    final AtomicInteger evaluated = new AtomicInteger();
+    final Stream<Validation<String, Integer>> validations = Stream.from(0)
+        .peek(i -> evaluated.incrementAndGet())
+        .map(i -> i == 3 ? Validation.invalid("e") : Validation.valid(i));
+
+    assertThat(ControlMatchers.allValid().matches(validations), is(false));
+    assertThat(evaluated.get(), is(4));
+  }
+
+  @Test
+  public void testInvalidCountAtMost() {
+    final List<Validation<String, Integer>> validations = List.range(0, 100)
+        .map(i -> i % 10 == 0 ? Validation.invalid("e" + i) : Validation.valid(i));
+
+    assertThat(validations, ControlMatchers.invalidCountAtMost(10));
+    assertThat(validations, not(ControlMatchers.invalidCountAtMost(9)));
+
+    final Description description = new StringDescription();
+    ControlMatchers.invalidCountAtMost(2).describeMismatch(validations, description);
+    assertThat(description.toString(),
+        startsWith("At most <2> »Validation«s should be »Invalid«, but found 10 non-matching "
+            + "elements: [<Invalid(e0)> at index 0, <Invalid(e10)> at index 10, "));
+  }
+
+  @Test
+  public void testFailureRatioAtMost() {
+    final List<Try<Integer>> tries = List.range(0, 1000)
+        .map(i -> i % 100 == 0 ? Try.failure(new CustomException()) : Try.success(i));
+
+    assertThat(tries, ControlMatchers.failureRatioAtMost(0.01));
+    assertThat(tries, not(ControlMatchers.failureRatioAtMost(0.009)));
+    assertThat(tries.toStream(), ControlMatchers.failureRatioAtMost(0.01));
+    assertThat(tries.iterator(), not(ControlMatchers.failureRatioAtMost(0.009)));
+    assertThat(List.empty(), ControlMatchers.failureRatioAtMost(0));
+  }
+
+  @Test
+  public void testFailureRatioAtMostStopsEarly() {
+    // The null elements would fail the match if the traversal reached them.
+    final List<Try<Integer>> failing = List.<Try<Integer>>fill(11,
+        () -> Try.failure(new CustomException())).appendAll(List.fill(989, () -> null));
+    final List<Try<Integer>> passing = List.<Try<Integer>>of(Try.success(1))
+        .appendAll(List.fill(9, () -> null));
+
+    assertThat(failing, not(ControlMatchers.failureRatioAtMost(0.01)));
+    assertThat(passing, ControlMatchers.failureRatioAtMost(0.9));
+
+    final Description description = new StringDescription();
+    ControlMatchers.failureRatioAtMost(0.01).describeMismatch(failing, description);
+    assertThat(description.toString(),
+        is("At most <10> of <1000> »Try«s should be »Failure«s, but found "
+            + "[»Success«: 0, »Failure«: 11] in the first 11 of 1000 elements"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFailureRatioAtMostInvalidRatio() {
+    ControlMatchers.failureRatioAtMost(1.5);
+  }
+
+  @Test
+  public void testRightsAllMatch() {
+    final List<Either<String, Integer>> eithers =
+        List.of(Either.right(1), Either.left("timeout"), Either.right(2));
+
+    assertThat(eithers, ControlMatchers.rightsAllMatch(lessThan(3)));
+    assertThat(eithers, not(ControlMatchers.rightsAllMatch(lessThan(2))));
+
+    final Description description = new StringDescription();
+    ControlMatchers.rightsAllMatch(lessThan(2)).describeMismatch(eithers, description);
+    assertThat(description.toString(),
+        is("All »Right« values should match 'a value less than <2>', but the value at index "
+            + "<2> did not: <2> was equal to <2>, found [»Right«: 2, »Left«: 1] in all 3 "
+            + "elements"));
+  }
+
+  @Test
+  public void testLeftsAllMatch() {
+    final List<Either<String, Integer>> eithers =
+        List.of(Either.left("timeout"), Either.right(1), Either.left("refused"), Either.right(2));
+
+    assertThat(eithers, ControlMatchers.leftsAllMatch(containsString("e")));
+    assertThat(eithers, not(ControlMatchers.leftsAllMatch(is("timeout"))));
+
+    final Description description = new StringDescription();
+    ControlMatchers.leftsAllMatch(is("timeout")).describeMismatch(eithers, description);
+    assertThat(description.toString(),
+        is("All »Left« values should match 'is \"timeout\"', but the value at index <2> did "
+            + "not: was \"refused\", found [»Right«: 1, »Left«: 2] in the first 3 of 4 "
+            + "elements"));
+  }
+
+  @Test
+  public void testRightsAllMatchMatchingDescription() {
+    final Description description = new StringDescription();
+    ControlMatchers.rightsAllMatch(is(1)).describeMismatch(List.of(Either.right(1)), description);
+    assertThat(description.toString(),
+        is("All »Right« values matched 'is <1>', found [»Right«: 1, »Left«: 0] in all 1 "
+            + "elements"));
+  }
+
+  @Test
+  public void testSuccessCount() {
+    final List<Try<Integer>> tries =
+        List.of(Try.success(1), Try.failure(new CustomException()), Try.success(2));
+
+    assertThat(tries, ControlMatchers.successCount(2));
+    assertThat(tries, ControlMatchers.successCount(lessThan(3)));
+
+    final Description description = new StringDescription();
+    ControlMatchers.successCount(3).describeMismatch(tries, description);
+    assertThat(description.toString(),
+        is("Number of »Success« values should match 'is <3>', but found "
+            + "[»Success«: 2, »Failure«: 1] in all 3 elements"));
+  }
+
+  @Test
+  public void testDefinedCount() {
+    final List<Option<Integer>> options = List.of(Option.of(1), Option.none(), Option.none());
+
+    assertThat(options, ControlMatchers.definedCount(1));
+    assertThat(options.iterator(), not(ControlMatchers.definedCount(2)));
+  }
+
+  @Test
+  public void testStatelessMatchersAreShared() {
+    assertThat(ControlMatchers.isDefined(), is(sameInstance(ControlMatchers.isDefined())));
+    assertThat(ControlMatchers.isEmpty(), is(sameInstance(ControlMatchers.isEmpty())));
+    assertThat(ControlMatchers.isSuccess(), is(sameInstance(ControlMatchers.isSuccess())));
+    assertThat(ControlMatchers.isFailure(), is(sameInstance(ControlMatchers.isFailure())));
+    assertThat(ControlMatchers.isRight(), is(sameInstance(ControlMatchers.isRight())));
+    assertThat(ControlMatchers.isLeft(), is(sameInstance(ControlMatchers.isLeft())));
+    assertThat(ControlMatchers.isValid(), is(sameInstance(ControlMatchers.isValid())));
+    assertThat(ControlMatchers.isInvalid(), is(sameInstance(ControlMatchers.isInvalid())));
+    assertThat(ControlMatchers.allValid(), is(sameInstance(ControlMatchers.allValid())));
+  }
+
+  @Test
+  public void testUnexpectedTypes() {
+    assertThat(ControlMatchers.isDefined().matches(Try.success(1)), is(false));
+    assertThat(ControlMatchers.isSuccess().matches(Option.of(1)), is(false));
+    assertThat(ControlMatchers.hasFailedWith(CustomException.class).matches("fnord"), is(false));
+    assertThat(ControlMatchers.isRight().matches(null), is(false));
+  }
+
   static class CustomException extends Exception {
   }
+
+  static class SpecialCustomException extends CustomException {
+  }
+
+  static class CyclicException extends Exception {
+    private Throwable cause;
+
+    CyclicException(String message) {
+      super(message);
+    }
+
+    @Override
+    public synchronized Throwable getCause() {
+      return cause;
+    }
+  }
 }
@@ -0,0 +1,146 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+
+import static in.tazj.vavr.matchers.FutureMatchers.completesWithin;
+import static in.tazj.vavr.matchers.FutureMatchers.failsWith;
+import static in.tazj.vavr.matchers.FutureMatchers.isStillPending;
+import static in.tazj.vavr.matchers.FutureMatchers.succeedsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class FutureMatchersTest {
+  private static final Duration SHORT = Duration.ofMillis(50);
+
+  @Test
+  public void testSucceedsWith() {
+    assertThat(Future.successful(1), succeedsWith(is(1)));
+    assertThat(Future.successful(2), not(succeedsWith(is(1))));
+    assertThat(Future.failed(new IllegalStateException()), not(succeedsWith(is(1))));
+  }
+
+  @Test
+  public void testSucceedsWithWaitsForCompletion() {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<Integer> future = Future.of(executor, () -> {
+        Thread.sleep(20);
+        return 42;
+      });
+      assertThat(future, succeedsWith(is(42)));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testSucceedsWithTimesOut() {
+    final Promise<Integer> promise = Promise.make();
+    final long start = System.nanoTime();
+
+    assertThat(promise.future(), not(succeedsWith(is(1), SHORT)));
+    assertThat(System.nanoTime() - start, lessThan(TimeUnit.SECONDS.toNanos(2)));
+  }
+
+  @Test
+  public void testPendingFutureRegistersOneCallback() throws InterruptedException {
+    final AtomicInteger callbacks = new AtomicInteger();
+    final ExecutorService executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>()) {
+      @Override
+      public void execute(Runnable command) {
+        callbacks.incrementAndGet();
+        super.execute(command);
+      }
+    };
+    try {
+      final Promise<Integer> promise = Promise.make(executor);
+      for (int i = 0; i < 20; i++) {
+        assertThat(promise.future(), not(completesWithin(Duration.ofMillis(1))));
+      }
+
+      promise.success(1);
+      assertThat(promise.future(), succeedsWith(is(1)));
+      assertThat(callbacks.get(), is(1));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testInterruptedWait() {
+    Thread.currentThread().interrupt();
+    try {
+      assertThat(Promise.make().future(), not(completesWithin(Duration.ofSeconds(10))));
+      assertThat(Thread.currentThread().isInterrupted(), is(true));
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  public void testSucceedsWithMismatchDescription() {
+    final Description description = new StringDescription();
+    succeedsWith(is(1), SHORT).describeMismatch(Future.successful(2), description);
+    assertThat(description.toString(),
+        is("Expected successful Try value matching 'is <1>' but was <2>"));
+
+    final Description pending = new StringDescription();
+    final Future<Integer> future = Promise.<Integer>make().future();
+    succeedsWith(is(1), SHORT).describeMismatch(future, pending);
+    assertThat(pending.toString(), is("Future did not complete within PT0.05S"));
+  }
+
+  @Test
+  public void testFailsWith() {
+    assertThat(Future.failed(new IllegalStateException()), failsWith(IllegalStateException.class));
+    assertThat(Future.failed(new IllegalStateException()),
+        not(failsWith(IllegalArgumentException.class)));
+    assertThat(Future.successful(1), not(failsWith(IllegalStateException.class)));
+    assertThat(Promise.make().future(), not(failsWith(IllegalStateException.class, SHORT)));
+
+    final Description description = new StringDescription();
+    failsWith(IllegalArgumentException.class)
+        .describeMismatch(Future.failed(new IllegalStateException()), description);
+    assertThat(description.toString(),
+        is("Failure type is IllegalStateException but expected IllegalArgumentException"));
+  }
+
+  @Test
+  public void testCompletesWithin() {
+    final Promise<Integer> promise = Promise.make();
+    assertThat(promise.future(), not(completesWithin(SHORT)));
+
+    promise.success(1);
+    assertThat(promise.future(), completesWithin(SHORT));
+    assertThat(Future.failed(new IllegalStateException()), completesWithin(SHORT));
+  }
+
+  @Test
+  public void testIsStillPending() {
+    final Promise<Integer> promise = Promise.make();
+    assertThat(promise.future(), isStillPending());
+
+    promise.success(1);
+    assertThat(promise.future(), not(isStillPending()));
+
+    final Description description = new StringDescription();
+    isStillPending().describeMismatch(promise.future(), description);
+    assertThat(description.toString(), is("Future has already completed with <Success(1)>"));
+  }
+}
@@ -0,0 +1,184 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashMultimap;
+import io.vavr.collection.List;
+import io.vavr.collection.TreeMap;
+
+import static in.tazj.vavr.matchers.MapMatchers.hasEntry;
+import static in.tazj.vavr.matchers.MapMatchers.hasKey;
+import static in.tazj.vavr.matchers.MapMatchers.hasKeys;
+import static in.tazj.vavr.matchers.MapMatchers.hasValueAt;
+import static in.tazj.vavr.matchers.MapMatchers.hasValuesAt;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+public class MapMatchersTest {
+  private final HashMap<String, Integer> map = HashMap.of("one", 1, "two", 2, "three", 3);
+
+  @Test
+  public void testHasKey() {
+    assertThat(map, hasKey("two"));
+    assertThat(TreeMap.of("a", 1), hasKey("a"));
+    assertThat(map, not(hasKey("four")));
+    assertThat(HashMap.empty(), not(hasKey("one")));
+  }
+
+  @Test
+  public void testHasKeyMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Map does not contain key \"four\", keys were [\"a\",\"b\"]";
+    hasKey("four").describeMismatch(TreeMap.of("a", 1, "b", 2), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testHasKeyUsesLookup() {
+    final AtomicInteger comparisons = new AtomicInteger();
+    final HashMap<CountingKey, Integer> keys =
+        HashMap.ofEntries(List.range(0, 10000)
+            .map(i -> Tuple.of(new CountingKey(i, comparisons), i)));
+
+    assertThat(keys, hasKey(new CountingKey(9999, comparisons)));
+    assertThat(keys, hasEntry(new CountingKey(5000, comparisons), is(5000)));
+    assertThat(comparisons.get(), lessThan(10));
+  }
+
+  @Test
+  public void testHasKeyMatching() {
+    assertThat(map, hasKey(startsWith("th")));
+    assertThat(map, not(hasKey(startsWith("f"))));
+  }
+
+  @Test
+  public void testHasKeyMatchingMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Map expected to contain a key matching "
+        + "'a string starting with \"f\"' but keys were [\"a\"]";
+    hasKey(startsWith("f")).describeMismatch(TreeMap.of("a", 1), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testHasKeys() {
+    assertThat(map, hasKeys(List.of("one", "three")));
+    assertThat(map, hasKeys(List.empty()));
+    assertThat(map, not(hasKeys(List.of("one", "four"))));
+  }
+
+  @Test
+  public void testHasKeysMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Map is missing keys: [\"four\",\"five\"]";
+    hasKeys(List.of("one", "four", "five")).describeMismatch(map, description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testHasEntry() {
+    assertThat(map, hasEntry("two", is(2)));
+    assertThat(map, not(hasEntry("two", is(3))));
+    assertThat(map, not(hasEntry("four", is(4))));
+    assertThat(map, hasEntry(startsWith("t"), is(3)));
+    assertThat(map, not(hasEntry(startsWith("o"), is(3))));
+  }
+
+  @Test
+  public void testHasEntryMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "value at key \"two\" <2> was less than <5>";
+    hasEntry("two", greaterThan(5)).describeMismatch(map, description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testHasEntryMissingKeyMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Map does not contain key \"four\"";
+    hasEntry("four", is(4)).describeMismatch(map, description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testHasEntryMatchingMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "Map expected to contain an entry matching "
+        + "'a string starting with \"o\"' -> 'is <3>' but found <TreeMap((a, 1))>";
+    hasEntry(startsWith("o"), is(3)).describeMismatch(TreeMap.of("a", 1), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testHasValueAt() {
+    assertThat(map, hasValueAt("one", is(1)));
+    assertThat(map, not(hasValueAt("one", is(2))));
+    assertThat(map, not(hasValueAt("four", is(4))));
+  }
+
+  @Test
+  public void testMultimap() {
+    final HashMultimap<String, Integer> multimap =
+        HashMultimap.withSeq().of("a", 1, "a", 2, "b", 3);
+
+    assertThat(multimap, hasKey("a"));
+    assertThat(multimap, not(hasKey("c")));
+    assertThat(multimap, hasKeys(List.of("a", "b")));
+    assertThat(multimap, hasEntry("a", is(2)));
+    assertThat(multimap, not(hasEntry("b", is(2))));
+    assertThat(multimap, hasEntry(is("b"), is(3)));
+    assertThat(multimap, hasValuesAt("a", hasItem(2)));
+    assertThat(multimap, not(hasValuesAt("b", hasItem(2))));
+    assertThat(multimap, not(hasValuesAt("c", hasItem(2))));
+  }
+
+  @Test
+  public void testMultimapMismatch() {
+    final Description description = new StringDescription();
+    final String expected = "no value at key \"a\" matched, values were [<1>,<2>]";
+    hasEntry("a", is(3)).describeMismatch(HashMultimap.withSeq().of("a", 1, "a", 2), description);
+    assertThat(description.toString(), is(expected));
+  }
+
+  @Test
+  public void testAssociationList() {
+    final List<Tuple2<String, Integer>> pairs = List.of(Tuple.of("a", 1), Tuple.of("b", 2));
+
+    assertThat(pairs, hasKey("b"));
+    assertThat(pairs, hasEntry("b", is(2)));
+    assertThat(pairs, not(hasKeys(List.of("c"))));
+  }
+
+  private static final class CountingKey {
+    private final int value;
+    private final AtomicInteger comparisons;
+
+    private CountingKey(int value, AtomicInteger comparisons) {
+      this.value = value;
+      this.comparisons = comparisons;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      comparisons.incrementAndGet();
+      return o instanceof CountingKey && ((CountingKey) o).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import io.vavr.control.Try;
+
+import static in.tazj.vavr.matchers.ControlMatchers.isSuccess;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+public class MatcherBatchTest {
+  @Test
+  public void testCountsMismatches() {
+    final MatcherBatch.Report<Integer> report =
+        MatcherBatch.evaluate(lessThan(90), Stream.range(0, 100));
+
+    assertThat(report.evaluated(), is(100L));
+    assertThat(report.matches(), is(90L));
+    assertThat(report.mismatches(), is(10L));
+    assertThat(report.allMatched(), is(false));
+    assertThat(report.failures().map(MatcherBatch.Failure::index).toJavaList(),
+        contains(90L, 91L, 92L, 93L, 94L, 95L, 96L, 97L, 98L, 99L));
+  }
+
+  @Test
+  public void testKeepsFirstFailures() {
+    final MatcherBatch.Report<Integer> report =
+        MatcherBatch.evaluate(lessThan(5), Iterator.range(0, 1000), 3);
+
+    assertThat(report.mismatches(), is(995L));
+    assertThat(report.failures().map(MatcherBatch.Failure::value).toJavaList(),
+        contains(5, 6, 7));
+    assertThat(report.failures().head().toString(), is("at index 5: <5> was equal to <5>"));
+  }
+
+  @Test
+  public void testAllMatched() {
+    final MatcherBatch.Report<Try<Integer>> report =
+        MatcherBatch.evaluate(isSuccess(), List.of(Try.success(1), Try.success(2)));
+
+    assertThat(report.allMatched(), is(true));
+    assertThat(report.failures().toJavaList(), is(empty()));
+    assertThat(report.toString(), startsWith("0 of 2 values did not match Successful Try"));
+  }
+
+  @Test
+  public void testRendersDescriptionsLazily() {
+    final AtomicInteger descriptions = new AtomicInteger();
+    final TypeSafeMatcher<Integer> even = new TypeSafeMatcher<Integer>() {
+      @Override
+      protected boolean matchesSafely(Integer item) {
+        return item % 2 == 0;
+      }
+
+      @Override
+      protected void describeMismatchSafely(Integer item, Description mismatch) {
+        descriptions.incrementAndGet();
+        mismatch.appendText("was odd");
+      }
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText("an even number");
+      }
+    };
+
+    final MatcherBatch.Report<Integer> report = MatcherBatch.evaluate(even, List.range(0, 10));
+    assertThat(descriptions.get(), is(0));
+
+    assertThat(report.failures().head().mismatchDescription(), is("was odd"));
+    assertThat(report.failures().head().mismatchDescription(), is("was odd"));
+    assertThat(descriptions.get(), is(1));
+    assertThat(report.toString(), is("5 of 10 values did not match an even number"
+        + "\n  at index 1: was odd\n  at index 3: was odd\n  at index 5: was odd"
+        + "\n  at index 7: was odd\n  at index 9: was odd"));
+  }
+
+  @Test
+  public void testParallelAgreesWithSequential() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final MatcherBatch.Report<Integer> report = MatcherBatch.evaluateInParallel(
+          lessThan(50_000), Iterator.range(0, 100_000).map(i -> (i * 7919) % 100_000), 5, 1000,
+          pool);
+      final MatcherBatch.Report<Integer> expected = MatcherBatch.evaluate(
+          lessThan(50_000), Iterator.range(0, 100_000).map(i -> (i * 7919) % 100_000), 5);
+
+      assertThat(report.evaluated(), is(100_000L));
+      assertThat(report.mismatches(), is(expected.mismatches()));
+      assertThat(report.failures().map(MatcherBatch.Failure::index),
+          is(expected.failures().map(MatcherBatch.Failure::index)));
+      assertThat(report.toString(), is(expected.toString()));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testParallelEmptyInput() {
+    final MatcherBatch.Report<Integer> report =
+        MatcherBatch.evaluateInParallel(lessThan(5), List.<Integer>empty());
+
+    assertThat(report.evaluated(), is(0L));
+    assertThat(report.allMatched(), is(true));
+  }
+}
@@ -0,0 +1,97 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+import java.util.function.Predicate;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import static in.tazj.vavr.matchers.CollectionMatchers.allMatch;
+import static in.tazj.vavr.matchers.CollectionMatchers.containsAny;
+import static in.tazj.vavr.matchers.ControlMatchers.isDefined;
+import static in.tazj.vavr.matchers.ControlMatchers.isLeft;
+import static in.tazj.vavr.matchers.ControlMatchers.isRight;
+import static in.tazj.vavr.matchers.ControlMatchers.isSuccess;
+import static in.tazj.vavr.matchers.MatcherPredicates.compile;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+public class MatcherPredicatesTest {
+  @Test
+  public void testNestedMatchers() {
+    final Matcher<Option<Either<String, List<Integer>>>> matcher =
+        isDefined(isRight(allMatch(lessThan(5))));
+    final Predicate<Option<Either<String, List<Integer>>>> predicate = compile(matcher);
+
+    final List<Option<Either<String, List<Integer>>>> values = List.of(
+        Option.of(Either.right(List.of(1, 2, 3))),
+        Option.of(Either.right(List.of(1, 7))),
+        Option.of(Either.right(List.empty())),
+        Option.of(Either.left("error")),
+        Option.some(null),
+        Option.none(),
+        null);
+
+    for (Option<Either<String, List<Integer>>> value : values) {
+      assertThat(String.valueOf(value), predicate.test(value), is(matcher.matches(value)));
+    }
+  }
+
+  @Test
+  public void testControlMatchers() {
+    assertThat(compile(isSuccess(is(1))).test(Try.success(1)), is(true));
+    assertThat(compile(isSuccess(is(1))).test(Try.failure(new RuntimeException())), is(false));
+    assertThat(compile(isSuccess()).test(Try.success(null)), is(true));
+    assertThat(compile(isLeft(is("a"))).test(Either.left("a")), is(true));
+    assertThat(compile(isLeft(is("a"))).test(Either.right("a")), is(false));
+    assertThat(compile(isDefined()).test(Option.none()), is(false));
+  }
+
+  @Test
+  public void testCollectionMatchers() {
+    assertThat(compile(containsAny(greaterThan(2))).test(List.of(1, 2, 3)), is(true));
+    assertThat(compile(containsAny(greaterThan(3))).test(List.of(1, 2, 3)), is(false));
+    assertThat(compile(CollectionMatchers.hasSize(3)).test(List.of(1, 2, 3)), is(true));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testValuesOfOtherTypes() {
+    final List<Matcher<?>> matchers = List.of(
+        isDefined(is(1)), isSuccess(is(1)), isRight(is(1)), isLeft(is(1)),
+        containsAny(is(1)), allMatch(is(1)), CollectionMatchers.hasSize(1),
+        isDefined(isRight(allMatch(lessThan(5)))));
+    final List<Object> values = List.of(
+        "fnord", 1, Option.of("a"), Option.of(Option.of(1)), Try.success(List.of(1)));
+
+    for (Matcher<?> matcher : matchers) {
+      final Predicate<Object> predicate = compile((Matcher<Object>) matcher);
+      for (Object value : values) {
+        assertThat(matcher + " on " + value, predicate.test(value), is(matcher.matches(value)));
+      }
+    }
+  }
+
+  @Test
+  public void testInfiniteStreams() {
+    final Stream<Integer> naturals = Stream.from(0);
+
+    assertThat(allMatch(lessThan(10)).matches(naturals), is(false));
+    assertThat(compile(allMatch(lessThan(10))).test(naturals), is(false));
+    assertThat(containsAny(greaterThan(10)).matches(naturals), is(true));
+    assertThat(compile(containsAny(greaterThan(10))).test(naturals), is(true));
+  }
+
+  @Test
+  public void testForeignMatchers() {
+    assertThat(compile(lessThan(3)).test(2), is(true));
+    assertThat(compile(lessThan(3)).test(4), is(false));
+  }
+}
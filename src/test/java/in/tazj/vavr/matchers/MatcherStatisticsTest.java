@@ -0,0 +1,127 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.StringDescription;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import static in.tazj.vavr.matchers.CollectionMatchers.allMatch;
+import static in.tazj.vavr.matchers.CollectionMatchers.containsAny;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+public class MatcherStatisticsTest {
+  private final MatcherStatistics statistics = new MatcherStatistics();
+
+  @Before
+  public void enable() {
+    MatcherInstrumentation.enable(statistics);
+  }
+
+  @After
+  public void disable() {
+    MatcherInstrumentation.disable();
+  }
+
+  @Test
+  public void testCountsInvocations() {
+    ControlMatchers.isDefined().matches(Option.of(1));
+    ControlMatchers.isDefined().matches(Option.none());
+    ControlMatchers.isDefined().matches(Option.none());
+
+    final MatcherStatistics.Counters counters = statistics.get("ControlMatchers.isDefined");
+    assertThat(counters.invocations(), is(3L));
+    assertThat(counters.matches(), is(1L));
+    assertThat(counters.mismatches(), is(2L));
+    assertThat(counters.matchRatio(), is(1.0 / 3));
+    assertThat(counters.elements(), is(0L));
+  }
+
+  @Test
+  public void testCountsVisitedElements() {
+    containsAny(is(3)).matches(List.range(0, 10));
+    allMatch(lessThan(5)).matches(List.range(0, 10));
+    CollectionMatchers.hasSize(5).matches(Stream.from(0));
+
+    assertThat(statistics.get("CollectionMatchers.containsAny").elements(), is(4L));
+    assertThat(statistics.get("CollectionMatchers.allMatch").elements(), is(10L));
+    assertThat(statistics.get("CollectionMatchers.hasSize").elements(), is(6L));
+  }
+
+  @Test
+  public void testNestedMatchersIncludeElements() {
+    ControlMatchers.isSuccess(allMatch(lessThan(5))).matches(Try.success(List.range(0, 3)));
+
+    assertThat(statistics.get("ControlMatchers.isSuccess").elements(), is(3L));
+    assertThat(statistics.get("CollectionMatchers.allMatch").elements(), is(3L));
+  }
+
+  @Test
+  public void testReportsFactoryNames() {
+    CollectionMatchers.hasSize(lessThan(5)).matches(List.of(1, 2));
+    CollectionMatchers.containsInAnyOrder(List.of(1, 2)).matches(List.of(2, 1));
+    CollectionMatchers.containsExactlyInAnyOrder(List.of(1, 2)).matches(List.of(2, 1));
+    MapMatchers.hasValueAt(1, is("a")).matches(HashMap.of(1, "a"));
+    SeqMatchers.lastMatching(is(2)).matches(List.of(1, 2));
+
+    assertThat(statistics.get("CollectionMatchers.hasSize").invocations(), is(1L));
+    assertThat(statistics.get("CollectionMatchers.containsInAnyOrder").invocations(), is(1L));
+    assertThat(statistics.get("CollectionMatchers.containsExactlyInAnyOrder").invocations(),
+        is(1L));
+    assertThat(statistics.get("MapMatchers.hasValueAt").invocations(), is(1L));
+    assertThat(statistics.get("MapMatchers.hasEntry").invocations(), is(0L));
+    assertThat(statistics.get("SeqMatchers.lastMatching").invocations(), is(1L));
+  }
+
+  @Test
+  public void testCountsDescriptions() {
+    ValueMatchers.isEmpty().describeMismatch(Option.of(1), new StringDescription());
+
+    final MatcherStatistics.Counters counters = statistics.get("ValueMatchers.isEmpty");
+    assertThat(counters.descriptions(), is(1L));
+    assertThat(counters.describeNanos(), greaterThanOrEqualTo(0L));
+  }
+
+  @Test
+  public void testDisabled() {
+    MatcherInstrumentation.disable();
+    ControlMatchers.isDefined().matches(Option.of(1));
+
+    assertThat(MatcherInstrumentation.isEnabled(), is(false));
+    assertThat(statistics.get("ControlMatchers.isDefined").invocations(), is(0L));
+  }
+
+  @Test
+  public void testWriteCsv() {
+    ControlMatchers.isDefined().matches(Option.of(1));
+    containsAny(is(1)).matches(List.of(1, 2));
+
+    final StringBuilder csv = new StringBuilder();
+    statistics.writeCsv(csv);
+    final String[] lines = csv.toString().split("\n");
+
+    assertThat(lines.length, is(3));
+    assertThat(lines[0], is(
+        "matcher,invocations,matches,mismatches,elements,match_nanos,descriptions,describe_nanos"));
+    assertThat(lines[1], startsWith("CollectionMatchers.containsAny,1,1,0,1,"));
+    assertThat(lines[2], startsWith("ControlMatchers.isDefined,1,1,0,0,"));
+  }
+
+  @Test
+  public void testWriteText() {
+    ControlMatchers.isDefined().matches(Option.of(1));
+
+    assertThat(statistics.toString(), startsWith("matcher                      invocations"));
+    assertThat(statistics.toString(), containsString("ControlMatchers.isDefined"));
+  }
+}
@@ -0,0 +1,128 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.Function0;
+import io.vavr.Lazy;
+
+import static in.tazj.vavr.matchers.ControlMatchers.hasFailedWith;
+import static in.tazj.vavr.matchers.ControlMatchers.isSuccess;
+import static in.tazj.vavr.matchers.PerformanceMatchers.allocatesAtMost;
+import static in.tazj.vavr.matchers.PerformanceMatchers.hasP99Below;
+import static in.tazj.vavr.matchers.PerformanceMatchers.runsWithin;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class PerformanceMatchersTest {
+  private static final Duration GENEROUS = Duration.ofSeconds(10);
+
+  @Test
+  public void testRunsWithin() {
+    final Supplier<Integer> fast = () -> 42;
+    final CheckedFunction0<Integer> slow = () -> {
+      Thread.sleep(50);
+      return 42;
+    };
+
+    assertThat(fast, runsWithin(GENEROUS));
+    assertThat(slow.unchecked(), not(runsWithin(Duration.ofMillis(10))));
+  }
+
+  @Test
+  public void testRunsWithinResult() {
+    final Supplier<Integer> answer = () -> 42;
+    final Supplier<Integer> failing = () -> {
+      throw new IllegalStateException();
+    };
+
+    assertThat(answer, runsWithin(GENEROUS, isSuccess(is(42))));
+    assertThat(answer, not(runsWithin(GENEROUS, isSuccess(is(43)))));
+    assertThat(failing, runsWithin(GENEROUS, hasFailedWith(IllegalStateException.class)));
+  }
+
+  @Test
+  public void testRunsWithinMismatchDescription() {
+    final Supplier<Integer> slow = CheckedFunction0.<Integer>of(() -> {
+      Thread.sleep(20);
+      return 42;
+    }).unchecked();
+    final Matcher<Supplier<Integer>> matcher = runsWithin(Duration.ofMillis(1));
+    assertThat(matcher.matches(slow), is(false));
+
+    final Description description = new StringDescription();
+    matcher.describeMismatch(slow, description);
+    assertThat(description.toString(), matchesPattern("took \\d+\\.\\dms"));
+  }
+
+  @Test
+  public void testAllocatesAtMost() {
+    final Supplier<Integer> nothing = () -> 42;
+    final Supplier<long[]> array = () -> new long[100_000];
+
+    assertThat(nothing, allocatesAtMost(1024));
+    assertThat(array, not(allocatesAtMost(100_000)));
+
+    final Description description = new StringDescription();
+    allocatesAtMost(100_000).describeMismatch(array, description);
+    assertThat(description.toString(), matchesPattern("allocated <\\d+L> bytes"));
+  }
+
+  @Test
+  public void testHasP99Below() {
+    final AtomicInteger runs = new AtomicInteger();
+    final Supplier<Integer> counting = runs::incrementAndGet;
+
+    assertThat(counting, hasP99Below(GENEROUS, 100, 5));
+    assertThat(runs.get(), is(105));
+  }
+
+  @Test
+  public void testHasP99BelowMismatchDescription() {
+    final Supplier<Integer> slow = CheckedFunction0.<Integer>of(() -> {
+      Thread.sleep(2);
+      return 42;
+    }).unchecked();
+    final Matcher<Supplier<Integer>> matcher = hasP99Below(Duration.ofNanos(1), 5, 0);
+    assertThat(matcher.matches(slow), is(false));
+
+    final Description description = new StringDescription();
+    matcher.describeMismatch(slow, description);
+    assertThat(description.toString(), matchesPattern(
+        "p99 was \\S+ \\(min \\S+, p50 \\S+, p90 \\S+, max \\S+ over 5 iterations\\)"));
+  }
+
+  @Test
+  public void testEveryIterationRunsTheCode() {
+    final AtomicInteger runs = new AtomicInteger();
+    final Function0<Integer> counting = runs::incrementAndGet;
+
+    assertThat(counting, allocatesAtMost(Long.MAX_VALUE));
+    assertThat(runs.get(), is(PerformanceMatchers.DEFAULT_WARMUP_ITERATIONS + 1));
+  }
+
+  @Test
+  public void testMemoizedSuppliers() {
+    final AtomicInteger runs = new AtomicInteger();
+    final Lazy<Integer> lazy = Lazy.of(runs::incrementAndGet);
+    final Function0<Integer> memoized = Function0.of(runs::incrementAndGet).memoized();
+
+    assertThat(lazy, not(hasP99Below(GENEROUS, 100)));
+    assertThat(memoized, not(runsWithin(GENEROUS)));
+    assertThat(runs.get(), is(0));
+
+    final Description description = new StringDescription();
+    runsWithin(GENEROUS).describeMismatch(lazy, description);
+    assertThat(description.toString(),
+        is("<Lazy(?)> memoizes its value, so only its first call would run the code"));
+  }
+}
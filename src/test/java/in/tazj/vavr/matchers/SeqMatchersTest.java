@@ -0,0 +1,191 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.util.Comparator;
+
+import io.vavr.Tuple;
+import io.vavr.collection.Array;
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import io.vavr.collection.TreeMap;
+import io.vavr.collection.TreeSet;
+import io.vavr.collection.Vector;
+
+import static in.tazj.vavr.matchers.SeqMatchers.containsAllInRange;
+import static in.tazj.vavr.matchers.SeqMatchers.containsInOrder;
+import static in.tazj.vavr.matchers.SeqMatchers.containsSubsequence;
+import static in.tazj.vavr.matchers.SeqMatchers.elementAt;
+import static in.tazj.vavr.matchers.SeqMatchers.endsWith;
+import static in.tazj.vavr.matchers.SeqMatchers.firstMatching;
+import static in.tazj.vavr.matchers.SeqMatchers.hasKeysInRange;
+import static in.tazj.vavr.matchers.SeqMatchers.isSorted;
+import static in.tazj.vavr.matchers.SeqMatchers.lastMatching;
+import static in.tazj.vavr.matchers.SeqMatchers.startsWith;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class SeqMatchersTest {
+  @Test
+  public void testContainsInOrder() {
+    assertThat(List.of(1, 2, 3), containsInOrder(List.of(1, 2, 3)));
+    assertThat(Vector.of(1, 2, 3), containsInOrder(Array.of(1, 2, 3)));
+    assertThat(List.empty(), containsInOrder(List.empty()));
+    assertThat(List.of(1, 2, 3), not(containsInOrder(List.of(1, 3, 2))));
+    assertThat(Vector.of(1, 2, 3), not(containsInOrder(Vector.of(1, 2))));
+    assertThat(List.of(1, 2), not(containsInOrder(List.of(1, 2, 3))));
+  }
+
+  @Test
+  public void testContainsInOrderMismatch() {
+    assertThat(mismatch(containsInOrder(List.of(1, 2, 3)), List.of(1, 3, 2)),
+        is("element at index <1> was <3> but expected <2>"));
+    assertThat(mismatch(containsInOrder(List.of(1, 2, 3)), Vector.of(1)),
+        is("Sequence has only <1> elements, missing [<2>,<3>]"));
+    assertThat(mismatch(containsInOrder(List.of(1)), Array.of(1, 2, 3)),
+        is("Sequence has unexpected elements after index <0>: [<2>,<3>]"));
+  }
+
+  @Test
+  public void testContainsSubsequence() {
+    assertThat(List.of(1, 2, 3, 4, 5), containsSubsequence(List.of(1, 3, 5)));
+    assertThat(List.of(1, 2, 3), containsSubsequence(List.empty()));
+    assertThat(List.of(1, 2, 3), not(containsSubsequence(List.of(3, 1))));
+    assertThat(Stream.from(0), containsSubsequence(List.of(10, 20)));
+  }
+
+  @Test
+  public void testContainsSubsequenceMismatch() {
+    assertThat(mismatch(containsSubsequence(List.of(1, 3, 2)), List.of(1, 2, 3)),
+        is("Sequence contains the first <2> expected elements in order but not <2> after them"));
+  }
+
+  @Test
+  public void testStartsWith() {
+    assertThat(Vector.range(0, 1000), startsWith(List.of(0, 1, 2)));
+    assertThat(List.of(1, 2), startsWith(List.empty()));
+    assertThat(Stream.from(0), startsWith(List.of(0, 1)));
+    assertThat(Vector.of(1), not(startsWith(List.of(1, 2))));
+    assertThat(List.of(1, 3), not(startsWith(List.of(1, 2))));
+  }
+
+  @Test
+  public void testStartsWithMismatch() {
+    assertThat(mismatch(startsWith(List.of(1, 2)), Vector.of(1, 3)),
+        is("Collection should start with [<1>,<2>] but element at index <1> was <3>"));
+    assertThat(mismatch(startsWith(List.of(1, 2)), List.of(1)),
+        is("Collection should start with [<1>,<2>] but only has <1> elements"));
+    assertThat(mismatch(startsWith(List.of(1, 2)), List.of(1)),
+        is(mismatch(CollectionMatchers.startsWith(List.of(1, 2)), List.of(1))));
+  }
+
+  @Test
+  public void testEndsWith() {
+    assertThat(Vector.range(0, 1000), endsWith(List.of(998, 999)));
+    assertThat(List.range(0, 1000), endsWith(Vector.of(998, 999)));
+    assertThat(List.of(1, 2), endsWith(List.empty()));
+    assertThat(Vector.of(2), not(endsWith(List.of(1, 2))));
+    assertThat(List.of(1, 2, 3), not(endsWith(List.of(1, 3))));
+  }
+
+  @Test
+  public void testEndsWithMismatch() {
+    assertThat(mismatch(endsWith(List.of(1, 3)), Vector.of(1, 2, 3)),
+        is("element at index <1> was <2> but expected <1>"));
+    assertThat(mismatch(endsWith(List.of(1, 2)), List.of(2)),
+        is("Sequence has only <1> elements"));
+  }
+
+  @Test
+  public void testIsSorted() {
+    assertThat(Vector.range(0, 1000), isSorted(Comparator.naturalOrder()));
+    assertThat(List.of(1, 1, 2), isSorted(Comparator.naturalOrder()));
+    assertThat(List.<Integer>empty(), isSorted(Comparator.naturalOrder()));
+    assertThat(List.of(3, 2, 1), isSorted(Comparator.reverseOrder()));
+    assertThat(List.of(1, 3, 2), not(isSorted(Comparator.naturalOrder())));
+  }
+
+  @Test
+  public void testIsSortedMismatch() {
+    assertThat(mismatch(isSorted(Comparator.naturalOrder()), List.of(1, 3, 2, 4)),
+        is("element at index <2> was <2> which is ordered before its predecessor <3>"));
+  }
+
+  @Test
+  public void testElementAt() {
+    assertThat(Vector.range(0, 1000), elementAt(500, is(500)));
+    assertThat(List.range(0, 1000), elementAt(500, is(500)));
+    assertThat(Stream.from(0), elementAt(500, is(500)));
+    assertThat(Vector.of(1), not(elementAt(1, is(1))));
+    assertThat(List.of(1), not(elementAt(-1, is(1))));
+  }
+
+  @Test
+  public void testElementAtMismatch() {
+    assertThat(mismatch(elementAt(1, greaterThan(5)), Vector.of(1, 2)),
+        is("element at index <1> <2> was less than <5>"));
+    assertThat(mismatch(elementAt(2, is(1)), List.of(1, 2)),
+        is("Sequence has no element at index <2>"));
+  }
+
+  @Test
+  public void testContainsAllInRange() {
+    assertThat(TreeSet.range(0, 100), containsAllInRange(0, 99));
+    assertThat(TreeSet.<Integer>empty(), containsAllInRange(0, 1));
+    assertThat(TreeSet.range(0, 100), not(containsAllInRange(1, 99)));
+    assertThat(TreeSet.range(0, 100), not(containsAllInRange(0, 98)));
+    assertThat(TreeSet.of(Comparator.reverseOrder(), 1, 2, 3), containsAllInRange(3, 1));
+  }
+
+  @Test
+  public void testContainsAllInRangeMismatch() {
+    assertThat(mismatch(containsAllInRange(0, 5), TreeSet.of(1, 3, 7)),
+        is("element <7> is outside of range [<0>, <5>]"));
+  }
+
+  @Test
+  public void testHasKeysInRange() {
+    assertThat(TreeMap.of(1, "a", 5, "b"), hasKeysInRange(1, 5));
+    assertThat(TreeMap.of(1, "a", 5, "b"), not(hasKeysInRange(2, 5)));
+    assertThat(TreeMap.of(Comparator.reverseOrder(), 1, "a", 5, "b"), hasKeysInRange(5, 1));
+  }
+
+  @Test
+  public void testHasKeysInRangeMismatch() {
+    assertThat(mismatch(hasKeysInRange(0, 3), TreeMap.of(1, "a", 5, "b")),
+        is("key <5> is outside of range [<0>, <3>]"));
+    assertThat(mismatch(hasKeysInRange(5, 2),
+        TreeMap.of(Comparator.reverseOrder(), 1, "a", 5, "b")),
+        is("key <1> is outside of range [<5>, <2>]"));
+    assertThat(mismatch(lastMatching(is(Tuple.of(5, "b"))),
+        TreeMap.of(Comparator.reverseOrder(), 1, "a", 5, "b")),
+        is("last element was <(1, a)>"));
+  }
+
+  @Test
+  public void testFirstAndLastMatching() {
+    assertThat(TreeSet.of(3, 1, 2), firstMatching(is(1)));
+    assertThat(TreeSet.of(3, 1, 2), lastMatching(is(3)));
+    assertThat(Vector.of(3, 1, 2), lastMatching(is(2)));
+    assertThat(TreeSet.<Integer>empty(), not(firstMatching(is(1))));
+    assertThat(TreeMap.of(Comparator.reverseOrder(), 1, "a", 5, "b"),
+        lastMatching(is(Tuple.of(1, "a"))));
+  }
+
+  @Test
+  public void testLastMatchingMismatch() {
+    assertThat(mismatch(lastMatching(is(1)), TreeSet.of(1, 2)), is("last element was <2>"));
+    assertThat(mismatch(firstMatching(is(1)), List.empty()), is("Collection was empty"));
+  }
+
+  private static <T> String mismatch(Matcher<T> matcher, T actual) {
+    final Description description = new StringDescription();
+    matcher.describeMismatch(actual, description);
+    return description.toString();
+  }
+}
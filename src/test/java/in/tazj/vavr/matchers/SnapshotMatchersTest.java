@@ -0,0 +1,157 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+
+import io.vavr.Tuple;
+import io.vavr.collection.CharSeq;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+
+import static in.tazj.vavr.matchers.SnapshotMatchers.matchesSnapshot;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class SnapshotMatchersTest {
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testRecordAndMatch() throws IOException {
+    final Path snapshot = folder.getRoot().toPath().resolve("nested/vector.snapshot");
+    final Vector<Integer> vector = Vector.range(0, 100_000);
+
+    assertThat(vector, matchesSnapshot(snapshot, true));
+    assertThat(vector, matchesSnapshot(snapshot, false));
+    assertThat(vector.toList(), matchesSnapshot(snapshot));
+    assertThat(Files.readAllLines(snapshot).size(), is(100_000));
+  }
+
+  @Test
+  public void testFormat() throws IOException {
+    final Path snapshot = folder.newFile().toPath();
+    assertThat(List.of("a\nb", "c\\d", Tuple.of(1, "x")), matchesSnapshot(snapshot, true));
+
+    final String content = new String(Files.readAllBytes(snapshot), StandardCharsets.UTF_8);
+    assertThat(content, is("a\\nb\nc\\\\d\n(1, x)\n"));
+    assertThat(List.of("a\nb", "c\\d", Tuple.of(1, "x")), matchesSnapshot(snapshot));
+    assertThat(List.of("a\\nb", "c\\d", Tuple.of(1, "x")), not(matchesSnapshot(snapshot)));
+  }
+
+  @Test
+  public void testHashMap() {
+    final Path snapshot = folder.getRoot().toPath().resolve("map.snapshot");
+    final HashMap<Integer, String> map = HashMap.ofEntries(
+        Vector.range(0, 1000).map(i -> Tuple.of(i, "value " + i)));
+
+    assertThat(map, matchesSnapshot(snapshot, true));
+    assertThat(HashMap.ofEntries(map.toList().reverse()), matchesSnapshot(snapshot));
+    assertThat(map.put(500, "changed"), not(matchesSnapshot(snapshot)));
+  }
+
+  @Test
+  public void testDifferentRecord() {
+    final Path snapshot = folder.getRoot().toPath().resolve("list.snapshot");
+    assertThat(List.of("alpha", "beta", "gamma"), matchesSnapshot(snapshot, true));
+
+    final Description description = new StringDescription();
+    matchesSnapshot(snapshot).describeMismatch(List.of("alpha", "bet", "gamma"), description);
+    assertThat(description.toString(),
+        is("record 1 at byte offset 6 differs, expected \"beta\" but was \"bet\""));
+  }
+
+  @Test
+  public void testTraversableLongerThanSnapshot() {
+    final Path snapshot = folder.getRoot().toPath().resolve("list.snapshot");
+    assertThat(List.of(1, 2), matchesSnapshot(snapshot, true));
+
+    final Description description = new StringDescription();
+    matchesSnapshot(snapshot).describeMismatch(List.of(1, 2, 3), description);
+    assertThat(description.toString(),
+        is("record 2 at byte offset 4 is missing from the snapshot, it was \"3\""));
+  }
+
+  @Test
+  public void testSnapshotLongerThanTraversable() {
+    final Path snapshot = folder.getRoot().toPath().resolve("list.snapshot");
+    assertThat(List.of(1, 2, 3), matchesSnapshot(snapshot, true));
+
+    final Description description = new StringDescription();
+    matchesSnapshot(snapshot).describeMismatch(List.of(1, 2), description);
+    assertThat(description.toString(),
+        is("record 2 at byte offset 4 is missing from the Traversable, the snapshot has \"3\""));
+    assertThat(List.empty(), not(matchesSnapshot(snapshot)));
+  }
+
+  @Test
+  public void testLongRecordExcerpt() {
+    final Path snapshot = folder.getRoot().toPath().resolve("long.snapshot");
+    final String record = CharSeq.repeat('x', 200).toString();
+    assertThat(List.of(record), matchesSnapshot(snapshot, true));
+
+    final Description description = new StringDescription();
+    matchesSnapshot(snapshot).describeMismatch(List.of(record + "y"), description);
+    final String excerpt = record.substring(0, SnapshotMatchers.EXCERPT_LENGTH) + "...";
+    assertThat(description.toString(), is("record 0 at byte offset 0 differs, expected \""
+        + excerpt + "\" but was \"" + excerpt + "\""));
+  }
+
+  @Test
+  public void testDifferenceBeyondFirstWindow() {
+    final Path snapshot = folder.getRoot().toPath().resolve("windows.snapshot");
+    final String prefix = CharSeq.repeat('x', 999).toString();
+    final Vector<String> records = Vector.range(0, 300).map(i -> prefix + i);
+    assertThat(records, matchesSnapshot(snapshot, true));
+
+    final Description description = new StringDescription();
+    matchesSnapshot(snapshot).describeMismatch(records.update(65, "changed"), description);
+    final String excerpt = CharSeq.repeat('x', SnapshotMatchers.EXCERPT_LENGTH) + "...";
+    assertThat(description.toString(), is("record 65 at byte offset 65120 differs, expected \""
+        + excerpt + "\" but was \"changed\""));
+  }
+
+  @Test
+  public void testMissingSnapshot() {
+    final Path snapshot = folder.getRoot().toPath().resolve("missing.snapshot");
+    assertThat(List.of(1), not(matchesSnapshot(snapshot)));
+
+    final Description description = new StringDescription();
+    matchesSnapshot(snapshot).describeMismatch(List.of(1), description);
+    assertThat(description.toString(), is("snapshot \"" + snapshot + "\" does not exist, record "
+        + "it by setting the system property vavr-matchers.updateSnapshots to true"));
+  }
+
+  @Test
+  public void testUpdateReplacesSnapshot() throws IOException {
+    final Path snapshot = folder.getRoot().toPath().resolve("list.snapshot");
+    assertThat(List.of(1, 2, 3), matchesSnapshot(snapshot, true));
+    assertThat(List.of(4), matchesSnapshot(snapshot, true));
+
+    assertThat(List.of(4), matchesSnapshot(snapshot));
+    assertThat(folder.getRoot().list().length, is(1));
+  }
+
+  @Test
+  public void testRecordedSnapshotHasDefaultPermissions() throws IOException {
+    final Path reference = folder.newFile().toPath();
+    assumeTrue(Files.getFileStore(reference)
+        .supportsFileAttributeView(PosixFileAttributeView.class));
+
+    final Path snapshot = folder.getRoot().toPath().resolve("list.snapshot");
+    assertThat(List.of(1), matchesSnapshot(snapshot, true));
+    assertThat(Files.getPosixFilePermissions(snapshot),
+        is(Files.getPosixFilePermissions(reference)));
+  }
+}
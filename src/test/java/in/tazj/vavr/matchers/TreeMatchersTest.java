@@ -0,0 +1,170 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Tree;
+import io.vavr.collection.Tree.Node;
+
+import static in.tazj.vavr.matchers.TreeMatchers.allNodes;
+import static in.tazj.vavr.matchers.TreeMatchers.anyNode;
+import static in.tazj.vavr.matchers.TreeMatchers.hasDepthAtMost;
+import static in.tazj.vavr.matchers.TreeMatchers.hasLeafCount;
+import static in.tazj.vavr.matchers.TreeMatchers.hasPathMatching;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class TreeMatchersTest {
+  private static final int DEEP = 100_000;
+
+  //       1
+  //     / | \
+  //    2  3  4
+  //   / \     \
+  //  5   6     7
+  private final Node<Integer> tree = Tree.of(1,
+      Tree.of(2, Tree.of(5), Tree.of(6)),
+      Tree.of(3),
+      Tree.of(4, Tree.of(7)));
+
+  /**
+   * Builds a chain of nodes with the values 0 to {@code depth - 1} from the root, iteratively as
+   * the recursive factories of {@link Tree} would overflow the stack.
+   */
+  private static Node<Integer> chain(int depth) {
+    Node<Integer> node = new Node<>(depth - 1, List.empty());
+    for (int i = depth - 2; i >= 0; i--) {
+      node = new Node<>(i, List.of(node));
+    }
+    return node;
+  }
+
+  @Test
+  public void testAnyNode() {
+    assertThat(tree, anyNode(is(7)));
+    assertThat(tree, anyNode(is(1)));
+    assertThat(tree, not(anyNode(is(8))));
+    assertThat(Tree.<Integer>empty(), not(anyNode(is(1))));
+    assertThat(chain(DEEP), anyNode(is(DEEP - 1)));
+  }
+
+  @Test
+  public void testAnyNodeMismatch() {
+    final Description description = new StringDescription();
+    anyNode(is(8)).describeMismatch(tree, description);
+    assertThat(description.toString(),
+        is("Tree expected to contain a node matching 'is <8>' but none of its <7> nodes did"));
+  }
+
+  @Test
+  public void testAllNodes() {
+    assertThat(tree, allNodes(lessThan(8)));
+    assertThat(tree, not(allNodes(lessThan(7))));
+    assertThat(Tree.<Integer>empty(), allNodes(lessThan(0)));
+    assertThat(chain(DEEP), allNodes(lessThan(DEEP)));
+    assertThat(chain(DEEP), not(allNodes(lessThan(DEEP - 1))));
+  }
+
+  @Test
+  public void testAllNodesMismatch() {
+    final Description description = new StringDescription();
+    allNodes(not(is(6))).describeMismatch(tree, description);
+    assertThat(description.toString(), is("All nodes should match 'not is <6>' but node <6> at "
+        + "depth <3> did not, path was [<1> > <2> > <6>]"));
+  }
+
+  @Test
+  public void testAllNodesMismatchOnDeepTree() {
+    final Description description = new StringDescription();
+    allNodes(lessThan(DEEP - 1)).describeMismatch(chain(DEEP), description);
+    assertThat(description.toString(), is("All nodes should match 'a value less than <99999>' "
+        + "but node <99999> at depth <100000> did not, path was [<0> > <1> > <2> > <3> > <4> > "
+        + "<5> > <6> > <7> > <8> > <9> > <10> > <11> > <12> > <13> > <14> > ... 99,980 more ... "
+        + "> <99995> > <99996> > <99997> > <99998> > <99999>]"));
+  }
+
+  @Test
+  public void testHasDepthAtMost() {
+    assertThat(tree, hasDepthAtMost(3));
+    assertThat(tree, not(hasDepthAtMost(2)));
+    assertThat(Tree.of(1), hasDepthAtMost(1));
+    assertThat(Tree.empty(), hasDepthAtMost(0));
+    assertThat(chain(DEEP), hasDepthAtMost(DEEP));
+    assertThat(chain(DEEP), not(hasDepthAtMost(10)));
+
+    final Description description = new StringDescription();
+    hasDepthAtMost(2).describeMismatch(tree, description);
+    assertThat(description.toString(),
+        is("Tree should have a depth of at most <2> but has a deeper path [<1> > <2> > <5>]"));
+  }
+
+  @Test
+  public void testHasPathMatching() {
+    assertThat(tree, hasPathMatching(is(1), is(4), is(7)));
+    assertThat(tree, hasPathMatching(is(1), greaterThan(2)));
+    assertThat(tree, hasPathMatching(List.of(is(1), is(2), greaterThan(5))));
+    assertThat(tree, not(hasPathMatching(is(1), is(3), is(7))));
+    assertThat(tree, not(hasPathMatching(is(1), is(2), is(5), is(8))));
+    assertThat(Tree.<Integer>empty(), not(hasPathMatching(is(1))));
+    assertThat(chain(DEEP), hasPathMatching(is(0), is(1), is(2)));
+  }
+
+  @Test
+  public void testHasPathMatchingMismatch() {
+    final Description description = new StringDescription();
+    hasPathMatching(is(1), greaterThan(1), is(6), is(8)).describeMismatch(tree, description);
+    assertThat(description.toString(), is("Longest matching path from the root was "
+        + "[<1> > <2> > <6>] but none of the children of its last node matched 'is <8>'"));
+
+    final Description root = new StringDescription();
+    hasPathMatching(is(2)).describeMismatch(tree, root);
+    assertThat(root.toString(), is("Tree root should match 'is <2>' but was <1>"));
+  }
+
+  @Test
+  public void testHasPathMatchingMismatchTraversesOnce() {
+    final AtomicInteger roots = new AtomicInteger();
+    final Matcher<Integer> countingRoot = new BaseMatcher<Integer>() {
+      @Override
+      public boolean matches(Object item) {
+        roots.incrementAndGet();
+        return Integer.valueOf(1).equals(item);
+      }
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText("root");
+      }
+    };
+
+    final Description description = new StringDescription();
+    hasPathMatching(countingRoot, greaterThan(2), is(7), is(9))
+        .describeMismatch(tree, description);
+    assertThat(description.toString(), is("Longest matching path from the root was "
+        + "[<1> > <4> > <7>] but none of the children of its last node matched 'is <9>'"));
+    assertThat(roots.get(), is(1));
+  }
+
+  @Test
+  public void testHasLeafCount() {
+    assertThat(tree, hasLeafCount(4));
+    assertThat(tree, hasLeafCount(greaterThan(3)));
+    assertThat(tree, not(hasLeafCount(5)));
+    assertThat(Tree.empty(), hasLeafCount(0));
+    assertThat(chain(DEEP), hasLeafCount(1));
+
+    final Description description = new StringDescription();
+    hasLeafCount(5).describeMismatch(tree, description);
+    assertThat(description.toString(),
+        is("Tree leaf count does not match is <5>, leaf count was <4>"));
+  }
+}
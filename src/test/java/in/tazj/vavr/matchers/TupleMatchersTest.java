@@ -0,0 +1,164 @@
+package in.tazj.vavr.matchers;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.Tuple3;
+
+import static in.tazj.vavr.matchers.TupleMatchers.tuple;
+import static in.tazj.vavr.matchers.TupleMatchers.withCost;
+import static org.hamcrest.Matchers.anything;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+public class TupleMatchersTest {
+  @Test
+  public void testTuple() {
+    assertThat(Tuple.of(1), tuple(is(1)));
+    assertThat(Tuple.of(1, "a"), tuple(is(1), is("a")));
+    assertThat(Tuple.of(1, "a"), not(tuple(is(1), is("b"))));
+    assertThat(Tuple.of(1, "a", 3.0), tuple(lessThan(2), startsWith("a"), anything()));
+    assertThat(Tuple.of(1, 2, 3, 4, 5, 6, 7, 8),
+        tuple(is(1), is(2), is(3), is(4), is(5), is(6), is(7), is(8)));
+    assertThat(Tuple.of(1, 2, 3, 4, 5, 6, 7, 8),
+        not(tuple(is(1), is(2), is(3), is(4), is(5), is(6), is(7), is(9))));
+  }
+
+  @Test
+  public void testDescription() {
+    final Description description = new StringDescription();
+    tuple(is(1), is("a")).describeTo(description);
+    assertThat(description.toString(), is("tuple (is <1>, is \"a\")"));
+  }
+
+  @Test
+  public void testMismatchDescriptionNamesComponents() {
+    final Description description = new StringDescription();
+    tuple(is(1), is("a"), lessThan(3)).describeMismatch(Tuple.of(1, "b", 4), description);
+    assertThat(description.toString(),
+        is("component _2 was \"b\", component _3 <4> was greater than <3>"));
+  }
+
+  @Test
+  public void testCostHintOrder() {
+    final StringBuilder order = new StringBuilder();
+    final Matcher<Tuple3<Integer, Integer, Integer>> matcher = tuple(
+        withCost(recording("a", order), 300),
+        withCost(recording("b", order), 100),
+        withCost(recording("c", order), 200));
+
+    assertThat(Tuple.of(1, 2, 3), matcher);
+    assertThat(order.toString(), is("bca"));
+  }
+
+  @Test
+  public void testShortCircuitsAfterCheapFailure() {
+    final AtomicInteger expensive = new AtomicInteger();
+    final Matcher<Tuple2<Integer, Integer>> matcher = tuple(
+        withCost(counting(expensive), 1_000_000), withCost(is(1), 1));
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(Tuple.of(0, 2), not(matcher));
+    }
+    assertThat(expensive.get(), is(0));
+  }
+
+  @Test
+  public void testMeasuredOrder() {
+    final AtomicInteger slow = new AtomicInteger();
+    final Matcher<Tuple2<Integer, Integer>> matcher = tuple(sleeping(slow), is(1));
+
+    // All components are evaluated while measuring, afterwards the cheap one is evaluated first.
+    for (int i = 0; i < 16; i++) {
+      assertThat(Tuple.of(0, 2), not(matcher));
+    }
+    assertThat(slow.get(), is(16));
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(Tuple.of(0, 2), not(matcher));
+    }
+    assertThat(slow.get(), is(16));
+  }
+
+  @Test
+  public void testCompile() {
+    final Matcher<Tuple2<Integer, String>> matcher = tuple(lessThan(2), is("a"));
+
+    assertThat(MatcherPredicates.compile(matcher).test(Tuple.of(1, "a")), is(true));
+    assertThat(MatcherPredicates.compile(matcher).test(Tuple.of(1, "b")), is(false));
+    assertThat(MatcherPredicates.compile(matcher).test(null), is(false));
+  }
+
+  @Test
+  public void testCompileDuringCalibration() {
+    final AtomicInteger slow = new AtomicInteger();
+    final Matcher<Tuple2<Integer, Integer>> matcher =
+        tuple(sleeping(slow), withCost(is(1), 300_000));
+
+    // Two measured runs of at least 1ms each average to more than the hint of 0.3ms.
+    assertThat(Tuple.of(0, 2), not(matcher));
+    assertThat(Tuple.of(0, 2), not(matcher));
+    assertThat(MatcherPredicates.compile(matcher).test(Tuple.of(0, 2)), is(false));
+    assertThat(slow.get(), is(2));
+  }
+
+  private static Matcher<Integer> recording(String name, StringBuilder order) {
+    return new BaseMatcher<Integer>() {
+      @Override
+      public boolean matches(Object item) {
+        order.append(name);
+        return true;
+      }
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText(name);
+      }
+    };
+  }
+
+  private static Matcher<Integer> counting(AtomicInteger count) {
+    return new BaseMatcher<Integer>() {
+      @Override
+      public boolean matches(Object item) {
+        count.incrementAndGet();
+        return true;
+      }
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText("anything");
+      }
+    };
+  }
+
+  private static Matcher<Integer> sleeping(AtomicInteger count) {
+    return new BaseMatcher<Integer>() {
+      @Override
+      public boolean matches(Object item) {
+        count.incrementAndGet();
+        try {
+          Thread.sleep(1);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return true;
+      }
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText("slow");
+      }
+    };
+  }
+}